@@ -0,0 +1,51 @@
+package my.project.university.benchmarks;
+
+import my.project.university.models.dto.ScheduleDto;
+import my.project.university.validation.DateTimeValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateTimeValidatorBenchmark {
+    private final DateTimeValidator validator = new DateTimeValidator();
+
+    private ScheduleDto future;
+    private ScheduleDto today;
+    private ScheduleDto past;
+
+    @Setup
+    public void setUp() {
+        future = dto(LocalDate.now().plusDays(1).toString(), "10:00");
+        today = dto(LocalDate.now().toString(), "23:59:59");
+        past = dto(LocalDate.now().minusDays(1).toString(), "10:00");
+    }
+
+    private ScheduleDto dto(String lessonDate, String lessonTime) {
+        ScheduleDto dto = new ScheduleDto();
+        dto.setLessonDate(lessonDate);
+        dto.setLessonTime(lessonTime);
+        return dto;
+    }
+
+    @Benchmark
+    public boolean futureDate() {
+        return validator.isValid(future, null);
+    }
+
+    @Benchmark
+    public boolean today() {
+        return validator.isValid(today, null);
+    }
+
+    @Benchmark
+    public boolean pastDate() {
+        return validator.isValid(past, null);
+    }
+}
@@ -0,0 +1,62 @@
+package my.project.university.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import my.project.university.models.dto.ScheduleDto;
+import my.project.university.serializers.CustomMappingConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonMapperBenchmark {
+    private static final int TOTAL_ELEMENTS = 100_000;
+
+    @Param({"50", "1000"})
+    private int pageSize;
+
+    private ObjectMapper indented;
+    private ObjectMapper compact;
+    private Page<ScheduleDto> page;
+
+    @Setup
+    public void setUp() {
+        CustomMappingConfiguration configuration = new CustomMappingConfiguration();
+
+        indented = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        indented.registerModule(configuration.getSimpleModule());
+        indented.setDateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:S z"));
+
+        compact = configuration.getCustomMapper();
+
+        List<ScheduleDto> content = new ArrayList<>(pageSize);
+        for (int i = 1; i <= pageSize; i++) {
+            content.add(new ScheduleDto(i, "2030-01-01", "10:00", i, 1, 1, 1,
+                    "group_" + i, i, "teacher_" + i, "teacher_" + i + "_lastName", "course_" + i));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("id").ascending()), TOTAL_ELEMENTS);
+    }
+
+    @Benchmark
+    public byte[] indented() throws JsonProcessingException {
+        return indented.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] compact() throws JsonProcessingException {
+        return compact.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,77 @@
+package my.project.university.benchmarks;
+
+import my.project.university.mappers.GroupMapper;
+import my.project.university.mappers.GroupMapperImpl;
+import my.project.university.mappers.ScheduleMapper;
+import my.project.university.mappers.ScheduleMapperImpl;
+import my.project.university.mkb.mapping.*;
+import my.project.university.models.Course;
+import my.project.university.models.Group;
+import my.project.university.models.LectureHall;
+import my.project.university.models.Schedule;
+import my.project.university.models.Teacher;
+import my.project.university.models.TrainingProgram;
+import my.project.university.models.dto.GroupDto;
+import my.project.university.models.dto.ScheduleDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+    private final ScheduleMapper scheduleMapper = new ScheduleMapperImpl();
+    private final GroupMapper groupMapper = new GroupMapperImpl();
+    private final PersonMapper personMapper = new PersonMapperImpl();
+
+    private Schedule schedule;
+    private ScheduleDto scheduleDto;
+    private Group group;
+    private GroupDto groupDto;
+    private PersonDto personDto;
+
+    @Setup
+    public void setUp() {
+        TrainingProgram trainingProgram = new TrainingProgram(1, "trainingProgram_1");
+        group = new Group(1, "group_1", trainingProgram);
+        schedule = new Schedule(1, LocalDate.parse("2030-01-01"), LocalTime.parse("10:00"),
+                new LectureHall(1, 1, 1, 1), group, new Teacher(1, "teacher_1", "teacher_1_lastName"),
+                new Course(1, "course_1", 1));
+        scheduleDto = scheduleMapper.toDto(schedule);
+        groupDto = groupMapper.toDto(group);
+        personDto = new PersonDto(List.of(new PhoneDto("1"), new PhoneDto("2"), new PhoneDto("3")),
+                "inn", "additional", "id");
+    }
+
+    @Benchmark
+    public ScheduleDto scheduleToDto() {
+        return scheduleMapper.toDto(schedule);
+    }
+
+    @Benchmark
+    public Schedule scheduleFromDto() {
+        return scheduleMapper.fromDto(scheduleDto);
+    }
+
+    @Benchmark
+    public GroupDto groupToDto() {
+        return groupMapper.toDto(group);
+    }
+
+    @Benchmark
+    public Group groupFromDto() {
+        return groupMapper.fromDto(groupDto);
+    }
+
+    @Benchmark
+    public Person personDefaultMethod() {
+        return personMapper.defaultMethod(personDto);
+    }
+}
@@ -0,0 +1,72 @@
+package my.project.university.benchmarks;
+
+import my.project.university.Application;
+import my.project.university.models.Schedule;
+import my.project.university.models.dto.ScheduleFilter;
+import my.project.university.repository.ScheduleRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleCriteriaBenchmark {
+    private static final Map<String, ScheduleFilter> FILTERS = Map.of(
+            "none", filter(null, null, null, null),
+            "group", filter("group_1", null, null, null),
+            "teacherAndDates", filter(null, 1, "2020-01-01", "2020-12-31"),
+            "all", filter("group_1", 1, "2020-01-01", "2020-12-31"));
+    private static final Pageable PAGE = PageRequest.of(0, 50, Sort.by("id"));
+
+    @Param({"none", "group", "teacherAndDates", "all"})
+    private String shape;
+
+    private ConfigurableApplicationContext context;
+    private ScheduleRepository scheduleRepository;
+    private ScheduleFilter filters;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--logging.level.root=warn",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+                        "--logging.file.path=./target/benchmarks/logs");
+        scheduleRepository = context.getBean(ScheduleRepository.class);
+        filters = FILTERS.get(shape);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Schedule> getScheduleByCriteria() {
+        return scheduleRepository.getScheduleByCriteria(filters, PAGE);
+    }
+
+    private static ScheduleFilter filter(String groupDescription, Integer teacherId, String from, String to) {
+        ScheduleFilter filter = new ScheduleFilter();
+        filter.setGroupDescription(groupDescription == null ? List.of() : List.of(groupDescription));
+        filter.setTeacherId(teacherId == null ? List.of() : List.of(teacherId));
+        filter.setFrom(from == null ? null : LocalDate.parse(from));
+        filter.setTo(to == null ? null : LocalDate.parse(to));
+        return filter;
+    }
+}
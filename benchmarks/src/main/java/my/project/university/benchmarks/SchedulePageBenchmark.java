@@ -0,0 +1,90 @@
+package my.project.university.benchmarks;
+
+import my.project.university.Application;
+import my.project.university.mappers.ScheduleMapper;
+import my.project.university.models.Course;
+import my.project.university.models.Group;
+import my.project.university.models.LectureHall;
+import my.project.university.models.Schedule;
+import my.project.university.models.Teacher;
+import my.project.university.models.dto.ScheduleDto;
+import my.project.university.repository.ScheduleRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Run with -prof gc: gc.alloc.rate.norm is the allocation per page
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchedulePageBenchmark {
+    private static final int SCHEDULES = 5_000;
+    private static final Pageable PAGE = PageRequest.of(10, 50, Sort.by("id"));
+
+    private ConfigurableApplicationContext context;
+    private ScheduleRepository scheduleRepository;
+    private ScheduleMapper mapper;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--logging.level.root=warn",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+                        "--logging.file.path=./target/benchmarks/logs");
+        scheduleRepository = context.getBean(ScheduleRepository.class);
+        mapper = context.getBean(ScheduleMapper.class);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Schedule> schedules = new ArrayList<>(SCHEDULES);
+        LocalDate firstDay = LocalDate.of(2030, 1, 1);
+        for (int i = 0; i < SCHEDULES; i++) {
+            schedules.add(new Schedule(null, firstDay.plusDays(i), LocalTime.of(10, 0),
+                    new LectureHall(1, null, null, null), new Group(1), new Teacher(1, null, null), new Course(1, null, null)));
+        }
+        scheduleRepository.insertAll(schedules);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ScheduleDto> entitiesInReadWriteTransaction() {
+        return readWrite.execute(status -> scheduleRepository.findAll(PAGE).map(mapper::toDto));
+    }
+
+    @Benchmark
+    public Page<ScheduleDto> entitiesInReadOnlyTransaction() {
+        return readOnly.execute(status -> scheduleRepository.findAll(PAGE).map(mapper::toDto));
+    }
+
+    @Benchmark
+    public Page<ScheduleDto> projectionInReadOnlyTransaction() {
+        return readOnly.execute(status -> scheduleRepository.findAllDto(PAGE));
+    }
+}
@@ -0,0 +1,85 @@
+package my.project.university.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import my.project.university.models.dto.ScheduleDto;
+import my.project.university.serializers.CustomMappingConfiguration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+    private static final int PAGE_SIZE = 50;
+    private static final int TOTAL_ELEMENTS = 100_000;
+
+    private ObjectMapper json;
+    private ObjectMapper smile;
+    private ObjectMapper cbor;
+    private Page<ScheduleDto> page;
+
+    public static void main(String[] args) throws IOException {
+        WireFormatBenchmark benchmark = new WireFormatBenchmark();
+        benchmark.setUp();
+        System.out.printf("bytes per %d schedules: json %d, json+gzip %d, smile %d, cbor %d%n", PAGE_SIZE,
+                benchmark.json().length, benchmark.jsonGzip().length, benchmark.smile().length, benchmark.cbor().length);
+    }
+
+    @Setup
+    public void setUp() {
+        CustomMappingConfiguration configuration = new CustomMappingConfiguration();
+        json = configuration.getCustomMapper();
+        smile = new ObjectMapper(new SmileFactory().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES));
+        smile.registerModule(configuration.getSimpleModule());
+        cbor = new ObjectMapper(new CBORFactory());
+        cbor.registerModule(configuration.getSimpleModule());
+
+        List<ScheduleDto> content = new ArrayList<>(PAGE_SIZE);
+        for (int i = 1; i <= PAGE_SIZE; i++) {
+            int teacher = i % 7 + 1;
+            content.add(new ScheduleDto(i, "2030-01-0" + (i % 5 + 1), "1" + i % 8 + ":00", i % 10 + 1, 1, i % 3 + 1, i % 10 + 1,
+                    "group_" + i % 4, teacher, "teacher_" + teacher, "teacher_" + teacher + "_lastName", "course_" + i % 6));
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE, Sort.by("id").ascending()), TOTAL_ELEMENTS);
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return json.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            json.writeValue(gzip, page);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] smile() throws IOException {
+        return smile.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cbor.writeValueAsBytes(page);
+    }
+}
@@ -1,12 +1,18 @@
 package my.project.university;
 
+import my.project.university.property.AuditProperties;
+import my.project.university.property.LongRequestProperties;
 import my.project.university.property.PropertyClass;
+import my.project.university.property.ReferenceCacheProperties;
+import my.project.university.property.ScheduleFilterProperties;
+import my.project.university.property.TimetableGenerationProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(PropertyClass.class)
+@EnableConfigurationProperties({PropertyClass.class, ReferenceCacheProperties.class, AuditProperties.class,
+        TimetableGenerationProperties.class, ScheduleFilterProperties.class, LongRequestProperties.class})
 public class Application {
 
     public static void main(String[] args) {
@@ -0,0 +1,23 @@
+package my.project.university.async;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class LongRequestConfiguration implements WebMvcConfigurer {
+    private final ObjectProvider<LongRequestExecutor> executor;
+
+    @Autowired
+    public LongRequestConfiguration(ObjectProvider<LongRequestExecutor> executor) {
+        this.executor = executor;
+    }
+
+    // streaming responses are written by the MVC async executor, so exports share the long request pool
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        executor.ifAvailable(available -> configurer.setTaskExecutor(available.getTaskExecutor()));
+    }
+}
@@ -0,0 +1,101 @@
+package my.project.university.async;
+
+import my.project.university.property.LongRequestProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs long schedule queries, imports and exports off the servlet container threads. The pool and its queue
+ * are bounded, so a burst of slow requests is turned away instead of taking every worker short requests need.
+ * Tasks run with the request attributes of the thread that submitted them, so auditing still sees the caller.
+ */
+@Component
+public class LongRequestExecutor {
+    public static final String REJECTED_MESSAGE = "Too many long running requests, try again later";
+    private static final String THREAD_PREFIX = "long-request-";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ThreadPoolExecutor pool;
+    private final AsyncTaskExecutor taskExecutor;
+    private final int queueCapacity;
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    @Autowired
+    public LongRequestExecutor(LongRequestProperties properties) {
+        AtomicInteger threads = new AtomicInteger();
+        this.queueCapacity = properties.getQueueCapacity();
+        this.pool = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_PREFIX + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, (runnable, executor) -> {
+                    rejected.incrementAndGet();
+                    throw new RejectedExecutionException(REJECTED_MESSAGE);
+                });
+        TaskExecutorAdapter adapter = new TaskExecutorAdapter(pool);
+        adapter.setTaskDecorator(LongRequestExecutor::withRequestContext);
+        this.taskExecutor = adapter;
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, runnable -> pool.execute(withRequestContext(runnable)));
+    }
+
+    private static Runnable withRequestContext(Runnable task) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return () -> {
+            RequestContextHolder.setRequestAttributes(attributes);
+            try {
+                task.run();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
+    }
+
+    public AsyncTaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        pool.shutdown();
+        pool.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public int getQueued() {
+        return pool.getQueue().size();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getActive() {
+        return pool.getActiveCount();
+    }
+
+    public long getCompleted() {
+        return pool.getCompletedTaskCount();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
@@ -0,0 +1,47 @@
+package my.project.university.async;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+@Component
+public class LongRequestMetrics implements MeterBinder {
+    public static final String QUEUED = "university.long.requests.queue.size";
+    public static final String CAPACITY = "university.long.requests.queue.capacity";
+    public static final String ACTIVE = "university.long.requests.active";
+    public static final String REQUESTS = "university.long.requests";
+
+    private final LongRequestExecutor executor;
+
+    @Autowired
+    public LongRequestMetrics(LongRequestExecutor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(QUEUED, executor, LongRequestExecutor::getQueued)
+                .description("Long requests waiting for a free executor thread")
+                .register(registry);
+        Gauge.builder(CAPACITY, executor, LongRequestExecutor::getQueueCapacity)
+                .description("Long requests the queue holds before new ones are rejected")
+                .register(registry);
+        Gauge.builder(ACTIVE, executor, LongRequestExecutor::getActive)
+                .description("Long requests running on executor threads")
+                .register(registry);
+
+        count(registry, "completed", LongRequestExecutor::getCompleted);
+        count(registry, "rejected", LongRequestExecutor::getRejected);
+    }
+
+    private void count(MeterRegistry registry, String outcome, ToDoubleFunction<LongRequestExecutor> count) {
+        FunctionCounter.builder(REQUESTS, executor, count)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -0,0 +1,68 @@
+package my.project.university.audit;
+
+import my.project.university.property.AuditProperties;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+@Aspect
+@Component
+public class AuditAspect {
+    public static final String ANONYMOUS_ACTOR = "anonymous";
+    public static final String SYSTEM_ACTOR = "system";
+
+    private static final int MAX_LISTED_ELEMENTS = 20;
+    private static final int MAX_DETAILS_LENGTH = 2000;
+
+    private final ApplicationEventPublisher publisher;
+    private final AuditProperties properties;
+
+    @Autowired
+    public AuditAspect(ApplicationEventPublisher publisher, AuditProperties properties) {
+        this.publisher = publisher;
+        this.properties = properties;
+    }
+
+    @AfterReturning("@annotation(audited)")
+    public void audit(JoinPoint joinPoint, Audited audited) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        publisher.publishEvent(new AuditEvent(Instant.now(), actor(), audited.value(),
+                joinPoint.getSignature().getName(), details(joinPoint.getArgs())));
+    }
+
+    private String actor() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return SYSTEM_ACTOR;
+        }
+        String user = ((ServletRequestAttributes) attributes).getRequest().getRemoteUser();
+        return user == null ? ANONYMOUS_ACTOR : user;
+    }
+
+    private String details(Object[] arguments) {
+        String details = Arrays.stream(arguments)
+                .map(this::describe)
+                .collect(Collectors.joining(", "));
+        return details.length() > MAX_DETAILS_LENGTH ? details.substring(0, MAX_DETAILS_LENGTH) : details;
+    }
+
+    private String describe(Object argument) {
+        if (argument instanceof Collection && ((Collection<?>) argument).size() > MAX_LISTED_ELEMENTS) {
+            return String.format("[%d items]", ((Collection<?>) argument).size());
+        }
+        return String.valueOf(argument);
+    }
+}
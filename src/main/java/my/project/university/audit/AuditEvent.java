@@ -0,0 +1,14 @@
+package my.project.university.audit;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class AuditEvent {
+    Instant occurredAt;
+    String actor;
+    String entity;
+    String action;
+    String details;
+}
@@ -0,0 +1,44 @@
+package my.project.university.audit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+@Component
+public class AuditLogMetrics implements MeterBinder {
+    public static final String BUFFERED = "university.audit.buffer.size";
+    public static final String CAPACITY = "university.audit.buffer.capacity";
+    public static final String EVENTS = "university.audit.events";
+
+    private final AuditLogWriter writer;
+
+    @Autowired
+    public AuditLogMetrics(AuditLogWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(BUFFERED, writer, AuditLogWriter::getBuffered)
+                .description("Audit events waiting for the background writer")
+                .register(registry);
+        Gauge.builder(CAPACITY, writer, AuditLogWriter::getCapacity)
+                .description("Audit events the buffer holds before new ones are dropped")
+                .register(registry);
+
+        count(registry, "written", AuditLogWriter::getWritten);
+        count(registry, "dropped", AuditLogWriter::getDropped);
+        count(registry, "failed", AuditLogWriter::getFailed);
+    }
+
+    private void count(MeterRegistry registry, String outcome, ToDoubleFunction<AuditLogWriter> count) {
+        FunctionCounter.builder(EVENTS, writer, count)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
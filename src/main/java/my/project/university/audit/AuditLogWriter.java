@@ -0,0 +1,97 @@
+package my.project.university.audit;
+
+import my.project.university.property.AuditProperties;
+import my.project.university.repository.AuditLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class AuditLogWriter {
+    private static final Logger LOG = LoggerFactory.getLogger(AuditLogWriter.class);
+    private static final String WRITER_THREAD = "audit-log-writer";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final AuditLogRepository repository;
+    private final RingBuffer<AuditEvent> buffer;
+    private final int batchSize;
+    private final ScheduledExecutorService executor;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @Autowired
+    public AuditLogWriter(AuditLogRepository repository, AuditProperties properties) {
+        this.repository = repository;
+        this.buffer = new RingBuffer<>(properties.getBufferCapacity());
+        this.batchSize = properties.getBatchSize();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WRITER_THREAD);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long interval = properties.getFlushInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void enqueue(AuditEvent event) {
+        if (!buffer.offer(event)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public synchronized void flush() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                repository.insertAll(batch);
+                written.addAndGet(batch.size());
+            } catch (RuntimeException e) {
+                failed.addAndGet(batch.size());
+                LOG.warn(String.format("Lost %d audit events", batch.size()), e);
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        flush();
+    }
+
+    public int getBuffered() {
+        return buffer.size();
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    public long getWritten() {
+        return written.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+}
@@ -0,0 +1,55 @@
+package my.project.university.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import my.project.university.property.ReferenceCacheProperties;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class ReferenceCacheConfiguration {
+    public static final String GROUP_REGION = "groups";
+    public static final String COURSE_REGION = "courses";
+    public static final String TRAININGPROGRAM_REGION = "trainingPrograms";
+    public static final String LECTUREHALL_REGION = "lectureHalls";
+    public static final String TEACHER_REGION = "teachers";
+    public static final List<String> ENTITY_REGIONS =
+            List.of(GROUP_REGION, COURSE_REGION, TRAININGPROGRAM_REGION, LECTUREHALL_REGION, TEACHER_REGION);
+
+    private static final String CACHE_MANAGER_URI = "university-reference-cache-%s";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager referenceCacheManager(ReferenceCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create(String.format(CACHE_MANAGER_URI, UUID.randomUUID())), getClass().getClassLoader());
+
+        ENTITY_REGIONS.forEach(region -> cacheManager.createCache(region, evicting(properties)));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, evicting(properties));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceCacheCustomizer(CacheManager referenceCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, referenceCacheManager);
+    }
+
+    private CaffeineConfiguration<Object, Object> evicting(ReferenceCacheProperties properties) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(properties.getMaximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(properties.getTimeToLive().toNanos()));
+        // read by ReferenceCacheMetrics, independent of Hibernate statistics
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,69 @@
+package my.project.university.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Hit ratios read from the JCache statistics of the reference cache regions, so they are available
+ * whether or not Hibernate statistics are enabled.
+ */
+@Component
+public class ReferenceCacheMetrics implements MeterBinder {
+    public static final String HIT_RATIO = "university.cache.hit.ratio";
+    public static final String QUERY_REGION = "query";
+
+    private static final String STATISTICS_OBJECT_NAME = "javax.cache:type=CacheStatistics,CacheManager=%s,Cache=%s";
+
+    private final CacheManager referenceCacheManager;
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    @Autowired
+    public ReferenceCacheMetrics(CacheManager referenceCacheManager) {
+        this.referenceCacheManager = referenceCacheManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ReferenceCacheConfiguration.ENTITY_REGIONS.forEach(region -> register(registry, region, region,
+                "Share of second level cache lookups served without a database query"));
+        register(registry, QUERY_REGION, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                "Share of natural key lookups served from the query cache");
+    }
+
+    private void register(MeterRegistry registry, String tag, String cache, String description) {
+        ObjectName statistics = statistics(cache);
+        Gauge.builder(HIT_RATIO, this, metrics -> metrics.hitRatio(statistics))
+                .tag("region", tag)
+                .description(description)
+                .register(registry);
+    }
+
+    private ObjectName statistics(String cache) {
+        try {
+            return new ObjectName(String.format(STATISTICS_OBJECT_NAME, referenceCacheManager.getURI(), cache));
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double hitRatio(ObjectName statistics) {
+        try {
+            long hits = (Long) server.getAttribute(statistics, "CacheHits");
+            long misses = (Long) server.getAttribute(statistics, "CacheMisses");
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        } catch (JMException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import my.project.university.models.dto.CourseDto;
 import my.project.university.models.dto.TeacherDto;
 import my.project.university.models.dto.TrainingProgramDto;
+import my.project.university.models.dto.Versioned;
 import my.project.university.services.interfaces.CourseService;
 import my.project.university.validation.OnCreate;
 import my.project.university.validation.OnUpdate;
@@ -13,14 +14,20 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @Validated
@@ -29,13 +36,18 @@ import javax.validation.constraints.Positive;
 public class CoursesRestController {
     private static final String ID_CONSTRAINT = "Id should be positive";
     private static final String COURSE_NAME_CONSTRAINT = "Course name should not be blank";
+    private static final String TEACHER_IDS_CONSTRAINT = "Teacher ids should not be empty";
 
     private final CourseService courseService;
 
     @GetMapping("/{id}")
-    public HttpEntity<CourseDto> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id) {
+    public HttpEntity<CourseDto> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id, WebRequest request) {
+        Optional<String> version = courseService.findVersion(id);
+        if (VersionedResponses.isNotModified(version, request)) {
+            return null;
+        }
         CourseDto courseDto = courseService.findById(id);
-        return ResponseEntity.ok(courseDto);
+        return VersionedResponses.ok(version, courseDto);
     }
 
     @GetMapping("/name/{name}")
@@ -59,9 +71,10 @@ public class CoursesRestController {
 
     @PutMapping
     @Validated(OnUpdate.class)
-    public HttpEntity<CourseDto> update(@RequestBody @Valid CourseDto dto) {
-        CourseDto updated = courseService.saveOrUpdate(dto);
-        return ResponseEntity.ok(updated);
+    public HttpEntity<CourseDto> update(@RequestBody @Valid CourseDto dto,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Versioned<CourseDto> updated = courseService.update(dto, VersionedResponses.expectedVersion(ifMatch));
+        return VersionedResponses.ok(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -86,6 +99,16 @@ public class CoursesRestController {
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
 
+    @PostMapping("/{courseId}/teachers")
+    public HttpEntity<Void> addTeachers(@PathVariable("courseId") @Positive(message = ID_CONSTRAINT) Integer courseId,
+                                        @RequestBody @NotEmpty(message = TEACHER_IDS_CONSTRAINT)
+                                                List<@NotNull(message = ID_CONSTRAINT) @Positive(message = ID_CONSTRAINT) Integer> teacherIds) {
+
+        courseService.addTeachers(courseId, teacherIds);
+
+        return new ResponseEntity<>(HttpStatus.CREATED);
+    }
+
     @DeleteMapping("/{courseId}/teachers/{teacherId}")
     public HttpEntity<Void> deleteTeacher(@PathVariable("courseId") @Positive(message = ID_CONSTRAINT) Integer courseId,
                                           @PathVariable("teacherId") @Positive(message = ID_CONSTRAINT) Integer teacherId) {
@@ -3,6 +3,8 @@ package my.project.university.controllers.api;
 import lombok.RequiredArgsConstructor;
 import my.project.university.models.dto.GroupDto;
 import my.project.university.models.dto.StudentDto;
+import my.project.university.models.dto.StudentTransferReport;
+import my.project.university.models.dto.Versioned;
 import my.project.university.services.interfaces.GroupService;
 import my.project.university.validation.OnCreate;
 import my.project.university.validation.OnUpdate;
@@ -11,14 +13,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.Positive;
+import javax.validation.constraints.*;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @Validated
@@ -28,13 +33,19 @@ public class GroupsRestController {
     private static final String ID_CONSTRAINT = "Id should be positive";
     private static final String GROUP_DESCRIPTION_CONSTRAINT = "Course name should not be blank";
     private static final String STUDENT_ID_CONSTRAINT = "Student id should be positive";
+    private static final int MAX_STUDENT_IDS = 10000;
+    private static final String STUDENT_IDS_CONSTRAINT = "Student ids should contain from 1 to " + MAX_STUDENT_IDS + " ids";
 
     private final GroupService groupService;
 
     @GetMapping("/{id}")
-    public HttpEntity<GroupDto> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id) {
+    public HttpEntity<GroupDto> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id, WebRequest request) {
+        Optional<String> version = groupService.findVersion(id);
+        if (VersionedResponses.isNotModified(version, request)) {
+            return null;
+        }
         GroupDto groupDto = groupService.findById(id);
-        return ResponseEntity.ok(groupDto);
+        return VersionedResponses.ok(version, groupDto);
     }
 
     @GetMapping("description/{description}")
@@ -58,9 +69,10 @@ public class GroupsRestController {
 
     @PutMapping
     @Validated(OnUpdate.class)
-    public  HttpEntity<GroupDto> update(@RequestBody @Valid GroupDto dto) {
-        GroupDto updated = groupService.saveOrUpdate(dto);
-        return ResponseEntity.ok(updated);
+    public HttpEntity<GroupDto> update(@RequestBody @Valid GroupDto dto,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Versioned<GroupDto> updated = groupService.update(dto, VersionedResponses.expectedVersion(ifMatch));
+        return VersionedResponses.ok(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -82,4 +94,13 @@ public class GroupsRestController {
         groupService.addStudent(groupId, studentId);
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
+
+    @PostMapping("/{groupId}/students")
+    public HttpEntity<StudentTransferReport> addStudents(@PathVariable("groupId") @Positive(message = ID_CONSTRAINT) Integer groupId,
+                                                         @RequestBody @NotEmpty(message = STUDENT_IDS_CONSTRAINT)
+                                                         @Size(max = MAX_STUDENT_IDS, message = STUDENT_IDS_CONSTRAINT)
+                                                                 List<@NotNull(message = STUDENT_ID_CONSTRAINT) @Positive(message = STUDENT_ID_CONSTRAINT) Integer> studentIds) {
+        StudentTransferReport report = groupService.addStudents(groupId, studentIds);
+        return ResponseEntity.ok(report);
+    }
 }
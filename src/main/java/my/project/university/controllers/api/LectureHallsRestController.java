@@ -2,6 +2,7 @@ package my.project.university.controllers.api;
 
 import lombok.RequiredArgsConstructor;
 import my.project.university.models.LectureHall;
+import my.project.university.models.dto.Versioned;
 import my.project.university.services.interfaces.LectureHallService;
 import my.project.university.validation.OnCreate;
 import my.project.university.validation.OnUpdate;
@@ -9,14 +10,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/lecture-halls")
@@ -24,13 +32,18 @@ import javax.validation.constraints.Positive;
 @RequiredArgsConstructor
 public class LectureHallsRestController {
     private static final String ID_CONSTRAINT = "Id should be positive";
+    private static final String HOUSING_CONSTRAINT = "Housing should be positive";
 
     private final LectureHallService lectureHallService;
 
     @GetMapping("/{id}")
-    public HttpEntity<LectureHall> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id) {
+    public HttpEntity<LectureHall> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id, WebRequest request) {
+        Optional<String> version = lectureHallService.findVersion(id);
+        if (VersionedResponses.isNotModified(version, request)) {
+            return null;
+        }
         LectureHall lectureHall = lectureHallService.findById(id);
-        return ResponseEntity.ok(lectureHall);
+        return VersionedResponses.ok(version, lectureHall);
     }
 
     @GetMapping
@@ -39,6 +52,14 @@ public class LectureHallsRestController {
         return ResponseEntity.ok(page);
     }
 
+    @GetMapping("/free")
+    public HttpEntity<List<LectureHall>> findFree(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime time,
+                                                  @RequestParam(required = false) @Positive(message = HOUSING_CONSTRAINT) Integer housing) {
+        List<LectureHall> lectureHalls = lectureHallService.findFree(date, time, housing);
+        return ResponseEntity.ok(lectureHalls);
+    }
+
     @PostMapping
     @Validated(OnCreate.class)
     public HttpEntity<LectureHall> add(@RequestBody @Valid LectureHall lectureHall) {
@@ -48,9 +69,10 @@ public class LectureHallsRestController {
 
     @PutMapping
     @Validated(OnUpdate.class)
-    public HttpEntity<LectureHall> update(@RequestBody @Valid LectureHall lectureHall) {
-        LectureHall updated = lectureHallService.saveOrUpdate(lectureHall);
-        return ResponseEntity.ok(updated);
+    public HttpEntity<LectureHall> update(@RequestBody @Valid LectureHall lectureHall,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Versioned<LectureHall> updated = lectureHallService.update(lectureHall, VersionedResponses.expectedVersion(ifMatch));
+        return VersionedResponses.ok(updated);
     }
 
     @DeleteMapping("/{id}")
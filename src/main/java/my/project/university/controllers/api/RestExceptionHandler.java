@@ -1,28 +1,44 @@
 package my.project.university.controllers.api;
 
 
+import my.project.university.async.LongRequestExecutor;
 import my.project.university.exceptions.CustomErrorBody;
 import my.project.university.exceptions.NotFoundEntityException;
+import my.project.university.exceptions.ScheduleConflictException;
+import my.project.university.exceptions.VersionMismatchException;
+import my.project.university.metrics.ExceptionCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.ObjectUtils;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.ConstraintViolationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
 
 @RestControllerAdvice(basePackages = "my.project.university.controllers.api")
 public class RestExceptionHandler {
     private static final Logger LOG = LoggerFactory.getLogger(RestExceptionHandler.class);
+    private static final String HANDLER = "api";
+    private static final String INVALID_VALUE = "%s has invalid value '%s'";
 
     @ExceptionHandler(NotFoundEntityException.class)
     public ResponseEntity<CustomErrorBody> handleEntityNotFoundException(NotFoundEntityException e,
                                               WebRequest request) {
         LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
 
         CustomErrorBody error = new CustomErrorBody(e.getMessage(), request);
 
@@ -33,17 +49,31 @@ public class RestExceptionHandler {
     public ResponseEntity<CustomErrorBody> handleIllegalArgumentException(IllegalArgumentException e,
                                                WebRequest request) {
         LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
 
         CustomErrorBody error = new CustomErrorBody(e.getMessage(), request);
 
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidDataAccessApiUsageException.class)
+    public ResponseEntity<CustomErrorBody> handleInvalidDataAccessApiUsageException(InvalidDataAccessApiUsageException e,
+                                                                                   WebRequest request) {
+        LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
+
+        // repositories report bad arguments wrapped by the persistence exception translation
+        CustomErrorBody error = new CustomErrorBody(e.getMostSpecificCause().getMessage(), request);
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<CustomErrorBody> handleCBindException(MethodArgumentNotValidException e,
                                      WebRequest request) {
 
         LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
 
         StringBuilder builder = new StringBuilder();
         e.getBindingResult().getAllErrors().forEach(o -> builder.append(o.getDefaultMessage()).append(","));
@@ -54,19 +84,74 @@ public class RestExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<CustomErrorBody> handleBindException(BindException e, WebRequest request) {
+        LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
+
+        String message = e.getBindingResult().getAllErrors().stream()
+                .map(error -> error instanceof FieldError && ((FieldError) error).isBindingFailure()
+                        ? String.format(INVALID_VALUE, ((FieldError) error).getField(),
+                        ObjectUtils.nullSafeToString(((FieldError) error).getRejectedValue()))
+                        : error.getDefaultMessage())
+                .collect(Collectors.joining(","));
+
+        CustomErrorBody error = new CustomErrorBody(message, request);
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<CustomErrorBody> handleConstraintViolationException(ConstraintViolationException e,
                                                    WebRequest request) {
         LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
 
         CustomErrorBody error = new CustomErrorBody(e.getMessage(), request);
 
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ScheduleConflictException.class)
+    public ResponseEntity<CustomErrorBody> handleScheduleConflictException(ScheduleConflictException e,
+                                                                           WebRequest request) {
+        LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
+
+        CustomErrorBody error = new CustomErrorBody(e.getMessage(), request);
+
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler({VersionMismatchException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<CustomErrorBody> handleVersionMismatchException(RuntimeException e, WebRequest request) {
+        LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
+
+        CustomErrorBody error = new CustomErrorBody(e.getMessage(), request);
+
+        return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<CustomErrorBody> handleRejectedExecutionException(RejectedExecutionException e, WebRequest request,
+                                                                            HttpServletResponse response) {
+        LOG.warn("rejected long request", e);
+        ExceptionCounter.increment(e, HANDLER);
+
+        // a rejected export has already set the streaming content type, which the error body cannot be written as
+        if (response.getContentType() != null) {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        }
+        CustomErrorBody error = new CustomErrorBody(LongRequestExecutor.REJECTED_MESSAGE, request);
+
+        return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<CustomErrorBody> handleHZException(DataIntegrityViolationException e, WebRequest request) {
         LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
 
         CustomErrorBody error = new CustomErrorBody("Already exists", request);
 
@@ -77,6 +162,7 @@ public class RestExceptionHandler {
     public ResponseEntity<CustomErrorBody> handleAnyException(Exception e,
                                    WebRequest request) {
         LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
 
         CustomErrorBody error = new CustomErrorBody(e.getMessage(), request);
 
@@ -1,7 +1,20 @@
 package my.project.university.controllers.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
+import my.project.university.async.LongRequestExecutor;
+import my.project.university.models.dto.KeysetSlice;
+import my.project.university.models.dto.ScheduleCursor;
 import my.project.university.models.dto.ScheduleDto;
+import my.project.university.models.dto.ScheduleFilter;
+import my.project.university.models.dto.ScheduleGenerationReport;
+import my.project.university.models.dto.ScheduleImportReport;
+import my.project.university.models.dto.Versioned;
+import my.project.university.serializers.ScheduleCsv;
+import my.project.university.serializers.ScheduleCsvReader;
+import my.project.university.services.interfaces.ScheduleGenerationService;
 import my.project.university.services.interfaces.ScheduleService;
 import my.project.university.validation.OnCreate;
 import my.project.university.validation.OnUpdate;
@@ -9,16 +22,26 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @Validated
@@ -26,13 +49,25 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SchedulesRestController {
     private static final String ID_CONSTRAINT = "Id should be positive";
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final byte NDJSON_SEPARATOR = '\n';
+    private static final String CSV_VALUE = "text/csv";
+
+    private final ScheduleCsvReader csvReader = new ScheduleCsvReader();
 
     private final ScheduleService scheduleService;
+    private final ScheduleGenerationService generationService;
+    private final LongRequestExecutor longRequests;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/{id}")
-    public HttpEntity<ScheduleDto> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id) {
+    public HttpEntity<ScheduleDto> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id, WebRequest request) {
+        Optional<String> version = scheduleService.findVersion(id);
+        if (VersionedResponses.isNotModified(version, request)) {
+            return null;
+        }
         ScheduleDto scheduleDto = scheduleService.findById(id);
-        return ResponseEntity.ok(scheduleDto);
+        return VersionedResponses.ok(version, scheduleDto);
     }
 
     @GetMapping
@@ -41,6 +76,14 @@ public class SchedulesRestController {
         return ResponseEntity.ok(page);
     }
 
+    @GetMapping(params = "after")
+    public HttpEntity<KeysetSlice<ScheduleDto>> showAllAfter(@RequestParam("after") String after,
+                                                            @PageableDefault Pageable pageable) {
+        ScheduleCursor cursor = ScheduleCursor.decode(after);
+        KeysetSlice<ScheduleDto> slice = scheduleService.findAllAfter(cursor, pageable.getPageSize());
+        return ResponseEntity.ok(slice);
+    }
+
     @PostMapping
     @Validated(OnCreate.class)
     public HttpEntity<ScheduleDto> add(@RequestBody @Valid ScheduleDto dto) {
@@ -50,9 +93,36 @@ public class SchedulesRestController {
 
     @PutMapping
     @Validated(OnUpdate.class)
-    public HttpEntity<ScheduleDto> update(@RequestBody @Valid ScheduleDto dto) {
-        ScheduleDto updated = scheduleService.saveOrUpdate(dto);
-        return ResponseEntity.ok(updated);
+    public HttpEntity<ScheduleDto> update(@RequestBody @Valid ScheduleDto dto,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Versioned<ScheduleDto> updated = scheduleService.update(dto, VersionedResponses.expectedVersion(ifMatch));
+        return VersionedResponses.ok(updated);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<HttpEntity<ScheduleImportReport>> importJson(@RequestBody List<ScheduleDto> dtos) {
+        return longRequests.supply(() -> {
+            ScheduleImportReport report = scheduleService.importSchedules(dtos);
+            return ResponseEntity.ok(report);
+        });
+    }
+
+    @PostMapping(value = "/import", consumes = CSV_VALUE)
+    public CompletableFuture<HttpEntity<ScheduleImportReport>> importCsv(@RequestBody String csv) {
+        return longRequests.supply(() -> {
+            ScheduleCsv rows = readCsv(csv);
+            ScheduleImportReport report = scheduleService.importSchedules(rows.getSchedules(), rows.getInvalidRows());
+            return ResponseEntity.ok(report);
+        });
+    }
+
+    @PostMapping("/generate")
+    public CompletableFuture<HttpEntity<ScheduleGenerationReport>> generate(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return longRequests.supply(() -> {
+            ScheduleGenerationReport report = generationService.generate(from, to);
+            return ResponseEntity.ok(report);
+        });
     }
 
     @DeleteMapping("/{id}")
@@ -63,8 +133,48 @@ public class SchedulesRestController {
 
 
     @GetMapping("/filter")
-    public HttpEntity<List<ScheduleDto>> getScheduleByCriteria(@RequestParam Map<String, String> filters) {
-        List<ScheduleDto> scheduleDtos = scheduleService.getScheduleByCriteria(filters);
-        return ResponseEntity.ok(scheduleDtos);
+    public CompletableFuture<HttpEntity<Page<ScheduleDto>>> getScheduleByCriteria(@Valid ScheduleFilter filter,
+                                                                                  @PageableDefault(sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+        return longRequests.supply(() -> {
+            Page<ScheduleDto> page = scheduleService.getScheduleByCriteria(filter, pageable);
+            return ResponseEntity.ok(page);
+        });
+    }
+
+    @GetMapping(value = "/filter", params = "after")
+    public CompletableFuture<HttpEntity<KeysetSlice<ScheduleDto>>> getScheduleByCriteriaAfter(@Valid ScheduleFilter filter,
+                                                                                             @RequestParam("after") String after,
+                                                                                             @PageableDefault Pageable pageable) {
+        ScheduleCursor cursor = ScheduleCursor.decode(after);
+        return longRequests.supply(() -> {
+            KeysetSlice<ScheduleDto> slice = scheduleService.getScheduleByCriteriaAfter(filter, cursor, pageable.getPageSize());
+            return ResponseEntity.ok(slice);
+        });
+    }
+
+    @GetMapping(value = "/filter/stream", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamScheduleByCriteria(@Valid ScheduleFilter filter) {
+        ObjectWriter writer = objectMapper.writerFor(ScheduleDto.class).without(SerializationFeature.INDENT_OUTPUT);
+
+        StreamingResponseBody body = outputStream -> scheduleService.streamScheduleByCriteria(filter, dto -> {
+            try {
+                outputStream.write(writer.writeValueAsBytes(dto));
+                outputStream.write(NDJSON_SEPARATOR);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
+    }
+
+    private ScheduleCsv readCsv(String csv) {
+        try {
+            return csvReader.read(new StringReader(csv));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package my.project.university.controllers.api;
 
 import lombok.RequiredArgsConstructor;
 import my.project.university.models.dto.StudentDto;
+import my.project.university.models.dto.Versioned;
 import my.project.university.services.interfaces.StudentService;
 import my.project.university.validation.OnCreate;
 import my.project.university.validation.OnUpdate;
@@ -10,13 +11,16 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import java.util.Optional;
 
 @RestController
 @Validated
@@ -28,9 +32,13 @@ public class StudentsRestController {
     private final StudentService studentService;
 
     @GetMapping("/{id}")
-    public HttpEntity<StudentDto> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id) {
+    public HttpEntity<StudentDto> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id, WebRequest request) {
+        Optional<String> version = studentService.findVersion(id);
+        if (VersionedResponses.isNotModified(version, request)) {
+            return null;
+        }
         StudentDto studentDto = studentService.findById(id);
-        return ResponseEntity.ok(studentDto);
+        return VersionedResponses.ok(version, studentDto);
     }
 
     @GetMapping
@@ -48,9 +56,10 @@ public class StudentsRestController {
 
     @PutMapping
     @Validated(OnUpdate.class)
-    public HttpEntity<StudentDto> update(@RequestBody @Valid StudentDto dto) {
-        StudentDto updated = studentService.saveOrUpdate(dto);
-        return ResponseEntity.ok(updated);
+    public HttpEntity<StudentDto> update(@RequestBody @Valid StudentDto dto,
+                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Versioned<StudentDto> updated = studentService.update(dto, VersionedResponses.expectedVersion(ifMatch));
+        return VersionedResponses.ok(updated);
     }
 
     @DeleteMapping("/{id}")
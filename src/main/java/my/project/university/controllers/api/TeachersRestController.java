@@ -2,7 +2,9 @@ package my.project.university.controllers.api;
 
 import lombok.RequiredArgsConstructor;
 import my.project.university.models.dto.CourseDto;
+import my.project.university.models.dto.FreeSlot;
 import my.project.university.models.dto.TeacherDto;
+import my.project.university.models.dto.Versioned;
 import my.project.university.services.interfaces.TeacherService;
 import my.project.university.validation.OnCreate;
 import my.project.university.validation.OnUpdate;
@@ -10,14 +12,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @Validated
@@ -31,9 +39,13 @@ public class TeachersRestController {
     private final TeacherService teacherService;
 
     @GetMapping("/{id}")
-    public HttpEntity<TeacherDto> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id) {
+    public HttpEntity<TeacherDto> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id, WebRequest request) {
+        Optional<String> version = teacherService.findVersion(id);
+        if (VersionedResponses.isNotModified(version, request)) {
+            return null;
+        }
         TeacherDto dto = teacherService.findById(id);
-        return ResponseEntity.ok(dto);
+        return VersionedResponses.ok(version, dto);
     }
 
     @GetMapping
@@ -51,9 +63,10 @@ public class TeachersRestController {
 
     @PutMapping
     @Validated(OnUpdate.class)
-    public HttpEntity<TeacherDto> update(@RequestBody @Valid TeacherDto dto) {
-        TeacherDto updated = teacherService.saveOrUpdate(dto);
-        return ResponseEntity.ok(updated);
+    public HttpEntity<TeacherDto> update(@RequestBody @Valid TeacherDto dto,
+                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Versioned<TeacherDto> updated = teacherService.update(dto, VersionedResponses.expectedVersion(ifMatch));
+        return VersionedResponses.ok(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -85,4 +98,12 @@ public class TeachersRestController {
         teacherService.deleteCourse(teacherId, courseId);
         return ResponseEntity.ok().build();
     }
+
+    @GetMapping("/{id}/free-slots")
+    public HttpEntity<List<FreeSlot>> findFreeSlots(@PathVariable("id") @Positive(message = ID_CONSTRAINT) Integer id,
+                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<FreeSlot> freeSlots = teacherService.findFreeSlots(id, from, to);
+        return ResponseEntity.ok(freeSlots);
+    }
 }
@@ -0,0 +1,49 @@
+package my.project.university.controllers.api;
+
+import lombok.RequiredArgsConstructor;
+import my.project.university.services.interfaces.TimetableService;
+import my.project.university.timetable.MaterializedTimetable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+
+@RestController
+@Validated
+@RequestMapping("/api/timetables")
+@RequiredArgsConstructor
+public class TimetablesRestController {
+    private static final String ID_CONSTRAINT = "Id should be positive";
+    private static final String WEEK_PATTERN = "\\d{4}-W\\d{2}";
+    private static final String WEEK_CONSTRAINT = "Week should be ISO week like 2020-W01";
+
+    private final TimetableService timetableService;
+
+    @GetMapping("/groups/{id}/weeks/{isoWeek}")
+    public HttpEntity<byte[]> getGroupWeek(@PathVariable("id") @Positive(message = ID_CONSTRAINT) Integer id,
+                                           @PathVariable("isoWeek") @Pattern(regexp = WEEK_PATTERN, message = WEEK_CONSTRAINT) String isoWeek) {
+        return toResponse(timetableService.getGroupWeek(id, isoWeek));
+    }
+
+    @GetMapping("/teachers/{id}/weeks/{isoWeek}")
+    public HttpEntity<byte[]> getTeacherWeek(@PathVariable("id") @Positive(message = ID_CONSTRAINT) Integer id,
+                                             @PathVariable("isoWeek") @Pattern(regexp = WEEK_PATTERN, message = WEEK_CONSTRAINT) String isoWeek) {
+        return toResponse(timetableService.getTeacherWeek(id, isoWeek));
+    }
+
+    private HttpEntity<byte[]> toResponse(MaterializedTimetable timetable) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(timetable.getEtag())
+                .body(timetable.getBody());
+    }
+}
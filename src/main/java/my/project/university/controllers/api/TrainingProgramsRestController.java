@@ -3,6 +3,7 @@ package my.project.university.controllers.api;
 import lombok.RequiredArgsConstructor;
 import my.project.university.models.dto.CourseDto;
 import my.project.university.models.dto.TrainingProgramDto;
+import my.project.university.models.dto.Versioned;
 import my.project.university.services.interfaces.TrainingProgramService;
 import my.project.university.validation.OnCreate;
 import my.project.university.validation.OnUpdate;
@@ -11,14 +12,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Positive;
+import java.util.Optional;
 
 @RestController
 @Validated
@@ -32,9 +36,13 @@ public class TrainingProgramsRestController {
     private final TrainingProgramService trainingProgramService;
 
     @GetMapping("/{id}")
-    public HttpEntity<TrainingProgramDto> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id) {
+    public HttpEntity<TrainingProgramDto> findById(@PathVariable @Positive(message = ID_CONSTRAINT) Integer id, WebRequest request) {
+        Optional<String> version = trainingProgramService.findVersion(id);
+        if (VersionedResponses.isNotModified(version, request)) {
+            return null;
+        }
         TrainingProgramDto dto = trainingProgramService.findById(id);
-        return ResponseEntity.ok(dto);
+        return VersionedResponses.ok(version, dto);
     }
 
     @GetMapping("/speciality/{speciality}")
@@ -58,9 +66,10 @@ public class TrainingProgramsRestController {
 
     @PutMapping
     @Validated(OnUpdate.class)
-    public HttpEntity<TrainingProgramDto> update(@RequestBody @Valid TrainingProgramDto dto) {
-        TrainingProgramDto updated = trainingProgramService.saveOrUpdate(dto);
-        return ResponseEntity.ok(updated);
+    public HttpEntity<TrainingProgramDto> update(@RequestBody @Valid TrainingProgramDto dto,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Versioned<TrainingProgramDto> updated = trainingProgramService.update(dto, VersionedResponses.expectedVersion(ifMatch));
+        return VersionedResponses.ok(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,46 @@
+package my.project.university.controllers.api;
+
+import my.project.university.models.dto.Versioned;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+final class VersionedResponses {
+    private static final String QUOTE = "\"";
+    private static final String ANY = "*";
+
+    private VersionedResponses() {
+    }
+
+    static boolean isNotModified(Optional<String> version, WebRequest request) {
+        return version.isPresent() && request.checkNotModified(toETag(version.get()));
+    }
+
+    static <T> ResponseEntity<T> ok(Optional<String> version, T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        version.map(VersionedResponses::toETag).ifPresent(response::eTag);
+        return response.body(body);
+    }
+
+    static <T> ResponseEntity<T> ok(Versioned<T> versioned) {
+        return ResponseEntity.ok()
+                .eTag(toETag(versioned.getVersion()))
+                .body(versioned.getContent());
+    }
+
+    static String expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        String etag = ifMatch.trim();
+        if (etag.length() > 1 && etag.startsWith(QUOTE) && etag.endsWith(QUOTE)) {
+            return etag.substring(1, etag.length() - 1);
+        }
+        return etag;
+    }
+
+    private static String toETag(String version) {
+        return QUOTE + version + QUOTE;
+    }
+}
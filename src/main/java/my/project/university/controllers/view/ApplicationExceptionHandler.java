@@ -2,6 +2,8 @@ package my.project.university.controllers.view;
 
 
 import my.project.university.exceptions.NotFoundEntityException;
+import my.project.university.exceptions.ScheduleConflictException;
+import my.project.university.metrics.ExceptionCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -17,12 +19,14 @@ import javax.validation.ConstraintViolationException;
 @ControllerAdvice(basePackages = "my.project.university.controllers.view")
 public class ApplicationExceptionHandler {
     private static final Logger LOG = LoggerFactory.getLogger(ApplicationExceptionHandler.class);
+    private static final String HANDLER = "view";
 
 
     @ExceptionHandler(NotFoundEntityException.class)
     @ResponseStatus(value = HttpStatus.NOT_FOUND)
     public String handleEntityNotFoundException(NotFoundEntityException e, Model model) {
         LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
         model.addAttribute("errorMessage", e.getMessage());
         return "exceptionView/error";
     }
@@ -31,14 +35,25 @@ public class ApplicationExceptionHandler {
     @ResponseStatus(value = HttpStatus.BAD_REQUEST)
     public String handleIllegalArgumentException(IllegalArgumentException e, Model model) {
         LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
         model.addAttribute(e.getMessage());
         return "exceptionView/error";
     }
 
+    @ExceptionHandler(ScheduleConflictException.class)
+    @ResponseStatus(value = HttpStatus.CONFLICT)
+    public String handleScheduleConflictException(ScheduleConflictException e, Model model) {
+        LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
+        model.addAttribute("errorMessage", e.getMessage());
+        return "exceptionView/error";
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     @ResponseStatus(value = HttpStatus.BAD_REQUEST)
     public String handleDataIntegrityViolationException(DataIntegrityViolationException e, Model model) {
         LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
         model.addAttribute("errorMessage", "Уже существует");
         return "exceptionView/error";
     }
@@ -47,6 +62,7 @@ public class ApplicationExceptionHandler {
     @ResponseStatus(value = HttpStatus.BAD_REQUEST)
     public String handleCBindException(BindException e, Model model) {
         LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
 
         StringBuilder message = new StringBuilder();
         message.append("Restrictions violated:\r\n");
@@ -61,6 +77,7 @@ public class ApplicationExceptionHandler {
     @ResponseStatus(value = HttpStatus.BAD_REQUEST)
     public String handleConstraintViolationException(ConstraintViolationException e, Model model) {
         LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
 
         StringBuilder message = new StringBuilder();
 
@@ -74,6 +91,7 @@ public class ApplicationExceptionHandler {
     @ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR)
     public String handleException(Exception e, Model model) {
         LOG.error("handled exception", e);
+        ExceptionCounter.increment(e, HANDLER);
         model.addAttribute("errorMessage", "request execution error");
         return "exceptionView/error";
     }
@@ -3,6 +3,7 @@ package my.project.university.controllers.view;
 
 import lombok.RequiredArgsConstructor;
 import my.project.university.models.dto.ScheduleDto;
+import my.project.university.models.dto.ScheduleFilter;
 import my.project.university.services.interfaces.ScheduleService;
 import my.project.university.validation.OnCreate;
 import my.project.university.validation.OnUpdate;
@@ -18,8 +19,6 @@ import org.springframework.web.bind.annotation.*;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Positive;
-import java.util.List;
-import java.util.Map;
 
 @Controller
 @Validated
@@ -72,10 +71,11 @@ public class SchedulesController {
         return "redirect:/schedules";
     }
 
-    @PostMapping("/byCriteria")
-    public String getScheduleByCriteria(@RequestParam Map<String, String> filters,
+    @RequestMapping(value = "/byCriteria", method = {RequestMethod.GET, RequestMethod.POST})
+    public String getScheduleByCriteria(@Valid ScheduleFilter filter,
+                                        @PageableDefault(sort = "id", direction = Sort.Direction.ASC) Pageable pageable,
                                         Model model) {
-        List<ScheduleDto> schedules = scheduleService.getScheduleByCriteria(filters);
+        Page<ScheduleDto> schedules = scheduleService.getScheduleByCriteria(filter, pageable);
         model.addAttribute("schedules", schedules);
         return "schedules/schedulesByCriteria";
     }
@@ -0,0 +1,48 @@
+package my.project.university.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = ReadWriteRoutingConfiguration.REPLICA_PREFIX, name = "jdbc-url")
+public class ReadWriteRoutingConfiguration {
+    public static final String REPLICA_PREFIX = "university.datasource.replica";
+    public static final String PRIMARY_POOL = "primary";
+    public static final String REPLICA_POOL = "replica";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariConfig primaryPoolConfig(DataSourceProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(PRIMARY_POOL);
+        config.setJdbcUrl(properties.determineUrl());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        config.setDriverClassName(properties.determineDriverClassName());
+        return config;
+    }
+
+    @Bean
+    @ConfigurationProperties(REPLICA_PREFIX)
+    public HikariConfig replicaPoolConfig() {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(REPLICA_POOL);
+        config.setReadOnly(true);
+        return config;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(HikariConfig primaryPoolConfig, HikariConfig replicaPoolConfig) {
+        return new ReadWriteRoutingDataSource(new HikariDataSource(primaryPoolConfig), new HikariDataSource(replicaPoolConfig));
+    }
+
+    @Bean
+    public ReadWriteRoutingMetrics readWriteRoutingMetrics(ReadWriteRoutingDataSource dataSource) {
+        return new ReadWriteRoutingMetrics(dataSource);
+    }
+}
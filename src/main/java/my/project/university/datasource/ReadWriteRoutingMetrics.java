@@ -0,0 +1,20 @@
+package my.project.university.datasource;
+
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class ReadWriteRoutingMetrics implements MeterBinder {
+    private final ReadWriteRoutingDataSource dataSource;
+
+    public ReadWriteRoutingMetrics(ReadWriteRoutingDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        dataSource.getPools().stream()
+                .filter(pool -> pool.getMetricsTrackerFactory() == null && pool.getMetricRegistry() == null)
+                .forEach(pool -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    }
+}
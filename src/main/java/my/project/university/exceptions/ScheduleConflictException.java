@@ -0,0 +1,20 @@
+package my.project.university.exceptions;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+public class ScheduleConflictException extends RuntimeException {
+    private static final String ERROR_MESSAGE = "%s already busy at %s %s";
+
+    private final List<String> resources;
+
+    public ScheduleConflictException(List<String> resources, LocalDate lessonDate, LocalTime lessonTime) {
+        super(String.format(ERROR_MESSAGE, String.join(", ", resources), lessonDate, lessonTime));
+        this.resources = List.copyOf(resources);
+    }
+
+    public List<String> getResources() {
+        return resources;
+    }
+}
@@ -0,0 +1,9 @@
+package my.project.university.exceptions;
+
+public class VersionMismatchException extends RuntimeException {
+    private static final String ERROR_MESSAGE = "%s with id %d was changed, expected version %s but current is %s";
+
+    public VersionMismatchException(String entityName, Integer id, String expected, String current) {
+        super(String.format(ERROR_MESSAGE, entityName, id, expected, current));
+    }
+}
@@ -5,6 +5,7 @@ import my.project.university.models.Course;
 import my.project.university.models.dto.CourseDto;
 import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper
 public interface CourseMapper {
@@ -12,5 +13,6 @@ public interface CourseMapper {
     CourseDto toDto(Course course);
 
     @InheritInverseConfiguration
+    @Mapping(target = "version", ignore = true)
     Course fromDto(CourseDto courseDto);
 }
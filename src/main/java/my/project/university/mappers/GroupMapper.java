@@ -14,5 +14,6 @@ public interface GroupMapper {
     GroupDto toDto(Group group);
 
     @InheritInverseConfiguration
+    @Mapping(target = "version", ignore = true)
     Group fromDto(GroupDto groupDto);
 }
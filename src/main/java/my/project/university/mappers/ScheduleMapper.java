@@ -22,6 +22,7 @@ public interface ScheduleMapper {
     ScheduleDto toDto(Schedule schedule);
 
     @InheritInverseConfiguration
+    @Mapping(target = "version", ignore = true)
     Schedule fromDto(ScheduleDto scheduleDto);
 
 }
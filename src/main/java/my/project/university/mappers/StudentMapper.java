@@ -13,5 +13,6 @@ public interface StudentMapper {
     StudentDto toDto(Student student);
 
     @InheritInverseConfiguration
+    @Mapping(target = "version", ignore = true)
     Student fromDto(StudentDto studentDto);
 }
@@ -4,6 +4,7 @@ import my.project.university.models.Teacher;
 import my.project.university.models.dto.TeacherDto;
 import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper
 public interface TeacherMapper {
@@ -11,5 +12,6 @@ public interface TeacherMapper {
     TeacherDto toDto(Teacher teacher);
 
     @InheritInverseConfiguration
+    @Mapping(target = "version", ignore = true)
     Teacher fromDto(TeacherDto teacherDto);
 }
@@ -4,6 +4,7 @@ import my.project.university.models.TrainingProgram;
 import my.project.university.models.dto.TrainingProgramDto;
 import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper
 public interface TrainingProgramMapper {
@@ -11,5 +12,6 @@ public interface TrainingProgramMapper {
     TrainingProgramDto toDto(TrainingProgram trainingProgram);
 
     @InheritInverseConfiguration
+    @Mapping(target = "version", ignore = true)
     TrainingProgram fromDto(TrainingProgramDto trainingProgramDto);
 }
@@ -0,0 +1,14 @@
+package my.project.university.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+
+public final class ExceptionCounter {
+    public static final String NAME = "university.exceptions";
+
+    private ExceptionCounter() {
+    }
+
+    public static void increment(Exception e, String handler) {
+        Metrics.counter(NAME, "exception", e.getClass().getSimpleName(), "handler", handler).increment();
+    }
+}
@@ -0,0 +1,73 @@
+package my.project.university.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Value;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times join points of the layer aspects. Timers are registered once per timer name, class, method and outcome
+ * and looked up afterwards, so a call only pays for a map lookup instead of a meter registration.
+ */
+@Component
+class LayerTimers {
+    private static final String APPLICATION_PACKAGE = "my.project.university.";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Autowired
+    LayerTimers(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        String exception = NO_EXCEPTION;
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            TimerKey key = new TimerKey(name, joinPoint.getThis().getClass(), joinPoint.getSignature().getName(), exception);
+            timers.computeIfAbsent(key, this::register).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(key.getName())
+                .tag("class", applicationClassName(key.getType()))
+                .tag("method", key.getMethod())
+                .tag("exception", key.getException())
+                .register(meterRegistry);
+    }
+
+    private String applicationClassName(Class<?> proxyClass) {
+        if (Proxy.isProxyClass(proxyClass)) {
+            for (Class<?> type : proxyClass.getInterfaces()) {
+                if (type.getName().startsWith(APPLICATION_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(proxyClass).getSimpleName();
+    }
+
+    @Value
+    private static class TimerKey {
+        String name;
+        Class<?> type;
+        String method;
+        String exception;
+    }
+}
@@ -0,0 +1,35 @@
+package my.project.university.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TimedLayersAspect {
+    public static final String SERVICE_TIMER = "university.service";
+    public static final String REPOSITORY_TIMER = "university.repository";
+
+    private final LayerTimers timers;
+
+    @Autowired
+    public TimedLayersAspect(LayerTimers timers) {
+        this.timers = timers;
+    }
+
+    @Around("execution(public * my.project.university.services.*ServiceImpl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timers.time(SERVICE_TIMER, joinPoint);
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..)) " +
+            "|| execution(public * my.project.university.repository.*RepositoryImpl.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timers.time(REPOSITORY_TIMER, joinPoint);
+    }
+}
@@ -0,0 +1,34 @@
+package my.project.university.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times mapper calls. Mappers run once per row, so streaming exports would pay for a timer on every element;
+ * the aspect is therefore only created when {@code university.metrics.time-mappers} is switched on.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "university.metrics", name = "time-mappers", havingValue = "true")
+public class TimedMappersAspect {
+    public static final String MAPPER_TIMER = "university.mapper";
+
+    private final LayerTimers timers;
+
+    @Autowired
+    public TimedMappersAspect(LayerTimers timers) {
+        this.timers = timers;
+    }
+
+    @Around("execution(public * my.project.university.mappers.*Mapper.*(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return timers.time(MAPPER_TIMER, joinPoint);
+    }
+}
@@ -4,21 +4,31 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import my.project.university.cache.ReferenceCacheConfiguration;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheConfiguration.COURSE_REGION)
 @Table(name = "courses")
 @Data
 @NoArgsConstructor
 public class Course {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_id_seq")
+    @SequenceGenerator(name = "courses_id_seq", sequenceName = "courses_id_seq", allocationSize = 50)
     @EqualsAndHashCode.Exclude
     private Integer id;
 
+    @Version
+    @Column(name = "version")
+    @EqualsAndHashCode.Exclude
+    private int version;
+
     @Column(name = "name")
     private String name;
 
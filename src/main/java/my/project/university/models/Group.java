@@ -4,6 +4,9 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import my.project.university.cache.ReferenceCacheConfiguration;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
 
@@ -12,16 +15,23 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheConfiguration.GROUP_REGION)
 @Table(name = "groups")
 @Data
 @NoArgsConstructor
 public class Group {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "groups_id_seq")
+    @SequenceGenerator(name = "groups_id_seq", sequenceName = "groups_id_seq", allocationSize = 50)
     @EqualsAndHashCode.Exclude
     private Integer id;
 
+    @Version
+    @Column(name = "version")
+    @EqualsAndHashCode.Exclude
+    private int version;
+
     @Column(name = "description")
     private String description;
 
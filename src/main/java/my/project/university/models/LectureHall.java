@@ -1,11 +1,15 @@
 package my.project.university.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import my.project.university.cache.ReferenceCacheConfiguration;
 import my.project.university.validation.OnCreate;
 import my.project.university.validation.OnUpdate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotNull;
@@ -13,6 +17,7 @@ import javax.validation.constraints.Null;
 import javax.validation.constraints.Positive;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheConfiguration.LECTUREHALL_REGION)
 @Table(name = "lectureHalls")
 @Data
 @NoArgsConstructor
@@ -30,13 +35,20 @@ public class LectureHall {
     private static final String NUMBER_POSITIVE_CONSTRAINT = "Number should be positive";
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lecturehalls_id_seq")
+    @SequenceGenerator(name = "lecturehalls_id_seq", sequenceName = "lecturehalls_id_seq", allocationSize = 50)
     @EqualsAndHashCode.Exclude
     @NotNull(groups = OnUpdate.class, message = ID_CONSTRAINT_UPDATE)
     @Null(groups = OnCreate.class, message = ID_CONSTRAINT_CREATE)
     @Positive(message = ID_POSITIVE_CONSTRAINT)
     private Integer id;
 
+    @Version
+    @Column(name = "version")
+    @EqualsAndHashCode.Exclude
+    @JsonIgnore
+    private int version;
+
     @Column(name = "housing")
     @NotNull(message = HOUSING_CONSTRAINT_NOT_NULL)
     @Positive(message = HOUSING_POSITIVE_CONSTRAINT)
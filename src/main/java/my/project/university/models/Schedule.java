@@ -1,6 +1,5 @@
 package my.project.university.models;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -15,15 +14,20 @@ import java.time.LocalTime;
 @Entity
 @Table(name = "schedule")
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class Schedule {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_id_seq")
+    @SequenceGenerator(name = "schedule_id_seq", sequenceName = "schedule_id_seq", allocationSize = 50)
     @EqualsAndHashCode.Exclude
     private Integer id;
 
+    @Version
+    @Column(name = "version")
+    @EqualsAndHashCode.Exclude
+    private int version;
+
     @Column(name = "lesson_date")
     private LocalDate lessonDate;
 
@@ -50,6 +54,11 @@ public class Schedule {
     @JoinColumn(name = "course_id")
     private Course course;
 
+    public Schedule(Integer id, LocalDate lessonDate, LocalTime lessonTime, LectureHall lectureHall, Group group, Teacher teacher, Course course) {
+        this(lessonDate, lessonTime, lectureHall, group, teacher, course);
+        this.id = id;
+    }
+
     public Schedule(LocalDate lessonDate, LocalTime lessonTime, LectureHall lectureHall, Group group, Teacher teacher, Course course) {
         this.lessonDate = lessonDate;
         this.lessonTime = lessonTime;
@@ -1,6 +1,5 @@
 package my.project.university.models;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -13,14 +12,19 @@ import javax.persistence.*;
 @Entity
 @Table(name = "students")
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_id_seq")
+    @SequenceGenerator(name = "students_id_seq", sequenceName = "students_id_seq", allocationSize = 50)
     private Integer id;
 
+    @Version
+    @Column(name = "version")
+    @EqualsAndHashCode.Exclude
+    private int version;
+
     @Column(name = "first_name")
     private String firstName;
 
@@ -33,6 +37,11 @@ public class Student {
     @EqualsAndHashCode.Exclude
     private Group group;
 
+    public Student(Integer id, String firstName, String lastName, Group group) {
+        this(firstName, lastName, group);
+        this.id = id;
+    }
+
     public Student(String firstName, String lastName, Group group) {
         this.firstName = firstName;
         this.lastName = lastName;
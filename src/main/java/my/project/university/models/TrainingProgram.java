@@ -1,12 +1,16 @@
 package my.project.university.models;
 
 import lombok.*;
+import my.project.university.cache.ReferenceCacheConfiguration;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheConfiguration.TRAININGPROGRAM_REGION)
 @Table(name = "trainingProgram")
 @Data
 @Builder
@@ -15,10 +19,16 @@ import java.util.Set;
 public class TrainingProgram {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainingprogram_id_seq")
+    @SequenceGenerator(name = "trainingprogram_id_seq", sequenceName = "trainingprogram_id_seq", allocationSize = 50)
     @EqualsAndHashCode.Exclude
     private Integer id;
 
+    @Version
+    @Column(name = "version")
+    @EqualsAndHashCode.Exclude
+    private int version;
+
     @Column(name = "speciality")
     private String speciality;
 
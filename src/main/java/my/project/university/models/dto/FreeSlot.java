@@ -0,0 +1,16 @@
+package my.project.university.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FreeSlot {
+    private LocalDate date;
+    private LocalTime time;
+}
@@ -0,0 +1,17 @@
+package my.project.university.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class KeysetSlice<T> {
+    private List<T> content;
+    private int pageSize;
+    private boolean hasNext;
+    private String after;
+}
@@ -0,0 +1,47 @@
+package my.project.university.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import my.project.university.models.Schedule;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Data
+@AllArgsConstructor
+public class ScheduleCursor {
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR = "Invalid cursor %s";
+
+    private LocalDate lessonDate;
+    private LocalTime lessonTime;
+    private Integer id;
+
+    public static ScheduleCursor of(Schedule schedule) {
+        return new ScheduleCursor(schedule.getLessonDate(), schedule.getLessonTime(), schedule.getId());
+    }
+
+    public static ScheduleCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(String.format(INVALID_CURSOR, token));
+            }
+            return new ScheduleCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Integer.parseInt(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(INVALID_CURSOR, token), e);
+        }
+    }
+
+    public String encode() {
+        String raw = lessonDate + SEPARATOR + lessonTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -11,6 +11,9 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Null;
 import javax.validation.constraints.Positive;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 
 @Data
 @AllArgsConstructor
@@ -45,4 +48,14 @@ public class ScheduleDto {
 
     @NotBlank(message = "Course name should not be blank")
     private String courseName;
+
+    public ScheduleDto(Integer id, LocalDate lessonDate, LocalTime lessonTime,
+                       Integer lectureHallId, Integer lectureHallHousing, Integer lectureHallFloor, Integer lectureHallNumber,
+                       String groupDescription, Integer teacherId, String teacherFirstName, String teacherLastName,
+                       String courseName) {
+        this(id, lessonDate == null ? null : DateTimeFormatter.ISO_LOCAL_DATE.format(lessonDate),
+                lessonTime == null ? null : DateTimeFormatter.ISO_LOCAL_TIME.format(lessonTime),
+                lectureHallId, lectureHallHousing, lectureHallFloor, lectureHallNumber,
+                groupDescription, teacherId, teacherFirstName, teacherLastName, courseName);
+    }
 }
@@ -0,0 +1,86 @@
+package my.project.university.models.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Schedule search criteria bound from request parameters. Every list takes several values, either repeated
+ * or comma separated, and matches any of them; blank values are dropped, so an empty form field means no filter.
+ */
+@Data
+@NoArgsConstructor
+public class ScheduleFilter {
+    public static final int MAX_VALUES = 100;
+    private static final String VALUES_CONSTRAINT = "At most " + MAX_VALUES + " values are allowed for one filter";
+
+    @Size(max = MAX_VALUES, message = VALUES_CONSTRAINT)
+    private List<String> groupDescription = List.of();
+
+    @Size(max = MAX_VALUES, message = VALUES_CONSTRAINT)
+    private List<@Positive(message = "Teacher id should be positive") Integer> teacherId = List.of();
+
+    @Size(max = MAX_VALUES, message = VALUES_CONSTRAINT)
+    private List<@Positive(message = "LectureHall id should be positive") Integer> lectureHallId = List.of();
+
+    @Size(max = MAX_VALUES, message = VALUES_CONSTRAINT)
+    private List<String> courseName = List.of();
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.TIME)
+    private LocalTime fromTime;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.TIME)
+    private LocalTime toTime;
+
+    public void setGroupDescription(List<String> groupDescription) {
+        this.groupDescription = names(groupDescription);
+    }
+
+    public void setTeacherId(List<Integer> teacherId) {
+        this.teacherId = ids(teacherId);
+    }
+
+    public void setLectureHallId(List<Integer> lectureHallId) {
+        this.lectureHallId = ids(lectureHallId);
+    }
+
+    public void setCourseName(List<String> courseName) {
+        this.courseName = names(courseName);
+    }
+
+    @AssertTrue(message = "Date from should not be after date to")
+    public boolean isDateRangeOrdered() {
+        return from == null || to == null || !from.isAfter(to);
+    }
+
+    @AssertTrue(message = "Time from should not be after time to")
+    public boolean isTimeRangeOrdered() {
+        return fromTime == null || toTime == null || !fromTime.isAfter(toTime);
+    }
+
+    private static List<String> names(List<String> values) {
+        return values == null ? List.of() : values.stream()
+                .filter(Objects::nonNull).map(String::strip).filter(value -> !value.isEmpty())
+                .distinct().collect(Collectors.toUnmodifiableList());
+    }
+
+    private static List<Integer> ids(List<Integer> values) {
+        return values == null ? List.of() : values.stream()
+                .filter(Objects::nonNull).distinct().collect(Collectors.toUnmodifiableList());
+    }
+}
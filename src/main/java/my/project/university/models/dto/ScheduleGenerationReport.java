@@ -0,0 +1,19 @@
+package my.project.university.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleGenerationReport {
+    private LocalDate from;
+    private LocalDate to;
+    private int required;
+    private int scheduled;
+    private List<UnscheduledLessons> unscheduled;
+}
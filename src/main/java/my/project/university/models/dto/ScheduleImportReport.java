@@ -0,0 +1,16 @@
+package my.project.university.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleImportReport {
+    private int imported;
+    private int rejected;
+    private List<ScheduleImportRow> rows;
+}
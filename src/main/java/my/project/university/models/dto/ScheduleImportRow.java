@@ -0,0 +1,18 @@
+package my.project.university.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleImportRow {
+    public enum Status {
+        IMPORTED, INVALID, NOT_FOUND, CONFLICT
+    }
+
+    private int row;
+    private Status status;
+    private String message;
+}
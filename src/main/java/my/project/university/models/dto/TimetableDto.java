@@ -0,0 +1,17 @@
+package my.project.university.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimetableDto {
+    private String week;
+    private String firstDay;
+    private String lastDay;
+    private List<ScheduleDto> lessons;
+}
@@ -0,0 +1,14 @@
+package my.project.university.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UnscheduledLessons {
+    private Integer groupId;
+    private Integer courseId;
+    private int lessons;
+}
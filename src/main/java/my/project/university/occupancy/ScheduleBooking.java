@@ -0,0 +1,20 @@
+package my.project.university.occupancy;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleBooking {
+    private Integer scheduleId;
+    private LocalDate lessonDate;
+    private LocalTime lessonTime;
+    private Integer teacherId;
+    private Integer lectureHallId;
+    private Integer groupId;
+}
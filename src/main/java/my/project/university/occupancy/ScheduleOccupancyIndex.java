@@ -0,0 +1,275 @@
+package my.project.university.occupancy;
+
+import my.project.university.exceptions.ScheduleConflictException;
+import my.project.university.repository.ScheduleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class ScheduleOccupancyIndex {
+    private static final Logger LOG = LoggerFactory.getLogger(ScheduleOccupancyIndex.class);
+    private static final String RESOURCE_MESSAGE = "%s with id %d";
+    private static final String TEACHER_TABLE_NAME = "Teacher";
+    private static final String LECTUREHALL_TABLE_NAME = "LectureHall";
+    private static final String GROUP_TABLE_NAME = "Group";
+
+    private final ScheduleRepository scheduleRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<LocalDate, NavigableMap<LocalTime, Slot>> days = new HashMap<>();
+    private final Map<Integer, ScheduleBooking> bookings = new HashMap<>();
+    private volatile boolean loaded;
+
+    @Autowired
+    public ScheduleOccupancyIndex(ScheduleRepository scheduleRepository) {
+        this.scheduleRepository = scheduleRepository;
+    }
+
+    public void checkConflicts(ScheduleBooking booking) {
+        ensureLoaded();
+        List<String> conflicts;
+
+        lock.readLock().lock();
+        try {
+            conflicts = collectConflicts(booking);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!conflicts.isEmpty()) {
+            throw new ScheduleConflictException(conflicts, booking.getLessonDate(), booking.getLessonTime());
+        }
+    }
+
+    public List<ScheduleBooking> findBookings(LocalDate from, LocalDate to) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return bookings.values().stream()
+                    .filter(booking -> !booking.getLessonDate().isBefore(from) && !booking.getLessonDate().isAfter(to))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public BitSet findBusyLectureHalls(LocalDate date, LocalTime time) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Slot slot = findSlot(date, time);
+            return slot == null ? new BitSet() : (BitSet) slot.lectureHalls.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<LocalDateTime> findTeacherLessons(Integer teacherId, LocalDate from, LocalDate to) {
+        ensureLoaded();
+        Set<LocalDateTime> lessons = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                NavigableMap<LocalTime, Slot> day = days.get(date);
+                if (day == null) {
+                    continue;
+                }
+                for (Map.Entry<LocalTime, Slot> slot : day.entrySet()) {
+                    if (slot.getValue().teachers.get(teacherId)) {
+                        lessons.add(LocalDateTime.of(date, slot.getKey()));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return lessons;
+    }
+
+    public List<List<String>> findConflicts(List<ScheduleBooking> batch) {
+        ensureLoaded();
+        List<List<String>> result = new ArrayList<>(batch.size());
+        Map<LocalDate, NavigableMap<LocalTime, Slot>> pending = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            for (ScheduleBooking booking : batch) {
+                List<String> conflicts = collectConflicts(booking);
+                Slot pendingSlot = pending.computeIfAbsent(booking.getLessonDate(), date -> new TreeMap<>())
+                        .computeIfAbsent(booking.getLessonTime(), time -> new Slot());
+                if (pendingSlot.teachers.get(booking.getTeacherId())) {
+                    conflicts.add(String.format(RESOURCE_MESSAGE, TEACHER_TABLE_NAME, booking.getTeacherId()));
+                }
+                if (pendingSlot.lectureHalls.get(booking.getLectureHallId())) {
+                    conflicts.add(String.format(RESOURCE_MESSAGE, LECTUREHALL_TABLE_NAME, booking.getLectureHallId()));
+                }
+                if (pendingSlot.groups.get(booking.getGroupId())) {
+                    conflicts.add(String.format(RESOURCE_MESSAGE, GROUP_TABLE_NAME, booking.getGroupId()));
+                }
+                if (conflicts.isEmpty()) {
+                    pendingSlot.teachers.set(booking.getTeacherId());
+                    pendingSlot.lectureHalls.set(booking.getLectureHallId());
+                    pendingSlot.groups.set(booking.getGroupId());
+                }
+                result.add(conflicts);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    public void book(ScheduleBooking booking) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                if (loaded) {
+                    remove(booking.getScheduleId());
+                    add(booking);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void release(Integer scheduleId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(scheduleId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void invalidate() {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                loaded = false;
+                days.clear();
+                bookings.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                List<ScheduleBooking> all = scheduleRepository.findAllBookings();
+                all.forEach(this::add);
+                loaded = true;
+                LOG.info(String.format("Schedule occupancy index loaded with %d bookings", all.size()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<String> collectConflicts(ScheduleBooking booking) {
+        List<String> conflicts = new ArrayList<>();
+        Slot slot = findSlot(booking.getLessonDate(), booking.getLessonTime());
+        if (slot == null) {
+            return conflicts;
+        }
+        ScheduleBooking previous = booking.getScheduleId() == null ? null : bookings.get(booking.getScheduleId());
+
+        if (isTaken(slot.teachers, booking, previous, ScheduleBooking::getTeacherId)) {
+            conflicts.add(String.format(RESOURCE_MESSAGE, TEACHER_TABLE_NAME, booking.getTeacherId()));
+        }
+        if (isTaken(slot.lectureHalls, booking, previous, ScheduleBooking::getLectureHallId)) {
+            conflicts.add(String.format(RESOURCE_MESSAGE, LECTUREHALL_TABLE_NAME, booking.getLectureHallId()));
+        }
+        if (isTaken(slot.groups, booking, previous, ScheduleBooking::getGroupId)) {
+            conflicts.add(String.format(RESOURCE_MESSAGE, GROUP_TABLE_NAME, booking.getGroupId()));
+        }
+        return conflicts;
+    }
+
+    private boolean isTaken(BitSet resources, ScheduleBooking booking, ScheduleBooking previous,
+                            Function<ScheduleBooking, Integer> resource) {
+        Integer id = resource.apply(booking);
+        if (!resources.get(id)) {
+            return false;
+        }
+        return previous == null
+                || !previous.getLessonDate().equals(booking.getLessonDate())
+                || !previous.getLessonTime().equals(booking.getLessonTime())
+                || !resource.apply(previous).equals(id);
+    }
+
+    private Slot findSlot(LocalDate date, LocalTime time) {
+        NavigableMap<LocalTime, Slot> day = days.get(date);
+        return day == null ? null : day.get(time);
+    }
+
+    private void add(ScheduleBooking booking) {
+        Slot slot = days.computeIfAbsent(booking.getLessonDate(), date -> new TreeMap<>())
+                .computeIfAbsent(booking.getLessonTime(), time -> new Slot());
+        slot.teachers.set(booking.getTeacherId());
+        slot.lectureHalls.set(booking.getLectureHallId());
+        slot.groups.set(booking.getGroupId());
+        bookings.put(booking.getScheduleId(), booking);
+    }
+
+    private void remove(Integer scheduleId) {
+        ScheduleBooking booking = bookings.remove(scheduleId);
+        if (booking == null) {
+            return;
+        }
+        NavigableMap<LocalTime, Slot> day = days.get(booking.getLessonDate());
+        Slot slot = day.get(booking.getLessonTime());
+        slot.teachers.clear(booking.getTeacherId());
+        slot.lectureHalls.clear(booking.getLectureHallId());
+        slot.groups.clear(booking.getGroupId());
+        if (slot.isEmpty()) {
+            day.remove(booking.getLessonTime());
+        }
+        if (day.isEmpty()) {
+            days.remove(booking.getLessonDate());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static class Slot {
+        private final BitSet teachers = new BitSet();
+        private final BitSet lectureHalls = new BitSet();
+        private final BitSet groups = new BitSet();
+
+        private boolean isEmpty() {
+            return teachers.isEmpty() && lectureHalls.isEmpty() && groups.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package my.project.university.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("university.audit")
+@Data
+public class AuditProperties {
+    private boolean enabled = true;
+    private int bufferCapacity = 8192;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofMillis(200);
+}
@@ -0,0 +1,11 @@
+package my.project.university.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("university.long-requests")
+@Data
+public class LongRequestProperties {
+    private int poolSize = 4;
+    private int queueCapacity = 50;
+}
@@ -0,0 +1,13 @@
+package my.project.university.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("university.cache")
+@Data
+public class ReferenceCacheProperties {
+    private long maximumSize = 1000;
+    private Duration timeToLive = Duration.ofMinutes(10);
+}
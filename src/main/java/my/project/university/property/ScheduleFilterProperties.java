@@ -0,0 +1,11 @@
+package my.project.university.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("university.schedule-filter")
+@Data
+public class ScheduleFilterProperties {
+    private int maxPageSize = 50;
+    private long maxOffsetRows = 10_000;
+}
@@ -0,0 +1,24 @@
+package my.project.university.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@ConfigurationProperties("university.timetable-generation")
+@Data
+public class TimetableGenerationProperties {
+    @DateTimeFormat(pattern = "HH:mm")
+    private List<LocalTime> lessonTimes = new ArrayList<>(List.of(LocalTime.of(8, 0), LocalTime.of(9, 40),
+            LocalTime.of(11, 20), LocalTime.of(13, 30), LocalTime.of(15, 10), LocalTime.of(16, 50)));
+    private Set<DayOfWeek> workingDays = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+    private int maxDays = 366;
+    private int attempts = Runtime.getRuntime().availableProcessors();
+    private long seed;
+}
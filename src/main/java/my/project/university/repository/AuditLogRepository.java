@@ -0,0 +1,10 @@
+package my.project.university.repository;
+
+import my.project.university.audit.AuditEvent;
+
+import java.util.List;
+
+public interface AuditLogRepository {
+
+    void insertAll(List<AuditEvent> events);
+}
@@ -0,0 +1,35 @@
+package my.project.university.repository;
+
+import my.project.university.audit.AuditEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+public class AuditLogRepositoryImpl implements AuditLogRepository {
+    private static final String INSERT_QUERY = "insert into audit_log " +
+            "(occurred_at, actor, entity, action, details) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public AuditLogRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<AuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_QUERY, events, events.size(), (statement, event) -> {
+            statement.setTimestamp(1, Timestamp.from(event.getOccurredAt()));
+            statement.setString(2, event.getActor());
+            statement.setString(3, event.getEntity());
+            statement.setString(4, event.getAction());
+            statement.setString(5, event.getDetails());
+        });
+    }
+}
@@ -1,12 +1,30 @@
 package my.project.university.repository;
 
 import my.project.university.models.Group;
+import my.project.university.solver.CourseLoad;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface GroupRepository extends PagingAndSortingRepository<Group, Integer> {
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
     Optional<Group> findByDescription(String description);
+
+    List<Group> findAllByDescriptionIn(Collection<String> descriptions);
+
+    @Query("select concat(str(g.version), '.', coalesce(str(p.version), '0')) " +
+            "from Group g left join g.trainingProgram p where g.id = :id")
+    Optional<String> findVersionById(@Param("id") Integer id);
+
+    @Query("select new my.project.university.solver.CourseLoad(g.id, c.id, c.hours) " +
+            "from Group g join g.trainingProgram p join p.courses c")
+    List<CourseLoad> findCourseLoads();
 }
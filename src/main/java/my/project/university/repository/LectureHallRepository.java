@@ -1,10 +1,27 @@
 package my.project.university.repository;
 
 import my.project.university.models.LectureHall;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface LectureHallRepository extends PagingAndSortingRepository<LectureHall, Integer> {
+    @Query("select str(l.version) from LectureHall l where l.id = :id")
+    Optional<String> findVersionById(@Param("id") Integer id);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
+    List<LectureHall> findAllByOrderById();
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
+    List<LectureHall> findAllByHousingOrderById(Integer housing);
 
+    @Query("select l.id from LectureHall l order by l.id")
+    List<Integer> findAllIds();
 }
@@ -0,0 +1,18 @@
+package my.project.university.repository;
+
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface MyCourseRepository {
+    int addTeacher(Integer courseId, Integer teacherId);
+
+    int addTeachers(Integer courseId, Collection<Integer> teacherIds);
+
+    int deleteTeacher(Integer courseId, Integer teacherId);
+
+    int addTrainingProgram(Integer courseId, Integer programId);
+
+    int deleteTrainingProgram(Integer courseId, Integer programId);
+}
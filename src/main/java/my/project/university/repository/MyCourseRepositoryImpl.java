@@ -0,0 +1,96 @@
+package my.project.university.repository;
+
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Native statements on the course link tables. Every statement declares the link table it touches as its query
+ * space: without one Hibernate assumes a native update may have changed any table and clears every second level
+ * and query cache region.
+ */
+@Repository
+public class MyCourseRepositoryImpl implements MyCourseRepository {
+    private static final Logger LOG = LoggerFactory.getLogger(MyCourseRepositoryImpl.class);
+    private static final String COURSE_TEACHER = "course_teacher";
+    private static final String COURSE_TRAININGPROGRAM = "course_trainingProgram";
+
+    private static final String ADD_TEACHERS_QUERY = "insert into course_teacher (course_id, teacher_id) " +
+            "select c.id, t.id from courses c cross join teachers t " +
+            "where c.id = :courseId and t.id in (:teacherIds) " +
+            "and not exists (select 1 from course_teacher ct where ct.course_id = c.id and ct.teacher_id = t.id)";
+    private static final String DELETE_TEACHER_QUERY =
+            "delete from course_teacher where course_id = :courseId and teacher_id = :teacherId";
+    private static final String ADD_TRAININGPROGRAM_QUERY = "insert into course_trainingprogram (course_id, trainingprogram_id) " +
+            "select c.id, p.id from courses c cross join trainingProgram p " +
+            "where c.id = :courseId and p.id = :programId " +
+            "and not exists (select 1 from course_trainingprogram cp where cp.course_id = c.id and cp.trainingprogram_id = p.id)";
+    private static final String DELETE_TRAININGPROGRAM_QUERY =
+            "delete from course_trainingprogram where course_id = :courseId and trainingprogram_id = :programId";
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public MyCourseRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int addTeacher(Integer courseId, Integer teacherId) {
+        return addTeachers(courseId, List.of(teacherId));
+    }
+
+    @Override
+    public int addTeachers(Integer courseId, Collection<Integer> teacherIds) {
+        LOG.info(String.format("Method addTeachers with parameters %d, %s", courseId, teacherIds));
+
+        return update(ADD_TEACHERS_QUERY, COURSE_TEACHER)
+                .setParameter("courseId", courseId)
+                .setParameterList("teacherIds", teacherIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteTeacher(Integer courseId, Integer teacherId) {
+        LOG.info(String.format("Method deleteTeacher with parameters %d, %d", courseId, teacherId));
+
+        return update(DELETE_TEACHER_QUERY, COURSE_TEACHER)
+                .setParameter("courseId", courseId)
+                .setParameter("teacherId", teacherId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int addTrainingProgram(Integer courseId, Integer programId) {
+        LOG.info(String.format("Method addTrainingProgram with parameters %d, %d", courseId, programId));
+
+        return update(ADD_TRAININGPROGRAM_QUERY, COURSE_TRAININGPROGRAM)
+                .setParameter("courseId", courseId)
+                .setParameter("programId", programId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteTrainingProgram(Integer courseId, Integer programId) {
+        LOG.info(String.format("Method deleteTrainingProgram with parameters %d, %d", courseId, programId));
+
+        return update(DELETE_TRAININGPROGRAM_QUERY, COURSE_TRAININGPROGRAM)
+                .setParameter("courseId", courseId)
+                .setParameter("programId", programId)
+                .executeUpdate();
+    }
+
+    private NativeQuery<?> update(String query, String linkTable) {
+        // the statements read courses, teachers and programs that may still be pending in the persistence context
+        entityManager.flush();
+        return entityManager.createNativeQuery(query)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(linkTable);
+    }
+}
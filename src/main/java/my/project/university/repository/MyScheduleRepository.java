@@ -1,12 +1,32 @@
 package my.project.university.repository;
 
 import my.project.university.models.Schedule;
+import my.project.university.models.dto.ScheduleCursor;
+import my.project.university.models.dto.ScheduleFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface MyScheduleRepository {
-    List<Schedule> getScheduleByCriteria(Map<String, String> criteria);
+    Page<Schedule> getScheduleByCriteria(ScheduleFilter filter, Pageable pageable);
+
+    Slice<Schedule> getScheduleByCriteriaAfter(ScheduleFilter filter, ScheduleCursor after, int size);
+
+    Stream<Schedule> streamScheduleByCriteria(ScheduleFilter filter);
+
+    void insertAll(List<Schedule> schedules);
+
+    /**
+     * Inserts the rows like {@link #insertAll(List)}, but a row rejected by a database constraint is skipped instead of
+     * failing the whole batch. Has to run inside a transaction, the rows are isolated by savepoints.
+     *
+     * @return positions in {@code schedules} that were not inserted
+     */
+    Set<Integer> tryInsertAll(List<Schedule> schedules);
 }
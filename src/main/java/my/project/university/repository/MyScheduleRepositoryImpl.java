@@ -1,69 +1,306 @@
 package my.project.university.repository;
 
 import my.project.university.models.Schedule;
+import my.project.university.models.dto.ScheduleCursor;
+import my.project.university.models.dto.ScheduleFilter;
+import org.hibernate.jpa.QueryHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
-import javax.persistence.EntityManagerFactory;
-import javax.persistence.criteria.*;
-import java.time.LocalDate;
+import javax.persistence.TypedQuery;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Time;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
 
 @Repository
 public class MyScheduleRepositoryImpl implements MyScheduleRepository {
     private static final Logger LOG = LoggerFactory.getLogger(MyScheduleRepositoryImpl.class);
-    private final EntityManagerFactory entityManagerFactory;
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final String INSERT_QUERY = "insert into schedule " +
+            "(lesson_date, lesson_time, lectureHall_id, group_id, teacher_id, course_id) values (?, ?, ?, ?, ?, ?)";
+
+    private static final int GROUP_FILTER = 1;
+    private static final int TEACHER_FILTER = 1 << 1;
+    private static final int FROM_FILTER = 1 << 2;
+    private static final int TO_FILTER = 1 << 3;
+    private static final int LECTUREHALL_FILTER = 1 << 4;
+    private static final int COURSE_FILTER = 1 << 5;
+    private static final int FROM_TIME_FILTER = 1 << 6;
+    private static final int TO_TIME_FILTER = 1 << 7;
+    private static final String[] QUERIES = new String[1 << 8];
+    private static final String[] COUNT_QUERIES = new String[1 << 8];
+    private static final String[] KEYSET_QUERIES = new String[1 << 8];
+
+    private static final String SELECT_QUERY = "select s from Schedule s " +
+            "join fetch s.group g " +
+            "join fetch s.course c " +
+            "join fetch s.lectureHall l " +
+            "join fetch s.teacher t";
+    private static final String COUNT_QUERY = "select count(s) from Schedule s " +
+            "join s.group g " +
+            "join s.course c " +
+            "join s.lectureHall l " +
+            "join s.teacher t";
+    private static final String KEYSET_CONDITION = "(s.lessonDate > :lessonDate " +
+            "or (s.lessonDate = :lessonDate and s.lessonTime > :lessonTime) " +
+            "or (s.lessonDate = :lessonDate and s.lessonTime = :lessonTime and s.id > :id))";
+    private static final String KEYSET_ORDER = " order by s.lessonDate, s.lessonTime, s.id";
+    private static final String ID_PATH = "s.id";
+    private static final String UNKNOWN_SORT = "Schedules can not be sorted by %s";
+
+    // sortable properties are those of ScheduleDto, so clients sort by the names they receive
+    private static final Map<String, String> SORT_PATHS = Map.of(
+            "id", ID_PATH,
+            "lessonDate", "s.lessonDate",
+            "lessonTime", "s.lessonTime",
+            "lectureHallId", "l.id",
+            "groupDescription", "g.description",
+            "courseName", "c.name",
+            "teacherId", "t.id");
+
+    static {
+        for (int shape = 0; shape < QUERIES.length; shape++) {
+            List<String> conditions = new ArrayList<>();
+            if ((shape & GROUP_FILTER) != 0) {
+                conditions.add("g.description in :groupDescriptions");
+            }
+            if ((shape & TEACHER_FILTER) != 0) {
+                conditions.add("t.id in :teacherIds");
+            }
+            if ((shape & LECTUREHALL_FILTER) != 0) {
+                conditions.add("l.id in :lectureHallIds");
+            }
+            if ((shape & COURSE_FILTER) != 0) {
+                conditions.add("c.name in :courseNames");
+            }
+            if ((shape & FROM_FILTER) != 0) {
+                conditions.add("s.lessonDate >= :from");
+            }
+            if ((shape & TO_FILTER) != 0) {
+                conditions.add("s.lessonDate <= :to");
+            }
+            if ((shape & FROM_TIME_FILTER) != 0) {
+                conditions.add("s.lessonTime >= :fromTime");
+            }
+            if ((shape & TO_TIME_FILTER) != 0) {
+                conditions.add("s.lessonTime <= :toTime");
+            }
+            QUERIES[shape] = SELECT_QUERY + where(conditions);
+            COUNT_QUERIES[shape] = COUNT_QUERY + where(conditions);
+            conditions.add(KEYSET_CONDITION);
+            KEYSET_QUERIES[shape] = SELECT_QUERY + where(conditions) + KEYSET_ORDER;
+        }
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     @Autowired
-    public MyScheduleRepositoryImpl(EntityManagerFactory entityManagerFactory) {
-        this.entityManagerFactory = entityManagerFactory;
+    public MyScheduleRepositoryImpl(EntityManager entityManager, JdbcTemplate jdbcTemplate) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
-    public List<Schedule> getScheduleByCriteria(Map<String, String> criteria) {
-        LOG.info(String.format("Method getScheduleByCriteria with parameters %s", criteria));
-        String groupDescription = Optional.ofNullable(criteria.get("groupDescription")).orElse("");
-        String teacherId = Optional.ofNullable(criteria.get("teacherId")).orElse("");
-        String from = Optional.ofNullable(criteria.get("from")).orElse("");
-        String to = Optional.ofNullable(criteria.get("to")).orElse("");
+    public Page<Schedule> getScheduleByCriteria(ScheduleFilter filter, Pageable pageable) {
+        LOG.info(String.format("Method getScheduleByCriteria with parameters %s, %s", filter, pageable));
 
+        int shape = shape(filter);
+        TypedQuery<Schedule> query = bind(entityManager.createQuery(QUERIES[shape] + orderBy(pageable.getSort()),
+                Schedule.class), shape, filter);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(query.getResultList());
+        }
 
-        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        List<Schedule> content = query
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        // the count is only issued when the page alone does not tell the total
+        return PageableExecutionUtils.getPage(content, pageable, () ->
+                bind(entityManager.createQuery(COUNT_QUERIES[shape], Long.class), shape, filter).getSingleResult());
+    }
 
-        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Schedule> query = builder.createQuery(Schedule.class);
-        Root<Schedule> root = query.from(Schedule.class);
-        root.fetch("group");
-        root.fetch("course");
-        root.fetch("lectureHall");
-        root.fetch("teacher");
+    @Override
+    public Slice<Schedule> getScheduleByCriteriaAfter(ScheduleFilter filter, ScheduleCursor after, int size) {
+        LOG.info(String.format("Method getScheduleByCriteriaAfter with parameters %s, %s, %d", filter, after, size));
 
-        query.select(root);
+        int shape = shape(filter);
+        TypedQuery<Schedule> query;
+        if (after == null) {
+            query = entityManager.createQuery(QUERIES[shape] + KEYSET_ORDER, Schedule.class);
+        } else {
+            query = entityManager.createQuery(KEYSET_QUERIES[shape], Schedule.class)
+                    .setParameter("lessonDate", after.getLessonDate())
+                    .setParameter("lessonTime", after.getLessonTime())
+                    .setParameter("id", after.getId());
+        }
 
-        List<Predicate> predicates = new ArrayList<>();
-        if (!groupDescription.equals("")) {
-            predicates.add(builder.equal(root.get("group").get("description"), groupDescription));
+        // one extra row tells whether there is a next slice without a count query
+        List<Schedule> content = bind(query, shape, filter).setMaxResults(size + 1).getResultList();
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
         }
-        if (!teacherId.equals("")) {
-            predicates.add(builder.equal(root.get("teacher").get("id"), Integer.parseInt(teacherId)));
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public Stream<Schedule> streamScheduleByCriteria(ScheduleFilter filter) {
+        LOG.info(String.format("Method streamScheduleByCriteria with parameters %s", filter));
+
+        int shape = shape(filter);
+        return bind(entityManager.createQuery(QUERIES[shape], Schedule.class), shape, filter)
+                .setHint(QueryHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream()
+                .peek(entityManager::detach);
+    }
+
+    @Override
+    public void insertAll(List<Schedule> schedules) {
+        LOG.info(String.format("Method insertAll with %d schedules", schedules.size()));
+
+        jdbcTemplate.batchUpdate(INSERT_QUERY, schedules, INSERT_BATCH_SIZE, (statement, schedule) -> {
+            statement.setDate(1, Date.valueOf(schedule.getLessonDate()));
+            statement.setTime(2, Time.valueOf(schedule.getLessonTime()));
+            statement.setInt(3, schedule.getLectureHall().getId());
+            statement.setInt(4, schedule.getGroup().getId());
+            statement.setInt(5, schedule.getTeacher().getId());
+            statement.setInt(6, schedule.getCourse().getId());
+        });
+    }
+
+    @Override
+    public Set<Integer> tryInsertAll(List<Schedule> schedules) {
+        LOG.info(String.format("Method tryInsertAll with %d schedules", schedules.size()));
+
+        return jdbcTemplate.execute((ConnectionCallback<Set<Integer>>) connection -> {
+            Set<Integer> rejected = new TreeSet<>();
+            if (insertWithinSavepoint(connection, schedules)) {
+                return rejected;
+            }
+            // a concurrent insert took one of the slots, retry row by row so that only the clashing rows are lost
+            for (int i = 0; i < schedules.size(); i++) {
+                if (!insertWithinSavepoint(connection, List.of(schedules.get(i)))) {
+                    rejected.add(i);
+                }
+            }
+            return rejected;
+        });
+    }
+
+    private boolean insertWithinSavepoint(Connection connection, List<Schedule> schedules) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            insertAll(schedules);
+        } catch (DataIntegrityViolationException e) {
+            connection.rollback(savepoint);
+            return false;
         }
-        if (!from.equals("")) {
-            predicates.add(builder.greaterThanOrEqualTo(root.get("lessonDate"), LocalDate.parse(from)));
+        connection.releaseSavepoint(savepoint);
+        return true;
+    }
+
+    private static String orderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        boolean byId = false;
+        for (Sort.Order order : sort) {
+            String path = SORT_PATHS.get(order.getProperty());
+            if (path == null) {
+                throw new IllegalArgumentException(String.format(UNKNOWN_SORT, order.getProperty()));
+            }
+            byId |= ID_PATH.equals(path);
+            orders.add(path + (order.isAscending() ? " asc" : " desc"));
         }
-        if (!to.equals("")) {
-            predicates.add(builder.lessThanOrEqualTo(root.get("lessonDate"), LocalDate.parse(to)));
+        // rows with equal sort keys would otherwise move between pages
+        if (!byId) {
+            orders.add(ID_PATH);
         }
+        return " order by " + String.join(", ", orders);
+    }
 
-        query.where(predicates.toArray(Predicate[]::new));
+    private static int shape(ScheduleFilter filter) {
+        int shape = 0;
+        if (!filter.getGroupDescription().isEmpty()) {
+            shape |= GROUP_FILTER;
+        }
+        if (!filter.getTeacherId().isEmpty()) {
+            shape |= TEACHER_FILTER;
+        }
+        if (!filter.getLectureHallId().isEmpty()) {
+            shape |= LECTUREHALL_FILTER;
+        }
+        if (!filter.getCourseName().isEmpty()) {
+            shape |= COURSE_FILTER;
+        }
+        if (filter.getFrom() != null) {
+            shape |= FROM_FILTER;
+        }
+        if (filter.getTo() != null) {
+            shape |= TO_FILTER;
+        }
+        if (filter.getFromTime() != null) {
+            shape |= FROM_TIME_FILTER;
+        }
+        if (filter.getToTime() != null) {
+            shape |= TO_TIME_FILTER;
+        }
+        return shape;
+    }
 
-        return entityManager.createQuery(query).getResultStream().collect(Collectors.toList());
+    private static <T> TypedQuery<T> bind(TypedQuery<T> query, int shape, ScheduleFilter filter) {
+        if ((shape & GROUP_FILTER) != 0) {
+            query.setParameter("groupDescriptions", filter.getGroupDescription());
+        }
+        if ((shape & TEACHER_FILTER) != 0) {
+            query.setParameter("teacherIds", filter.getTeacherId());
+        }
+        if ((shape & LECTUREHALL_FILTER) != 0) {
+            query.setParameter("lectureHallIds", filter.getLectureHallId());
+        }
+        if ((shape & COURSE_FILTER) != 0) {
+            query.setParameter("courseNames", filter.getCourseName());
+        }
+        if ((shape & FROM_FILTER) != 0) {
+            query.setParameter("from", filter.getFrom());
+        }
+        if ((shape & TO_FILTER) != 0) {
+            query.setParameter("to", filter.getTo());
+        }
+        if ((shape & FROM_TIME_FILTER) != 0) {
+            query.setParameter("fromTime", filter.getFromTime());
+        }
+        if ((shape & TO_TIME_FILTER) != 0) {
+            query.setParameter("toTime", filter.getToTime());
+        }
+        return query;
     }
 }
-
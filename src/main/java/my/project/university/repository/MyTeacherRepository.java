@@ -0,0 +1,10 @@
+package my.project.university.repository;
+
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MyTeacherRepository {
+    int addCourse(Integer teacherId, Integer courseId);
+
+    int deleteCourse(Integer teacherId, Integer courseId);
+}
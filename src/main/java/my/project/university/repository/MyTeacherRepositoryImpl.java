@@ -0,0 +1,24 @@
+package my.project.university.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class MyTeacherRepositoryImpl implements MyTeacherRepository {
+    private final MyCourseRepositoryImpl courseLinks;
+
+    @Autowired
+    public MyTeacherRepositoryImpl(MyCourseRepositoryImpl courseLinks) {
+        this.courseLinks = courseLinks;
+    }
+
+    @Override
+    public int addCourse(Integer teacherId, Integer courseId) {
+        return courseLinks.addTeacher(courseId, teacherId);
+    }
+
+    @Override
+    public int deleteCourse(Integer teacherId, Integer courseId) {
+        return courseLinks.deleteTeacher(courseId, teacherId);
+    }
+}
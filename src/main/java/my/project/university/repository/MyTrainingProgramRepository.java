@@ -0,0 +1,10 @@
+package my.project.university.repository;
+
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MyTrainingProgramRepository {
+    int addCourse(Integer programId, Integer courseId);
+
+    int deleteCourse(Integer programId, Integer courseId);
+}
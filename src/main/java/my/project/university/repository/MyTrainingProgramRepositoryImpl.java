@@ -0,0 +1,24 @@
+package my.project.university.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class MyTrainingProgramRepositoryImpl implements MyTrainingProgramRepository {
+    private final MyCourseRepositoryImpl courseLinks;
+
+    @Autowired
+    public MyTrainingProgramRepositoryImpl(MyCourseRepositoryImpl courseLinks) {
+        this.courseLinks = courseLinks;
+    }
+
+    @Override
+    public int addCourse(Integer programId, Integer courseId) {
+        return courseLinks.addTrainingProgram(courseId, programId);
+    }
+
+    @Override
+    public int deleteCourse(Integer programId, Integer courseId) {
+        return courseLinks.deleteTrainingProgram(courseId, programId);
+    }
+}
@@ -1,14 +1,24 @@
 package my.project.university.repository;
 
 import my.project.university.models.Schedule;
+import my.project.university.models.dto.ScheduleDto;
+import my.project.university.occupancy.ScheduleBooking;
+import my.project.university.solver.CourseLoad;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ScheduleRepository extends PagingAndSortingRepository<Schedule, Integer>, MyScheduleRepository {
 
@@ -19,10 +29,55 @@ public interface ScheduleRepository extends PagingAndSortingRepository<Schedule,
             "join fetch  s.course")
     Iterable<Schedule> getAll();
 
+    @Query(value = "SELECT new my.project.university.occupancy.ScheduleBooking(" +
+            "s.id, s.lessonDate, s.lessonTime, s.teacher.id, s.lectureHall.id, s.group.id) " +
+            "from Schedule s")
+    List<ScheduleBooking> findAllBookings();
+
+    @Query("SELECT new my.project.university.solver.CourseLoad(s.group.id, s.course.id, count(s)) " +
+            "from Schedule s where s.lessonDate between :from and :to group by s.group.id, s.course.id")
+    List<CourseLoad> findCourseLoads(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @EntityGraph(attributePaths = {"group", "lectureHall", "course", "teacher"})
+    @Query("SELECT s from Schedule s where s.group.id = :groupId and s.lessonDate between :from and :to " +
+            "order by s.lessonDate, s.lessonTime, s.id")
+    List<Schedule> findGroupWeek(@Param("groupId") Integer groupId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @EntityGraph(attributePaths = {"group", "lectureHall", "course", "teacher"})
+    @Query("SELECT s from Schedule s where s.teacher.id = :teacherId and s.lessonDate between :from and :to " +
+            "order by s.lessonDate, s.lessonTime, s.id")
+    List<Schedule> findTeacherWeek(@Param("teacherId") Integer teacherId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
     @Query(value = "delete from Schedule s where s.id = :id")
     @Modifying
     void remove(Integer id);
 
     @EntityGraph(attributePaths = {"group", "lectureHall", "course", "teacher"})
     Page<Schedule> findAll(Pageable pageable);
+
+    @Query(value = "SELECT new my.project.university.models.dto.ScheduleDto(s.id, s.lessonDate, s.lessonTime, " +
+            "l.id, l.housing, l.floor, l.number, g.description, t.id, t.firstName, t.lastName, c.name) " +
+            "from Schedule s left join s.lectureHall l left join s.group g left join s.teacher t left join s.course c",
+            countQuery = "SELECT count(s) from Schedule s")
+    Page<ScheduleDto> findAllDto(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"group", "lectureHall", "course", "teacher"})
+    @Query(value = "SELECT s from Schedule s")
+    Slice<Schedule> findFirstSlice(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"group", "lectureHall", "course", "teacher"})
+    @Query(value = "SELECT s from Schedule s " +
+            "where s.lessonDate > :lessonDate " +
+            "or (s.lessonDate = :lessonDate and s.lessonTime > :lessonTime) " +
+            "or (s.lessonDate = :lessonDate and s.lessonTime = :lessonTime and s.id > :id)")
+    Slice<Schedule> findSliceAfter(@Param("lessonDate") LocalDate lessonDate,
+                                   @Param("lessonTime") LocalTime lessonTime,
+                                   @Param("id") Integer id,
+                                   Pageable pageable);
+
+    @Query("select concat(str(s.version), '.', str(g.version), '.', str(t.version), '.', " +
+            "str(c.version), '.', str(l.version)) " +
+            "from Schedule s join s.group g join s.teacher t join s.course c join s.lectureHall l " +
+            "where s.id = :id")
+    Optional<String> findVersionById(@Param("id") Integer id);
 }
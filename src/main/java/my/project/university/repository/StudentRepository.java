@@ -2,17 +2,45 @@ package my.project.university.repository;
 
 import my.project.university.models.Group;
 import my.project.university.models.Student;
+import my.project.university.models.dto.StudentDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface StudentRepository extends PagingAndSortingRepository<Student, Integer> {
 
     @EntityGraph(attributePaths = {"group"})
     Page<Student> findAll(Pageable pageable);
 
-    Page<Student> findAllByGroup(Group group, Pageable pageable);
+    @Query(value = "select new my.project.university.models.dto.StudentDto(s.id, s.firstName, s.lastName, g.description, g.id) " +
+            "from Student s left join s.group g",
+            countQuery = "select count(s) from Student s")
+    Page<StudentDto> findAllDto(Pageable pageable);
+
+    @Query(value = "select new my.project.university.models.dto.StudentDto(s.id, s.firstName, s.lastName, g.description, g.id) " +
+            "from Student s join s.group g where g = :group",
+            countQuery = "select count(s) from Student s where s.group = :group")
+    Page<StudentDto> findDtoByGroup(@Param("group") Group group, Pageable pageable);
+
+    @Query("select s.id from Student s where s.id in :ids")
+    List<Integer> findExistingIds(@Param("ids") Collection<Integer> ids);
+
+    @Query("update Student s set s.group = (select g from Group g where g.id = :groupId), s.version = s.version + 1 " +
+            "where s.id in :studentIds and exists (select g from Group g where g.id = :groupId)")
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    int moveToGroup(@Param("groupId") Integer groupId, @Param("studentIds") Collection<Integer> studentIds);
+
+    @Query("select concat(str(s.version), '.', coalesce(str(g.version), '0')) " +
+            "from Student s left join s.group g where s.id = :id")
+    Optional<String> findVersionById(@Param("id") Integer id);
 }
@@ -2,25 +2,29 @@ package my.project.university.repository;
 
 import my.project.university.models.Course;
 import my.project.university.models.Teacher;
+import my.project.university.models.dto.TeacherDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TeacherRepository extends PagingAndSortingRepository<Teacher, Integer> {
+public interface TeacherRepository extends PagingAndSortingRepository<Teacher, Integer>, MyTeacherRepository {
 
-    @Query("select t from Teacher t inner join t.courses c where c = :course")
-    Page<Teacher> findByCourse(@Param("course") Course course, Pageable pageable);
+    @Query("select t.id from Teacher t where t.id in :ids")
+    List<Integer> findExistingIds(@Param("ids") Collection<Integer> ids);
 
-    @Query(value = "insert into course_teacher (course_id, teacher_id) values (:courseId, :teacherId)", nativeQuery = true)
-    @Modifying(flushAutomatically = true)
-    int addCourse(@Param("teacherId") Integer teacherId, @Param("courseId")Integer courseId);
+    @Query(value = "select new my.project.university.models.dto.TeacherDto(t.id, t.firstName, t.lastName) " +
+            "from Teacher t inner join t.courses c where c = :course",
+            countQuery = "select count(t) from Teacher t inner join t.courses c where c = :course")
+    Page<TeacherDto> findDtoByCourse(@Param("course") Course course, Pageable pageable);
 
-    @Query(value = "delete from course_teacher where course_id = :courseId and teacher_id = :teacherId", nativeQuery = true)
-    @Modifying(flushAutomatically = true)
-    int deleteCourse(@Param("teacherId") Integer teacherId, @Param("courseId")Integer courseId);
+    @Query("select str(t.version) from Teacher t where t.id = :id")
+    Optional<String> findVersionById(@Param("id") Integer id);
 }
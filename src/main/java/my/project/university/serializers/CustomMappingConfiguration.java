@@ -3,14 +3,23 @@ package my.project.university.serializers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Page;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import java.text.SimpleDateFormat;
+import java.util.List;
 
 @Configuration
-public class CustomMappingConfiguration {
+public class CustomMappingConfiguration implements WebMvcConfigurer {
 
 
     @Bean
@@ -27,9 +36,33 @@ public class CustomMappingConfiguration {
 
     @Bean
     public ObjectMapper getCustomMapper(){
-        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        return configure(new ObjectMapper());
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter getJsonConverter() {
+        return new PrettyPrintingJsonConverter(getCustomMapper());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(getSmileConverter());
+        converters.add(getCborConverter());
+    }
+
+    private MappingJackson2SmileHttpMessageConverter getSmileConverter() {
+        SmileFactory factory = new SmileFactory().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        return new MappingJackson2SmileHttpMessageConverter(configure(new ObjectMapper(factory)));
+    }
+
+    private MappingJackson2CborHttpMessageConverter getCborConverter() {
+        return new MappingJackson2CborHttpMessageConverter(configure(new ObjectMapper(new CBORFactory())));
+    }
+
+    private ObjectMapper configure(ObjectMapper mapper) {
         mapper.registerModule(getSimpleModule());
-        mapper.setDateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:S z"));
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         return mapper;
     }
 }
@@ -0,0 +1,47 @@
+package my.project.university.serializers;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+public class PrettyPrintingJsonConverter extends MappingJackson2HttpMessageConverter {
+    private static final String PRETTY_PARAMETER = "pretty";
+
+    public PrettyPrintingJsonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (object instanceof MappingJacksonValue || !isPrettyRequested()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        ObjectWriter writer = getObjectMapper().writerWithDefaultPrettyPrinter();
+        JavaType javaType = type == null ? null : getJavaType(type, null);
+        if (javaType != null && javaType.isContainerType()) {
+            writer = writer.forType(javaType);
+        }
+        writer.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), object);
+    }
+
+    private boolean isPrettyRequested() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return false;
+        }
+        String pretty = ((ServletRequestAttributes) attributes).getRequest().getParameter(PRETTY_PARAMETER);
+        return pretty != null && !Boolean.FALSE.toString().equalsIgnoreCase(pretty);
+    }
+}
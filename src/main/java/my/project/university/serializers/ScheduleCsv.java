@@ -0,0 +1,17 @@
+package my.project.university.serializers;
+
+import lombok.Value;
+import my.project.university.models.dto.ScheduleDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows of an uploaded schedule CSV, one schedule per data row. Rows that could not be read keep their
+ * position with an empty schedule and are listed in {@code invalidRows} by row number, starting from 1.
+ */
+@Value
+public class ScheduleCsv {
+    List<ScheduleDto> schedules;
+    Map<Integer, String> invalidRows;
+}
@@ -0,0 +1,127 @@
+package my.project.university.serializers;
+
+import my.project.university.models.dto.ScheduleDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ScheduleCsvReader {
+    private static final String LESSON_DATE = "lessonDate";
+    private static final String LESSON_TIME = "lessonTime";
+    private static final String LECTUREHALL_ID = "lectureHallId";
+    private static final String GROUP_DESCRIPTION = "groupDescription";
+    private static final String TEACHER_ID = "teacherId";
+    private static final String COURSE_NAME = "courseName";
+    private static final List<String> REQUIRED_COLUMNS = List.of(LESSON_DATE, LESSON_TIME, LECTUREHALL_ID,
+            GROUP_DESCRIPTION, TEACHER_ID, COURSE_NAME);
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String MISSING_COLUMN_MESSAGE = "CSV header should contain column %s";
+    private static final String INVALID_ROW_MESSAGE = "CSV row %d is invalid: %s";
+    private static final String NOT_NUMBER_MESSAGE = "%s should be a number, was '%s'";
+
+    public ScheduleCsv read(Reader source) throws IOException {
+        BufferedReader reader = new BufferedReader(source);
+        String header = reader.readLine();
+        if (header == null) {
+            return new ScheduleCsv(new ArrayList<>(), new HashMap<>());
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = split(header, 0);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException(String.format(MISSING_COLUMN_MESSAGE, column));
+            }
+        }
+
+        List<ScheduleDto> schedules = new ArrayList<>();
+        Map<Integer, String> invalidRows = new HashMap<>();
+        String line;
+        int row = 0;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            try {
+                schedules.add(schedule(split(line, row), columns));
+            } catch (IllegalArgumentException e) {
+                schedules.add(new ScheduleDto());
+                invalidRows.put(row, e.getMessage());
+            }
+        }
+        return new ScheduleCsv(schedules, invalidRows);
+    }
+
+    private ScheduleDto schedule(List<String> values, Map<String, Integer> columns) {
+        ScheduleDto dto = new ScheduleDto();
+        dto.setLessonDate(value(values, columns.get(LESSON_DATE)));
+        dto.setLessonTime(value(values, columns.get(LESSON_TIME)));
+        dto.setLectureHallId(number(values, columns, LECTUREHALL_ID));
+        dto.setGroupDescription(value(values, columns.get(GROUP_DESCRIPTION)));
+        dto.setTeacherId(number(values, columns, TEACHER_ID));
+        dto.setCourseName(value(values, columns.get(COURSE_NAME)));
+        return dto;
+    }
+
+    private String value(List<String> values, int column) {
+        if (column >= values.size() || values.get(column).isEmpty()) {
+            return null;
+        }
+        return values.get(column);
+    }
+
+    private Integer number(List<String> values, Map<String, Integer> columns, String column) {
+        String value = value(values, columns.get(column));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(NOT_NUMBER_MESSAGE, column, value), e);
+        }
+    }
+
+    private List<String> split(String line, int row) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    value.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                values.add(value.toString().trim());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException(String.format(INVALID_ROW_MESSAGE, row, "unclosed quote"));
+        }
+        values.add(value.toString().trim());
+        return values;
+    }
+}
@@ -2,26 +2,34 @@ package my.project.university.services;
 
 
 import lombok.RequiredArgsConstructor;
+import my.project.university.audit.Audited;
 import my.project.university.exceptions.NotFoundEntityException;
 import my.project.university.mappers.CourseMapper;
-import my.project.university.mappers.TeacherMapper;
-import my.project.university.mappers.TrainingProgramMapper;
 import my.project.university.models.Course;
 import my.project.university.models.Teacher;
 import my.project.university.models.TrainingProgram;
 import my.project.university.models.dto.CourseDto;
 import my.project.university.models.dto.TeacherDto;
 import my.project.university.models.dto.TrainingProgramDto;
+import my.project.university.models.dto.Versioned;
+import my.project.university.occupancy.ScheduleOccupancyIndex;
 import my.project.university.repository.CourseRepository;
 import my.project.university.repository.TeacherRepository;
 import my.project.university.repository.TrainingProgramRepository;
 import my.project.university.services.interfaces.CourseService;
+import my.project.university.timetable.WeeklyTimetables;
+import my.project.university.versioning.EntityVersions;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -31,8 +39,8 @@ public class CourseServiceImpl implements CourseService {
     private final TrainingProgramRepository trainingProgramRepository;
 
     private final CourseMapper courseMapper;
-    private final TeacherMapper teacherMapper;
-    private final TrainingProgramMapper trainingProgramMapper;
+    private final ScheduleOccupancyIndex occupancyIndex;
+    private final WeeklyTimetables timetables;
 
 
     private static final String COURSE_TABLE_NAME = "Course";
@@ -43,6 +51,7 @@ public class CourseServiceImpl implements CourseService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public CourseDto findById(Integer id) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new NotFoundEntityException(COURSE_TABLE_NAME, id));
@@ -50,6 +59,7 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CourseDto findByName(String name) {
         Course course = courseRepository.findByName(name)
                 .orElseThrow(() -> new NotFoundEntityException(COURSE_TABLE_NAME, name));
@@ -57,121 +67,166 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CourseDto> findAll(Pageable pageable) {
         Page<Course> courses = courseRepository.findAll(pageable);
         return courses.map(courseMapper::toDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersion(Integer id) {
+        return courseRepository.findVersionById(id);
+    }
+
+    @Override
+    @Audited(COURSE_TABLE_NAME)
     public CourseDto saveOrUpdate(CourseDto courseDto) {
+        Integer version = courseDto.getId() == null ? null
+                : courseRepository.findVersionById(courseDto.getId()).map(EntityVersions::own).orElse(null);
+        return save(courseDto, version);
+    }
+
+    @Override
+    @Audited(COURSE_TABLE_NAME)
+    public Versioned<CourseDto> update(CourseDto courseDto, String expectedVersion) {
+        String current = courseRepository.findVersionById(courseDto.getId())
+                .orElseThrow(() -> new NotFoundEntityException(COURSE_TABLE_NAME, courseDto.getId()));
+        EntityVersions.checkMatch(COURSE_TABLE_NAME, courseDto.getId(), expectedVersion, current);
+
+        CourseDto updated = save(courseDto, EntityVersions.own(current));
+        // the version query flushes the update first, so it returns the incremented version
+        return new Versioned<>(updated, courseRepository.findVersionById(updated.getId()).orElse(current));
+    }
+
+    private CourseDto save(CourseDto courseDto, Integer version) {
         Course course = courseMapper.fromDto(courseDto);
+        if (version != null) {
+            course.setVersion(version);
+        }
         course = courseRepository.save(course);
+        if (courseDto.getId() != null) {
+            timetables.invalidate();
+        }
         return courseMapper.toDto(course);
     }
 
     @Override
+    @Audited(COURSE_TABLE_NAME)
     public void delete(int id) {
         try {
             courseRepository.deleteById(id);
+            occupancyIndex.invalidate();
+            timetables.invalidate();
         } catch (EmptyResultDataAccessException e) {
             throw new NotFoundEntityException(COURSE_TABLE_NAME, id, e);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TeacherDto> getTeachers(Integer id, Pageable pageable) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new NotFoundEntityException(COURSE_TABLE_NAME, id));
-        Page<Teacher> teachers = teacherRepository.findByCourse(course, pageable);
-        return teachers.map(teacherMapper::toDto);
+        return teacherRepository.findDtoByCourse(course, pageable);
     }
 
     @Override
+    @Audited(COURSE_TABLE_NAME)
     public void addTeacher(Integer courseId, Integer teacherId) {
-        if(!courseRepository.existsById(courseId)){
-            throw  new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
+        int result = courseRepository.addTeacher(courseId, teacherId);
+        if (result == 0) {
+            throw teacherRelationFailure(courseId, teacherId, ALREADY_EXISTS);
         }
+    }
 
-        if(!teacherRepository.existsById(teacherId)){
-            throw  new NotFoundEntityException(TEACHER_TABLE_NAME, teacherId);
+    @Override
+    @Audited(COURSE_TABLE_NAME)
+    public void addTeachers(Integer courseId, Collection<Integer> teacherIds) {
+        Set<Integer> ids = new TreeSet<>(teacherIds);
+        if (ids.isEmpty()) {
+            return;
         }
 
-        int result = courseRepository.addTeacher(courseId, teacherId);
-        if (result==0) {
-            throw new IllegalArgumentException(ALREADY_EXISTS);
+        int result = courseRepository.addTeachers(courseId, ids);
+        if (result == ids.size()) {
+            return;
         }
-    }
 
-    @Override
-    public void deleteTeacher(Integer courseId, Integer teacherId) {
-        if(!courseRepository.existsById(courseId)){
-            throw  new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
+        if (!courseRepository.existsById(courseId)) {
+            throw new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
         }
 
-        if(!teacherRepository.existsById(teacherId)){
-            throw  new NotFoundEntityException(TEACHER_TABLE_NAME, teacherId);
+        ids.removeAll(teacherRepository.findExistingIds(ids));
+        if (!ids.isEmpty()) {
+            throw new NotFoundEntityException(TEACHER_TABLE_NAME, ids.toString());
         }
+    }
 
+    @Override
+    @Audited(COURSE_TABLE_NAME)
+    public void deleteTeacher(Integer courseId, Integer teacherId) {
         int result = courseRepository.deleteTeacher(courseId, teacherId);
-        if (result==0) {
-            throw new IllegalArgumentException(NOT_EXISTS);
+        if (result == 0) {
+            throw teacherRelationFailure(courseId, teacherId, NOT_EXISTS);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TrainingProgramDto> getTrainingPrograms(Integer id, Pageable pageable) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new NotFoundEntityException(COURSE_TABLE_NAME, id));
-
-        Page<TrainingProgram> trainingPrograms = trainingProgramRepository.findByCourse(course, pageable);
-        return trainingPrograms.map(trainingProgramMapper::toDto);
+        return trainingProgramRepository.findDtoByCourse(course, pageable);
     }
 
     @Override
+    @Audited(COURSE_TABLE_NAME)
     public void addTrainingProgram(Integer courseId, Integer programId) {
-        if(!courseRepository.existsById(courseId)){
-            throw  new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
-        }
-
-        if(!trainingProgramRepository.existsById(programId)){
-            throw  new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, programId);
-        }
-
         int result = courseRepository.addTrainingProgram(courseId, programId);
-        if (result==0) {
-            throw new IllegalArgumentException(ALREADY_EXISTS);
+        if (result == 0) {
+            throw trainingProgramRelationFailure(courseId, programId, ALREADY_EXISTS);
         }
     }
 
     @Override
+    @Audited(COURSE_TABLE_NAME)
     public void addTrainingProgram(Integer courseId, String speciality) {
-        if(!courseRepository.existsById(courseId)){
-            throw  new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
-        }
-
         TrainingProgram trainingProgram = trainingProgramRepository.findBySpeciality(speciality)
                 .orElseThrow(()->new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, speciality));
 
         int result = courseRepository.addTrainingProgram(courseId, trainingProgram.getId());
-        if (result==0) {
-            throw new IllegalArgumentException(ALREADY_EXISTS);
+        if (result == 0) {
+            throw trainingProgramRelationFailure(courseId, trainingProgram.getId(), ALREADY_EXISTS);
         }
     }
 
     @Override
+    @Audited(COURSE_TABLE_NAME)
     public void deleteTrainingProgram(Integer courseId, Integer programId) {
-        if(!courseRepository.existsById(courseId)){
-            throw  new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
+        int result = courseRepository.deleteTrainingProgram(courseId, programId);
+        if (result == 0) {
+            throw trainingProgramRelationFailure(courseId, programId, NOT_EXISTS);
         }
+    }
 
-        if(!trainingProgramRepository.existsById(programId)){
-            throw  new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, programId);
+    private RuntimeException teacherRelationFailure(Integer courseId, Integer teacherId, String message) {
+        if (!courseRepository.existsById(courseId)) {
+            return new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
         }
-
-        int result = courseRepository.deleteTrainingProgram(courseId, programId);
-        if (result==0) {
-            throw new IllegalArgumentException(NOT_EXISTS);
+        if (!teacherRepository.existsById(teacherId)) {
+            return new NotFoundEntityException(TEACHER_TABLE_NAME, teacherId);
         }
+        return new IllegalArgumentException(message);
     }
 
+    private RuntimeException trainingProgramRelationFailure(Integer courseId, Integer programId, String message) {
+        if (!courseRepository.existsById(courseId)) {
+            return new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
+        }
+        if (!trainingProgramRepository.existsById(programId)) {
+            return new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, programId);
+        }
+        return new IllegalArgumentException(message);
+    }
 }
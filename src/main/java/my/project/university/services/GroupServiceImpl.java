@@ -2,22 +2,29 @@ package my.project.university.services;
 
 
 import lombok.RequiredArgsConstructor;
+import my.project.university.audit.Audited;
 import my.project.university.exceptions.NotFoundEntityException;
 import my.project.university.mappers.GroupMapper;
-import my.project.university.mappers.StudentMapper;
 import my.project.university.models.*;
 import my.project.university.models.dto.GroupDto;
 import my.project.university.models.dto.StudentDto;
+import my.project.university.models.dto.StudentTransferReport;
+import my.project.university.models.dto.Versioned;
+import my.project.university.occupancy.ScheduleOccupancyIndex;
 import my.project.university.repository.GroupRepository;
 import my.project.university.repository.StudentRepository;
 import my.project.university.repository.TrainingProgramRepository;
 import my.project.university.services.interfaces.GroupService;
+import my.project.university.timetable.WeeklyTimetables;
+import my.project.university.versioning.EntityVersions;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.*;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -25,14 +32,16 @@ public class GroupServiceImpl implements GroupService {
     private final GroupRepository groupRepository;
     private final TrainingProgramRepository trainingProgramRepository;
     private final StudentRepository studentRepository;
-    private final StudentMapper studentMapper;
     private final GroupMapper groupMapper;
+    private final ScheduleOccupancyIndex occupancyIndex;
+    private final WeeklyTimetables timetables;
 
     private static final String GROUP_TABLE_NAME = "Group";
     private static final String TRAININGPROGRAM_TABLE_NAME = "TrainingProgram";
     private static final String STUDENT_TABLE_NAME = "Student";
 
     @Override
+    @Transactional(readOnly = true)
     public GroupDto findById(Integer id) {
         Group group = groupRepository.findById(id)
                 .orElseThrow(() -> new NotFoundEntityException(GROUP_TABLE_NAME, id));
@@ -40,6 +49,7 @@ public class GroupServiceImpl implements GroupService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public GroupDto findByDescription(String description) {
         Group group = groupRepository.findByDescription(description)
                 .orElseThrow(() -> new NotFoundEntityException(GROUP_TABLE_NAME, description));
@@ -47,14 +57,42 @@ public class GroupServiceImpl implements GroupService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<GroupDto> findAll(Pageable pageable) {
         Page<Group> groups = groupRepository.findAll(pageable);
         return groups.map(groupMapper::toDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersion(Integer id) {
+        return groupRepository.findVersionById(id);
+    }
+
+    @Override
+    @Audited(GROUP_TABLE_NAME)
     public GroupDto saveOrUpdate(GroupDto groupDto) {
+        Integer version = groupDto.getId() == null ? null
+                : groupRepository.findVersionById(groupDto.getId()).map(EntityVersions::own).orElse(null);
+        return save(groupDto, version);
+    }
+
+    @Override
+    @Audited(GROUP_TABLE_NAME)
+    public Versioned<GroupDto> update(GroupDto groupDto, String expectedVersion) {
+        String current = groupRepository.findVersionById(groupDto.getId())
+                .orElseThrow(() -> new NotFoundEntityException(GROUP_TABLE_NAME, groupDto.getId()));
+        EntityVersions.checkMatch(GROUP_TABLE_NAME, groupDto.getId(), expectedVersion, current);
+
+        GroupDto updated = save(groupDto, EntityVersions.own(current));
+        return new Versioned<>(updated, groupRepository.findVersionById(updated.getId()).orElse(current));
+    }
+
+    private GroupDto save(GroupDto groupDto, Integer version) {
         Group group = groupMapper.fromDto(groupDto);
+        if (version != null) {
+            group.setVersion(version);
+        }
 
         TrainingProgram trainingProgram = trainingProgramRepository.findBySpeciality(groupDto.getTrainingProgram())
                 .orElseThrow(() -> new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, groupDto.getTrainingProgram()));
@@ -62,28 +100,35 @@ public class GroupServiceImpl implements GroupService {
         group.setTrainingProgram(trainingProgram);
 
         group = groupRepository.save(group);
+        if (groupDto.getId() != null) {
+            timetables.invalidate();
+        }
 
         return groupMapper.toDto(group);
     }
 
     @Override
+    @Audited(GROUP_TABLE_NAME)
     public void delete(Integer id) {
         try {
             groupRepository.deleteById(id);
+            occupancyIndex.invalidate();
+            timetables.invalidate();
         } catch (EmptyResultDataAccessException e) {
             throw new NotFoundEntityException(GROUP_TABLE_NAME, id, e);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<StudentDto> getStudents(Integer id, Pageable pageable) {
         Group group = groupRepository.findById(id)
                 .orElseThrow(() -> new NotFoundEntityException(GROUP_TABLE_NAME, id));
-        Page<Student> students = studentRepository.findAllByGroup(group, pageable);
-        return students.map(studentMapper::toDto);
+        return studentRepository.findDtoByGroup(group, pageable);
     }
 
     @Override
+    @Audited(GROUP_TABLE_NAME)
     public void addStudent(Integer groupId, Integer studentId) {
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new NotFoundEntityException(GROUP_TABLE_NAME, groupId));
@@ -92,4 +137,25 @@ public class GroupServiceImpl implements GroupService {
 
         student.setGroup(group);
     }
+
+    @Override
+    @Audited(GROUP_TABLE_NAME)
+    public StudentTransferReport addStudents(Integer groupId, Collection<Integer> studentIds) {
+        Set<Integer> ids = new TreeSet<>(studentIds);
+        if (ids.isEmpty()) {
+            return new StudentTransferReport(0, Collections.emptyList());
+        }
+
+        int moved = studentRepository.moveToGroup(groupId, ids);
+        if (moved == ids.size()) {
+            return new StudentTransferReport(moved, Collections.emptyList());
+        }
+
+        if (!groupRepository.existsById(groupId)) {
+            throw new NotFoundEntityException(GROUP_TABLE_NAME, groupId);
+        }
+
+        ids.removeAll(studentRepository.findExistingIds(ids));
+        return new StudentTransferReport(moved, new ArrayList<>(ids));
+    }
 }
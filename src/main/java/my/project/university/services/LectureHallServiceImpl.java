@@ -5,39 +5,89 @@ import my.project.university.exceptions.NotFoundEntityException;
 import my.project.university.models.Course;
 import my.project.university.models.LectureHall;
 import my.project.university.models.dto.CourseDto;
+import my.project.university.models.dto.Versioned;
+import my.project.university.occupancy.ScheduleOccupancyIndex;
 import my.project.university.repository.LectureHallRepository;
 import my.project.university.services.interfaces.LectureHallService;
+import my.project.university.timetable.WeeklyTimetables;
+import my.project.university.versioning.EntityVersions;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class LectureHallServiceImpl implements LectureHallService {
     private final LectureHallRepository lectureHallRepository;
+    private final ScheduleOccupancyIndex occupancyIndex;
+    private final WeeklyTimetables timetables;
 
     private static final String LECTUREHALL_TABLE_NAME = "LectureHall";
 
     @Override
+    @Transactional(readOnly = true)
     public LectureHall findById(Integer id) {
         return lectureHallRepository.findById(id)
                 .orElseThrow(() -> new NotFoundEntityException(LECTUREHALL_TABLE_NAME, id));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<LectureHall> findAll(Pageable pageable) {
         return lectureHallRepository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersion(Integer id) {
+        return lectureHallRepository.findVersionById(id);
+    }
+
     @Override
     public LectureHall saveOrUpdate(LectureHall lectureHall) {
+        Integer version = lectureHall.getId() == null ? null
+                : lectureHallRepository.findVersionById(lectureHall.getId()).map(EntityVersions::own).orElse(null);
+        return save(lectureHall, version);
+    }
+
+    @Override
+    public Versioned<LectureHall> update(LectureHall lectureHall, String expectedVersion) {
+        String current = lectureHallRepository.findVersionById(lectureHall.getId())
+                .orElseThrow(() -> new NotFoundEntityException(LECTUREHALL_TABLE_NAME, lectureHall.getId()));
+        EntityVersions.checkMatch(LECTUREHALL_TABLE_NAME, lectureHall.getId(), expectedVersion, current);
+
+        LectureHall updated = save(lectureHall, EntityVersions.own(current));
+        return new Versioned<>(updated, lectureHallRepository.findVersionById(updated.getId()).orElse(current));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LectureHall> findFree(LocalDate date, LocalTime time, Integer housing) {
+        List<LectureHall> lectureHalls = housing == null ? lectureHallRepository.findAllByOrderById()
+                : lectureHallRepository.findAllByHousingOrderById(housing);
+        BitSet busy = occupancyIndex.findBusyLectureHalls(date, time);
+        return lectureHalls.stream().filter(lectureHall -> !busy.get(lectureHall.getId())).collect(Collectors.toList());
+    }
+
+    private LectureHall save(LectureHall lectureHall, Integer version) {
         LectureHall adding = new LectureHall(lectureHall);
+        if (version != null) {
+            adding.setVersion(version);
+        }
+        if (lectureHall.getId() != null) {
+            timetables.invalidate();
+        }
         return lectureHallRepository.save(adding);
     }
 
@@ -45,6 +95,8 @@ public class LectureHallServiceImpl implements LectureHallService {
     public void delete(Integer id) {
         try {
             lectureHallRepository.deleteById(id);
+            occupancyIndex.invalidate();
+            timetables.invalidate();
         } catch (EmptyResultDataAccessException e) {
             throw new NotFoundEntityException(LECTUREHALL_TABLE_NAME, id, e);
         }
@@ -0,0 +1,114 @@
+package my.project.university.services;
+
+import lombok.RequiredArgsConstructor;
+import my.project.university.audit.Audited;
+import my.project.university.models.Course;
+import my.project.university.models.Group;
+import my.project.university.models.LectureHall;
+import my.project.university.models.Schedule;
+import my.project.university.models.Teacher;
+import my.project.university.models.dto.ScheduleGenerationReport;
+import my.project.university.models.dto.UnscheduledLessons;
+import my.project.university.occupancy.ScheduleBooking;
+import my.project.university.occupancy.ScheduleOccupancyIndex;
+import my.project.university.property.TimetableGenerationProperties;
+import my.project.university.repository.CourseRepository;
+import my.project.university.repository.GroupRepository;
+import my.project.university.repository.LectureHallRepository;
+import my.project.university.repository.ScheduleRepository;
+import my.project.university.services.interfaces.ScheduleGenerationService;
+import my.project.university.solver.CourseLoad;
+import my.project.university.solver.SlotGrid;
+import my.project.university.solver.TimetableProblem;
+import my.project.university.solver.TimetableSolution;
+import my.project.university.solver.TimetableSolver;
+import my.project.university.timetable.WeeklyTimetables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ScheduleGenerationServiceImpl implements ScheduleGenerationService {
+    private static final Logger LOG = LoggerFactory.getLogger(ScheduleGenerationServiceImpl.class);
+    private static final String SCHEDULE_TABLE_NAME = "Schedule";
+    private static final String INVALID_RANGE_MESSAGE = "Generation range %s - %s should be ordered and at most %d days long";
+    private static final String EMPTY_GRID_MESSAGE = "No lesson slots between %s and %s";
+
+    private final ScheduleRepository scheduleRepository;
+    private final GroupRepository groupRepository;
+    private final CourseRepository courseRepository;
+    private final LectureHallRepository lectureHallRepository;
+    private final ScheduleOccupancyIndex occupancyIndex;
+    private final WeeklyTimetables timetables;
+    private final TimetableGenerationProperties properties;
+
+    @Override
+    @Audited(SCHEDULE_TABLE_NAME)
+    public ScheduleGenerationReport generate(LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= properties.getMaxDays()) {
+            throw new IllegalArgumentException(String.format(INVALID_RANGE_MESSAGE, from, to, properties.getMaxDays()));
+        }
+        SlotGrid grid = new SlotGrid(from, to, properties.getWorkingDays(), properties.getLessonTimes());
+        if (grid.size() == 0) {
+            throw new IllegalArgumentException(String.format(EMPTY_GRID_MESSAGE, from, to));
+        }
+
+        TimetableProblem problem = buildProblem(grid, from, to);
+        long started = System.nanoTime();
+        TimetableSolution solution = new TimetableSolver(Math.max(1, properties.getAttempts()), properties.getSeed())
+                .solve(problem);
+        LOG.info(String.format("Timetable for %s - %s solved in %d ms: %d placed, %d unplaced",
+                from, to, (System.nanoTime() - started) / 1_000_000, solution.getPlaced(), solution.getUnplaced()));
+
+        List<Schedule> schedules = new ArrayList<>(solution.getPlaced());
+        solution.forEachPlaced((slot, groupId, courseId, teacherId, hallId) -> schedules.add(new Schedule(
+                grid.date(slot), grid.time(slot), new LectureHall(hallId, null, null, null), new Group(groupId),
+                new Teacher(teacherId, null, null), new Course(courseId, null, null))));
+        List<UnscheduledLessons> unscheduled = new ArrayList<>();
+        solution.forEachUnplaced((groupId, courseId, lessons) ->
+                unscheduled.add(new UnscheduledLessons(groupId, courseId, lessons)));
+
+        if (!schedules.isEmpty()) {
+            scheduleRepository.insertAll(schedules);
+            occupancyIndex.invalidate();
+            timetables.invalidate();
+        }
+        return new ScheduleGenerationReport(from, to, problem.getLessonCount(), schedules.size(), unscheduled);
+    }
+
+    private TimetableProblem buildProblem(SlotGrid grid, LocalDate from, LocalDate to) {
+        Map<Long, Integer> scheduled = new HashMap<>();
+        for (CourseLoad load : scheduleRepository.findCourseLoads(from, to)) {
+            scheduled.put(key(load.getGroupId(), load.getCourseId()), load.getLessons());
+        }
+
+        TimetableProblem.Builder builder = TimetableProblem.builder(grid);
+        for (CourseLoad load : groupRepository.findCourseLoads()) {
+            int done = scheduled.getOrDefault(key(load.getGroupId(), load.getCourseId()), 0);
+            builder.require(load.getGroupId(), load.getCourseId(), load.getLessons() - done);
+        }
+        courseRepository.findQualifications()
+                .forEach(qualification -> builder.qualify(qualification.getCourseId(), qualification.getTeacherId()));
+        lectureHallRepository.findAllIds().forEach(builder::hall);
+
+        for (ScheduleBooking booking : occupancyIndex.findBookings(from, to)) {
+            builder.book(grid.slot(booking.getLessonDate(), booking.getLessonTime()),
+                    booking.getGroupId(), booking.getTeacherId(), booking.getLectureHallId());
+        }
+        return builder.build();
+    }
+
+    private static long key(int groupId, int courseId) {
+        return (long) groupId << 32 | courseId & 0xFFFFFFFFL;
+    }
+}
@@ -2,21 +2,45 @@ package my.project.university.services;
 
 
 import lombok.RequiredArgsConstructor;
+import my.project.university.audit.Audited;
 import my.project.university.exceptions.NotFoundEntityException;
 import my.project.university.mappers.ScheduleMapper;
 import my.project.university.models.*;
+import my.project.university.models.dto.KeysetSlice;
+import my.project.university.models.dto.ScheduleCursor;
 import my.project.university.models.dto.ScheduleDto;
+import my.project.university.models.dto.ScheduleFilter;
+import my.project.university.models.dto.ScheduleImportReport;
+import my.project.university.models.dto.ScheduleImportRow;
+import my.project.university.models.dto.Versioned;
+import my.project.university.occupancy.ScheduleBooking;
+import my.project.university.occupancy.ScheduleOccupancyIndex;
+import my.project.university.property.ScheduleFilterProperties;
 import my.project.university.repository.*;
 import my.project.university.services.interfaces.ScheduleService;
+import my.project.university.timetable.WeeklyTimetables;
+import my.project.university.validation.OnCreate;
+import my.project.university.versioning.EntityVersions;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Map;
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Service
 @Transactional
@@ -28,14 +52,24 @@ public class ScheduleServiceImpl implements ScheduleService {
     private final TeacherRepository teacherRepository;
     private final LectureHallRepository lectureHallRepository;
     private final ScheduleMapper mapper;
+    private final ScheduleOccupancyIndex occupancyIndex;
+    private final WeeklyTimetables timetables;
+    private final Validator validator;
+    private final ScheduleFilterProperties filterProperties;
 
     private static final String LECTUREHALL_TABLE_NAME = "LectureHall";
     private static final String COURSE_TABLE_NAME = "Course";
     private static final String TEACHER_TABLE_NAME = "Teacher";
     private static final String GROUP_TABLE_NAME = "Group";
     private static final String SCHEDULE_TABLE_NAME = "Schedule";
+    private static final String NOT_FOUND_MESSAGE = "%s %s not found";
+    private static final String CONFLICT_MESSAGE = "%s already busy at %s %s";
+    private static final String CONCURRENT_CONFLICT_MESSAGE = "Slot at %s %s was taken by a concurrent change";
+    private static final String OFFSET_LIMIT_MESSAGE = "Pages past row %d are only available with the after cursor";
+    private static final Sort KEYSET_SORT = Sort.by("lessonDate", "lessonTime", "id").ascending();
 
     @Override
+    @Transactional(readOnly = true)
     public ScheduleDto findById(Integer id) {
         Schedule schedule = scheduleRepository.findById(id)
                 .orElseThrow(() -> new NotFoundEntityException(SCHEDULE_TABLE_NAME, id));
@@ -43,14 +77,51 @@ public class ScheduleServiceImpl implements ScheduleService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ScheduleDto> findAll(Pageable pageable) {
-        Page<Schedule> schedules = scheduleRepository.findAll(pageable);
-        return schedules.map(mapper::toDto);
+        return scheduleRepository.findAllDto(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetSlice<ScheduleDto> findAllAfter(ScheduleCursor after, int size) {
+        Pageable pageable = PageRequest.of(0, size, KEYSET_SORT);
+        Slice<Schedule> schedules = after == null
+                ? scheduleRepository.findFirstSlice(pageable)
+                : scheduleRepository.findSliceAfter(after.getLessonDate(), after.getLessonTime(), after.getId(), pageable);
+        return toKeysetSlice(schedules, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersion(Integer id) {
+        return scheduleRepository.findVersionById(id);
     }
 
     @Override
+    @Audited(SCHEDULE_TABLE_NAME)
     public ScheduleDto saveOrUpdate(ScheduleDto scheduleDto) {
+        Integer version = scheduleDto.getId() == null ? null
+                : scheduleRepository.findVersionById(scheduleDto.getId()).map(EntityVersions::own).orElse(null);
+        return save(scheduleDto, version);
+    }
+
+    @Override
+    @Audited(SCHEDULE_TABLE_NAME)
+    public Versioned<ScheduleDto> update(ScheduleDto scheduleDto, String expectedVersion) {
+        String current = scheduleRepository.findVersionById(scheduleDto.getId())
+                .orElseThrow(() -> new NotFoundEntityException(SCHEDULE_TABLE_NAME, scheduleDto.getId()));
+        EntityVersions.checkMatch(SCHEDULE_TABLE_NAME, scheduleDto.getId(), expectedVersion, current);
+
+        ScheduleDto updated = save(scheduleDto, EntityVersions.own(current));
+        return new Versioned<>(updated, scheduleRepository.findVersionById(updated.getId()).orElse(current));
+    }
+
+    private ScheduleDto save(ScheduleDto scheduleDto, Integer version) {
         Schedule schedule = mapper.fromDto(scheduleDto);
+        if (version != null) {
+            schedule.setVersion(version);
+        }
 
         Group group = groupRepository.findByDescription(scheduleDto.getGroupDescription())
                 .orElseThrow(() -> new NotFoundEntityException(GROUP_TABLE_NAME, scheduleDto.getGroupDescription()));
@@ -68,23 +139,185 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .orElseThrow(() -> new NotFoundEntityException(LECTUREHALL_TABLE_NAME, scheduleDto.getLectureHallId()));
         schedule.setLectureHall(lectureHall);
 
+        ScheduleBooking booking = new ScheduleBooking(schedule.getId(), schedule.getLessonDate(), schedule.getLessonTime(),
+                teacher.getId(), lectureHall.getId(), group.getId());
+        occupancyIndex.checkConflicts(booking);
+
         schedule = scheduleRepository.save(schedule);
+
+        booking.setScheduleId(schedule.getId());
+        occupancyIndex.book(booking);
+        timetables.refresh(booking);
         return mapper.toDto(schedule);
     }
 
     @Override
+    @Audited(SCHEDULE_TABLE_NAME)
     public void delete(Integer id) {
         try {
             scheduleRepository.remove(id);
+            occupancyIndex.release(id);
+            timetables.refresh(id);
         } catch (EmptyResultDataAccessException e) {
             throw new NotFoundEntityException(SCHEDULE_TABLE_NAME, id, e);
         }
     }
 
     @Override
-    public List<ScheduleDto> getScheduleByCriteria(Map<String, String> filters) {
-        List<Schedule> schedules = scheduleRepository.getScheduleByCriteria(filters);
-        return schedules.stream().map(mapper::toDto).collect(Collectors.toList());
+    @Audited(SCHEDULE_TABLE_NAME)
+    public ScheduleImportReport importSchedules(List<ScheduleDto> scheduleDtos) {
+        return importSchedules(scheduleDtos, Map.of());
+    }
+
+    @Override
+    @Audited(SCHEDULE_TABLE_NAME)
+    public ScheduleImportReport importSchedules(List<ScheduleDto> scheduleDtos, Map<Integer, String> invalidRows) {
+        Map<String, Group> groups = groupRepository.findAllByDescriptionIn(collect(scheduleDtos, ScheduleDto::getGroupDescription))
+                .stream().collect(Collectors.toMap(Group::getDescription, Function.identity()));
+        Map<String, Course> courses = courseRepository.findAllByNameIn(collect(scheduleDtos, ScheduleDto::getCourseName))
+                .stream().collect(Collectors.toMap(Course::getName, Function.identity()));
+        Map<Integer, Teacher> teachers = StreamSupport.stream(teacherRepository
+                .findAllById(collect(scheduleDtos, ScheduleDto::getTeacherId)).spliterator(), false)
+                .collect(Collectors.toMap(Teacher::getId, Function.identity()));
+        Map<Integer, LectureHall> lectureHalls = StreamSupport.stream(lectureHallRepository
+                .findAllById(collect(scheduleDtos, ScheduleDto::getLectureHallId)).spliterator(), false)
+                .collect(Collectors.toMap(LectureHall::getId, Function.identity()));
+
+        ScheduleImportRow[] rows = new ScheduleImportRow[scheduleDtos.size()];
+        List<Integer> resolvedRows = new ArrayList<>();
+        List<Schedule> resolved = new ArrayList<>();
+        List<ScheduleBooking> bookings = new ArrayList<>();
+
+        for (int i = 0; i < scheduleDtos.size(); i++) {
+            ScheduleDto dto = scheduleDtos.get(i);
+            String violations = invalidRows.containsKey(i + 1) ? invalidRows.get(i + 1) : validate(dto);
+            if (violations != null) {
+                rows[i] = new ScheduleImportRow(i + 1, ScheduleImportRow.Status.INVALID, violations);
+                continue;
+            }
+
+            Group group = groups.get(dto.getGroupDescription());
+            Course course = courses.get(dto.getCourseName());
+            Teacher teacher = teachers.get(dto.getTeacherId());
+            LectureHall lectureHall = lectureHalls.get(dto.getLectureHallId());
+
+            List<String> missing = new ArrayList<>();
+            if (group == null) {
+                missing.add(String.format(NOT_FOUND_MESSAGE, GROUP_TABLE_NAME, dto.getGroupDescription()));
+            }
+            if (course == null) {
+                missing.add(String.format(NOT_FOUND_MESSAGE, COURSE_TABLE_NAME, dto.getCourseName()));
+            }
+            if (teacher == null) {
+                missing.add(String.format(NOT_FOUND_MESSAGE, TEACHER_TABLE_NAME, dto.getTeacherId()));
+            }
+            if (lectureHall == null) {
+                missing.add(String.format(NOT_FOUND_MESSAGE, LECTUREHALL_TABLE_NAME, dto.getLectureHallId()));
+            }
+            if (!missing.isEmpty()) {
+                rows[i] = new ScheduleImportRow(i + 1, ScheduleImportRow.Status.NOT_FOUND, String.join(", ", missing));
+                continue;
+            }
+
+            Schedule schedule = mapper.fromDto(dto);
+            schedule.setGroup(group);
+            schedule.setCourse(course);
+            schedule.setTeacher(teacher);
+            schedule.setLectureHall(lectureHall);
+
+            resolvedRows.add(i);
+            resolved.add(schedule);
+            bookings.add(new ScheduleBooking(null, schedule.getLessonDate(), schedule.getLessonTime(),
+                    teacher.getId(), lectureHall.getId(), group.getId()));
+        }
+
+        List<List<String>> conflicts = occupancyIndex.findConflicts(bookings);
+        List<Integer> acceptedRows = new ArrayList<>();
+        List<Schedule> accepted = new ArrayList<>();
+        for (int j = 0; j < resolved.size(); j++) {
+            int i = resolvedRows.get(j);
+            Schedule schedule = resolved.get(j);
+            if (conflicts.get(j).isEmpty()) {
+                acceptedRows.add(i);
+                accepted.add(schedule);
+                rows[i] = new ScheduleImportRow(i + 1, ScheduleImportRow.Status.IMPORTED, null);
+            } else {
+                rows[i] = new ScheduleImportRow(i + 1, ScheduleImportRow.Status.CONFLICT, String.format(CONFLICT_MESSAGE,
+                        String.join(", ", conflicts.get(j)), schedule.getLessonDate(), schedule.getLessonTime()));
+            }
+        }
+
+        int imported = 0;
+        if (!accepted.isEmpty()) {
+            Set<Integer> rejected = scheduleRepository.tryInsertAll(accepted);
+            for (Integer j : rejected) {
+                int i = acceptedRows.get(j);
+                Schedule schedule = accepted.get(j);
+                rows[i] = new ScheduleImportRow(i + 1, ScheduleImportRow.Status.CONFLICT, String.format(
+                        CONCURRENT_CONFLICT_MESSAGE, schedule.getLessonDate(), schedule.getLessonTime()));
+            }
+            imported = accepted.size() - rejected.size();
+            occupancyIndex.invalidate();
+            timetables.invalidate();
+        }
+        return new ScheduleImportReport(imported, rows.length - imported, Arrays.asList(rows));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ScheduleDto> getScheduleByCriteria(ScheduleFilter filter, Pageable pageable) {
+        int size = pageable.isPaged() ? Math.min(pageable.getPageSize(), filterProperties.getMaxPageSize())
+                : filterProperties.getMaxPageSize();
+        Pageable bounded = PageRequest.of(pageable.isPaged() ? pageable.getPageNumber() : 0, size, pageable.getSort());
+        if (bounded.getOffset() + size > filterProperties.getMaxOffsetRows()) {
+            throw new IllegalArgumentException(String.format(OFFSET_LIMIT_MESSAGE, filterProperties.getMaxOffsetRows()));
+        }
+
+        Page<Schedule> schedules = scheduleRepository.getScheduleByCriteria(filter, bounded);
+        return schedules.map(mapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetSlice<ScheduleDto> getScheduleByCriteriaAfter(ScheduleFilter filter, ScheduleCursor after, int size) {
+        int bounded = Math.min(size, filterProperties.getMaxPageSize());
+        Slice<Schedule> schedules = scheduleRepository.getScheduleByCriteriaAfter(filter, after, bounded);
+        return toKeysetSlice(schedules, bounded);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamScheduleByCriteria(ScheduleFilter filter, Consumer<ScheduleDto> consumer) {
+        try (Stream<Schedule> schedules = scheduleRepository.streamScheduleByCriteria(filter)) {
+            schedules.map(mapper::toDto).forEach(consumer);
+        }
+    }
+
+    private KeysetSlice<ScheduleDto> toKeysetSlice(Slice<Schedule> schedules, int size) {
+        String next = null;
+        if (schedules.hasNext()) {
+            Schedule last = schedules.getContent().get(schedules.getNumberOfElements() - 1);
+            next = ScheduleCursor.of(last).encode();
+        }
+
+        List<ScheduleDto> content = schedules.getContent().stream().map(mapper::toDto).collect(Collectors.toList());
+        return new KeysetSlice<>(content, size, schedules.hasNext(), next);
+    }
+
+    private <T> Set<T> collect(List<ScheduleDto> scheduleDtos, Function<ScheduleDto, T> reference) {
+        return scheduleDtos.stream().map(reference).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private String validate(ScheduleDto dto) {
+        try {
+            Set<ConstraintViolation<ScheduleDto>> violations = validator.validate(dto, Default.class, OnCreate.class);
+            if (violations.isEmpty()) {
+                return null;
+            }
+            return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(","));
+        } catch (ValidationException e) {
+            return NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        }
     }
 }
 
@@ -6,9 +6,11 @@ import my.project.university.mappers.StudentMapper;
 import my.project.university.models.Group;
 import my.project.university.models.Student;
 import my.project.university.models.dto.StudentDto;
+import my.project.university.models.dto.Versioned;
 import my.project.university.repository.GroupRepository;
 import my.project.university.repository.StudentRepository;
 import my.project.university.services.interfaces.StudentService;
+import my.project.university.versioning.EntityVersions;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -31,6 +34,7 @@ public class StudentServiceImpl implements StudentService {
     private static final String STUDENT_TABLE_NAME = "Student";
 
     @Override
+    @Transactional(readOnly = true)
     public StudentDto findById(Integer id) {
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new NotFoundEntityException(STUDENT_TABLE_NAME, id));
@@ -38,14 +42,39 @@ public class StudentServiceImpl implements StudentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<StudentDto> findAll(Pageable pageable) {
-        Page<Student> students =studentRepository.findAll(pageable);
-        return students.map(mapper::toDto);
+        return studentRepository.findAllDto(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersion(Integer id) {
+        return studentRepository.findVersionById(id);
     }
 
     @Override
     public StudentDto saveOrUpdate(StudentDto studentDto) {
+        Integer version = studentDto.getId() == null ? null
+                : studentRepository.findVersionById(studentDto.getId()).map(EntityVersions::own).orElse(null);
+        return save(studentDto, version);
+    }
+
+    @Override
+    public Versioned<StudentDto> update(StudentDto studentDto, String expectedVersion) {
+        String current = studentRepository.findVersionById(studentDto.getId())
+                .orElseThrow(() -> new NotFoundEntityException(STUDENT_TABLE_NAME, studentDto.getId()));
+        EntityVersions.checkMatch(STUDENT_TABLE_NAME, studentDto.getId(), expectedVersion, current);
+
+        StudentDto updated = save(studentDto, EntityVersions.own(current));
+        return new Versioned<>(updated, studentRepository.findVersionById(updated.getId()).orElse(current));
+    }
+
+    private StudentDto save(StudentDto studentDto, Integer version) {
         Student student = mapper.fromDto(studentDto);
+        if (version != null) {
+            student.setVersion(version);
+        }
 
         Group group = groupRepository.findByDescription(studentDto.getGroupDescription())
                 .orElseThrow(() -> new NotFoundEntityException(GROUP_TABLE_NAME, studentDto.getGroupDescription()));
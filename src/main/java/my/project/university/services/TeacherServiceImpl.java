@@ -1,23 +1,36 @@
 package my.project.university.services;
 
 import lombok.RequiredArgsConstructor;
+import my.project.university.audit.Audited;
 import my.project.university.exceptions.NotFoundEntityException;
-import my.project.university.mappers.CourseMapper;
 import my.project.university.mappers.TeacherMapper;
 import my.project.university.models.Course;
 import my.project.university.models.Teacher;
 import my.project.university.models.dto.CourseDto;
+import my.project.university.models.dto.FreeSlot;
 import my.project.university.models.dto.TeacherDto;
+import my.project.university.models.dto.Versioned;
+import my.project.university.occupancy.ScheduleOccupancyIndex;
+import my.project.university.property.TimetableGenerationProperties;
 import my.project.university.repository.CourseRepository;
 import my.project.university.repository.TeacherRepository;
 import my.project.university.services.interfaces.TeacherService;
+import my.project.university.solver.SlotGrid;
+import my.project.university.timetable.WeeklyTimetables;
+import my.project.university.versioning.EntityVersions;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 
@@ -28,14 +41,18 @@ public class TeacherServiceImpl implements TeacherService {
     private final TeacherRepository teacherRepository;
     private final CourseRepository courseRepository;
     private final TeacherMapper teacherMapper;
-    private final CourseMapper courseMapper;
+    private final ScheduleOccupancyIndex occupancyIndex;
+    private final WeeklyTimetables timetables;
+    private final TimetableGenerationProperties lessonGrid;
 
     private static final String COURSE_TABLE_NAME = "Course";
     private static final String TEACHER_TABLE_NAME = "Teacher";
     private static final String NOT_EXISTS = "This relation is not exists";
     private static final String ALREADY_EXISTS = "This relation is already exists";
+    private static final String INVALID_RANGE_MESSAGE = "Range %s - %s should be ordered and at most %d days long";
 
     @Override
+    @Transactional(readOnly = true)
     public TeacherDto findById(Integer id) {
         Teacher teacher = teacherRepository.findById(id)
                 .orElseThrow(() -> new NotFoundEntityException(TEACHER_TABLE_NAME, id));
@@ -43,15 +60,65 @@ public class TeacherServiceImpl implements TeacherService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TeacherDto> findAll(Pageable pageable) {
         Page<Teacher> teachers = teacherRepository.findAll(pageable);
         return teachers.map(teacherMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersion(Integer id) {
+        return teacherRepository.findVersionById(id);
+    }
+
     @Override
     public TeacherDto saveOrUpdate(TeacherDto teacherDto) {
+        Integer version = teacherDto.getId() == null ? null
+                : teacherRepository.findVersionById(teacherDto.getId()).map(EntityVersions::own).orElse(null);
+        return save(teacherDto, version);
+    }
+
+    @Override
+    public Versioned<TeacherDto> update(TeacherDto teacherDto, String expectedVersion) {
+        String current = teacherRepository.findVersionById(teacherDto.getId())
+                .orElseThrow(() -> new NotFoundEntityException(TEACHER_TABLE_NAME, teacherDto.getId()));
+        EntityVersions.checkMatch(TEACHER_TABLE_NAME, teacherDto.getId(), expectedVersion, current);
+
+        TeacherDto updated = save(teacherDto, EntityVersions.own(current));
+        return new Versioned<>(updated, teacherRepository.findVersionById(updated.getId()).orElse(current));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FreeSlot> findFreeSlots(Integer teacherId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= lessonGrid.getMaxDays()) {
+            throw new IllegalArgumentException(String.format(INVALID_RANGE_MESSAGE, from, to, lessonGrid.getMaxDays()));
+        }
+        if (teacherRepository.findById(teacherId).isEmpty()) {
+            throw new NotFoundEntityException(TEACHER_TABLE_NAME, teacherId);
+        }
+
+        Set<LocalDateTime> lessons = occupancyIndex.findTeacherLessons(teacherId, from, to);
+        SlotGrid grid = new SlotGrid(from, to, lessonGrid.getWorkingDays(), lessonGrid.getLessonTimes());
+        List<FreeSlot> freeSlots = new ArrayList<>();
+        for (int slot = 0; slot < grid.size(); slot++) {
+            if (!lessons.contains(LocalDateTime.of(grid.date(slot), grid.time(slot)))) {
+                freeSlots.add(new FreeSlot(grid.date(slot), grid.time(slot)));
+            }
+        }
+        return freeSlots;
+    }
+
+    private TeacherDto save(TeacherDto teacherDto, Integer version) {
         Teacher teacher = teacherMapper.fromDto(teacherDto);
+        if (version != null) {
+            teacher.setVersion(version);
+        }
         teacher = teacherRepository.save(teacher);
+        if (teacherDto.getId() != null) {
+            timetables.invalidate();
+        }
         return teacherMapper.toDto(teacher);
     }
 
@@ -59,65 +126,58 @@ public class TeacherServiceImpl implements TeacherService {
     public void delete(Integer id) {
         try {
             teacherRepository.deleteById(id);
+            occupancyIndex.invalidate();
+            timetables.invalidate();
         } catch (EmptyResultDataAccessException e) {
             throw new NotFoundEntityException(TEACHER_TABLE_NAME, id, e);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CourseDto> getCourses(Integer teacherId, Pageable pageable) {
         Teacher teacher = teacherRepository.findById(teacherId)
                 .orElseThrow(() -> new NotFoundEntityException(TEACHER_TABLE_NAME, teacherId));
 
-        Page<Course> courses = courseRepository.findByTeacher(teacher, pageable);
-        return courses.map(courseMapper::toDto);
+        return courseRepository.findDtoByTeacher(teacher, pageable);
     }
 
     @Override
+    @Audited(TEACHER_TABLE_NAME)
     public void addCourse(Integer teacherId, Integer courseId) {
-        if (!teacherRepository.existsById(teacherId)) {
-            throw new NotFoundEntityException(TEACHER_TABLE_NAME, teacherId);
-        }
-
-        if(!courseRepository.existsById(courseId)){
-            throw  new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
-        }
-
         int result = teacherRepository.addCourse(teacherId, courseId);
         if (result == 0) {
-            throw new IllegalArgumentException(ALREADY_EXISTS);
+            throw relationFailure(teacherId, courseId, ALREADY_EXISTS);
         }
     }
 
     @Override
+    @Audited(TEACHER_TABLE_NAME)
     public void addCourse(Integer teacherId, String courseName) {
-        if (!teacherRepository.existsById(teacherId)) {
-            throw new NotFoundEntityException(TEACHER_TABLE_NAME, teacherId);
-        }
-
         Course course = courseRepository.findByName(courseName).orElseThrow(()->new NotFoundEntityException(COURSE_TABLE_NAME, courseName));
 
-
         int result = teacherRepository.addCourse(teacherId, course.getId());
         if (result == 0) {
-            throw new IllegalArgumentException(ALREADY_EXISTS);
+            throw relationFailure(teacherId, course.getId(), ALREADY_EXISTS);
         }
     }
 
     @Override
+    @Audited(TEACHER_TABLE_NAME)
     public void deleteCourse(Integer teacherId, Integer courseId) {
-        if (!teacherRepository.existsById(teacherId)) {
-            throw new NotFoundEntityException(TEACHER_TABLE_NAME, teacherId);
-        }
-
-        if(!courseRepository.existsById(courseId)){
-            throw  new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
-        }
-
         int result = teacherRepository.deleteCourse(teacherId, courseId);
         if (result == 0) {
-            throw new IllegalArgumentException(NOT_EXISTS);
+            throw relationFailure(teacherId, courseId, NOT_EXISTS);
         }
     }
 
+    private RuntimeException relationFailure(Integer teacherId, Integer courseId, String message) {
+        if (!teacherRepository.existsById(teacherId)) {
+            return new NotFoundEntityException(TEACHER_TABLE_NAME, teacherId);
+        }
+        if (!courseRepository.existsById(courseId)) {
+            return new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
+        }
+        return new IllegalArgumentException(message);
+    }
 }
@@ -0,0 +1,98 @@
+package my.project.university.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import my.project.university.exceptions.NotFoundEntityException;
+import my.project.university.mappers.ScheduleMapper;
+import my.project.university.models.Schedule;
+import my.project.university.models.dto.ScheduleDto;
+import my.project.university.models.dto.TimetableDto;
+import my.project.university.repository.GroupRepository;
+import my.project.university.repository.ScheduleRepository;
+import my.project.university.repository.TeacherRepository;
+import my.project.university.services.interfaces.TimetableService;
+import my.project.university.timetable.MaterializedTimetable;
+import my.project.university.timetable.TimetableKey;
+import my.project.university.timetable.TimetableRenderer;
+import my.project.university.timetable.WeeklyTimetables;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.IsoFields;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// No class level transaction: a materialized week is served without checking out a connection
+@Service
+@RequiredArgsConstructor
+public class TimetableServiceImpl implements TimetableService, TimetableRenderer {
+    private final ScheduleRepository scheduleRepository;
+    private final GroupRepository groupRepository;
+    private final TeacherRepository teacherRepository;
+    private final ScheduleMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final WeeklyTimetables timetables;
+
+    private static final String GROUP_TABLE_NAME = "Group";
+    private static final String TEACHER_TABLE_NAME = "Teacher";
+    private static final String WEEK_FORMAT = "%d-W%02d";
+    private static final String INVALID_WEEK_MESSAGE = "Week should be ISO week like 2020-W01";
+
+    @Override
+    public MaterializedTimetable getGroupWeek(Integer groupId, String isoWeek) {
+        TimetableKey key = new TimetableKey(TimetableKey.Owner.GROUP, groupId, parseWeek(isoWeek));
+        return timetables.get(key, () -> render(key));
+    }
+
+    @Override
+    public MaterializedTimetable getTeacherWeek(Integer teacherId, String isoWeek) {
+        TimetableKey key = new TimetableKey(TimetableKey.Owner.TEACHER, teacherId, parseWeek(isoWeek));
+        return timetables.get(key, () -> render(key));
+    }
+
+    // called after a schedule write has committed, so it needs a transaction of its own on the primary
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public MaterializedTimetable render(TimetableKey key) {
+        LocalDate firstDay = key.getFirstDay();
+        LocalDate lastDay = firstDay.plusDays(6);
+        if (key.getOwner() == TimetableKey.Owner.GROUP) {
+            if (!groupRepository.existsById(key.getOwnerId())) {
+                throw new NotFoundEntityException(GROUP_TABLE_NAME, key.getOwnerId());
+            }
+            return materialize(firstDay, scheduleRepository.findGroupWeek(key.getOwnerId(), firstDay, lastDay));
+        }
+        if (!teacherRepository.existsById(key.getOwnerId())) {
+            throw new NotFoundEntityException(TEACHER_TABLE_NAME, key.getOwnerId());
+        }
+        return materialize(firstDay, scheduleRepository.findTeacherWeek(key.getOwnerId(), firstDay, lastDay));
+    }
+
+    private LocalDate parseWeek(String isoWeek) {
+        try {
+            return LocalDate.parse(isoWeek + "-1", DateTimeFormatter.ISO_WEEK_DATE);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(INVALID_WEEK_MESSAGE, e);
+        }
+    }
+
+    private MaterializedTimetable materialize(LocalDate firstDay, List<Schedule> schedules) {
+        String week = String.format(WEEK_FORMAT, firstDay.get(IsoFields.WEEK_BASED_YEAR), firstDay.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+        List<ScheduleDto> lessons = schedules.stream().map(mapper::toDto).collect(Collectors.toList());
+        Set<Integer> scheduleIds = schedules.stream().map(Schedule::getId).collect(Collectors.toSet());
+
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(new TimetableDto(week, firstDay.toString(), firstDay.plusDays(6).toString(), lessons));
+            return new MaterializedTimetable(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", scheduleIds);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package my.project.university.services;
 
 import lombok.RequiredArgsConstructor;
-import my.project.university.mappers.CourseMapper;
+import my.project.university.audit.Audited;
 import my.project.university.models.Course;
 import my.project.university.models.Teacher;
 import my.project.university.models.dto.CourseDto;
@@ -11,13 +11,17 @@ import my.project.university.exceptions.NotFoundEntityException;
 import my.project.university.mappers.TrainingProgramMapper;
 import my.project.university.models.TrainingProgram;
 import my.project.university.models.dto.TrainingProgramDto;
+import my.project.university.models.dto.Versioned;
 import my.project.university.services.interfaces.TrainingProgramService;
+import my.project.university.versioning.EntityVersions;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -26,7 +30,6 @@ public class TrainingProgramServiceImpl implements TrainingProgramService {
     private final TrainingProgramRepository trainingProgramRepository;
     private final CourseRepository courseRepository;
     private final TrainingProgramMapper mapper;
-    private final CourseMapper courseMapper;
 
     private static final String TRAININGPROGRAM_TABLE_NAME = "TrainingProgram";
     private static final String COURSE_TABLE_NAME = "Course";
@@ -34,6 +37,7 @@ public class TrainingProgramServiceImpl implements TrainingProgramService {
     private static final String ALREADY_EXISTS = "This relation is already exists";
 
     @Override
+    @Transactional(readOnly = true)
     public TrainingProgramDto findById(Integer id) {
         TrainingProgram trainingProgram = trainingProgramRepository.findById(id)
                 .orElseThrow(() -> new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, id));
@@ -41,6 +45,7 @@ public class TrainingProgramServiceImpl implements TrainingProgramService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TrainingProgramDto findBySpeciality(String speciality) {
         TrainingProgram trainingProgram = trainingProgramRepository.findBySpeciality(speciality)
                 .orElseThrow(() -> new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, speciality));
@@ -48,14 +53,40 @@ public class TrainingProgramServiceImpl implements TrainingProgramService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TrainingProgramDto> findAll(Pageable pageable) {
         Page<TrainingProgram> trainingPrograms = trainingProgramRepository.findAll(pageable);
         return trainingPrograms.map(mapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findVersion(Integer id) {
+        return trainingProgramRepository.findVersionById(id);
+    }
+
     @Override
     public TrainingProgramDto saveOrUpdate(TrainingProgramDto trainingProgramDto) {
+        Integer version = trainingProgramDto.getId() == null ? null
+                : trainingProgramRepository.findVersionById(trainingProgramDto.getId()).map(EntityVersions::own).orElse(null);
+        return save(trainingProgramDto, version);
+    }
+
+    @Override
+    public Versioned<TrainingProgramDto> update(TrainingProgramDto trainingProgramDto, String expectedVersion) {
+        String current = trainingProgramRepository.findVersionById(trainingProgramDto.getId())
+                .orElseThrow(() -> new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, trainingProgramDto.getId()));
+        EntityVersions.checkMatch(TRAININGPROGRAM_TABLE_NAME, trainingProgramDto.getId(), expectedVersion, current);
+
+        TrainingProgramDto updated = save(trainingProgramDto, EntityVersions.own(current));
+        return new Versioned<>(updated, trainingProgramRepository.findVersionById(updated.getId()).orElse(current));
+    }
+
+    private TrainingProgramDto save(TrainingProgramDto trainingProgramDto, Integer version) {
         TrainingProgram trainingProgram = mapper.fromDto(trainingProgramDto);
+        if (version != null) {
+            trainingProgram.setVersion(version);
+        }
         trainingProgram = trainingProgramRepository.save(trainingProgram);
         return mapper.toDto(trainingProgram);
     }
@@ -70,59 +101,50 @@ public class TrainingProgramServiceImpl implements TrainingProgramService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<CourseDto> getCourses(Integer id, Pageable pageable) {
         TrainingProgram trainingProgram = trainingProgramRepository.findById(id)
                 .orElseThrow(() -> new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, id));
 
-        Page<Course> courses = courseRepository.findByProgram(trainingProgram, pageable);
-        return courses.map(courseMapper::toDto);
+        return courseRepository.findDtoByProgram(trainingProgram, pageable);
     }
 
     @Override
+    @Audited(TRAININGPROGRAM_TABLE_NAME)
     public void addCourse(Integer programId, Integer courseId) {
-        if(!trainingProgramRepository.existsById(programId)){
-            throw  new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, programId);
-        }
-
-        if(!courseRepository.existsById(courseId)){
-            throw  new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
-        }
-
-
         int result = trainingProgramRepository.addCourse(programId, courseId);
-        if (result==0) {
-            throw new IllegalArgumentException(ALREADY_EXISTS);
+        if (result == 0) {
+            throw relationFailure(programId, courseId, ALREADY_EXISTS);
         }
     }
 
     @Override
+    @Audited(TRAININGPROGRAM_TABLE_NAME)
     public void addCourse(Integer programId, String courseName) {
-        if(!trainingProgramRepository.existsById(programId)){
-            throw  new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, programId);
-        }
-
-        Course course = courseRepository.findByName(courseName).orElseThrow(()-> new NotFoundEntityException(COURSE_TABLE_NAME, courseName));
+        Course course = courseRepository.findByName(courseName).orElseThrow(()->new NotFoundEntityException(COURSE_TABLE_NAME, courseName));
 
         int result = trainingProgramRepository.addCourse(programId, course.getId());
-        if (result==0) {
-            throw new IllegalArgumentException(ALREADY_EXISTS);
+        if (result == 0) {
+            throw relationFailure(programId, course.getId(), ALREADY_EXISTS);
         }
     }
 
     @Override
+    @Audited(TRAININGPROGRAM_TABLE_NAME)
     public void deleteCourse(Integer programId, Integer courseId) {
-        if(!trainingProgramRepository.existsById(programId)){
-            throw  new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, programId);
+        int result = trainingProgramRepository.deleteCourse(programId, courseId);
+        if (result == 0) {
+            throw relationFailure(programId, courseId, NOT_EXISTS);
         }
+    }
 
-        if(!courseRepository.existsById(courseId)){
-            throw  new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
+    private RuntimeException relationFailure(Integer programId, Integer courseId, String message) {
+        if (!trainingProgramRepository.existsById(programId)) {
+            return new NotFoundEntityException(TRAININGPROGRAM_TABLE_NAME, programId);
         }
-
-
-        int result = trainingProgramRepository.deleteCourse(programId, courseId);
-        if (result==0) {
-            throw new IllegalArgumentException(NOT_EXISTS);
+        if (!courseRepository.existsById(courseId)) {
+            return new NotFoundEntityException(COURSE_TABLE_NAME, courseId);
         }
+        return new IllegalArgumentException(message);
     }
 }
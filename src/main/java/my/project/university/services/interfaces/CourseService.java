@@ -3,10 +3,12 @@ package my.project.university.services.interfaces;
 import my.project.university.models.dto.CourseDto;
 import my.project.university.models.dto.TeacherDto;
 import my.project.university.models.dto.TrainingProgramDto;
+import my.project.university.models.dto.Versioned;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Optional;
 
 public interface CourseService {
     CourseDto findById(Integer id);
@@ -15,8 +17,12 @@ public interface CourseService {
 
     Page<CourseDto> findAll(Pageable pageable);
 
+    Optional<String> findVersion(Integer id);
+
     CourseDto saveOrUpdate(CourseDto courseDto);
 
+    Versioned<CourseDto> update(CourseDto courseDto, String expectedVersion);
+
     void delete(int id);
 
     Page<TeacherDto> getTeachers(Integer id, Pageable pageable);
@@ -25,6 +31,8 @@ public interface CourseService {
 
     void addTeacher(Integer courseId, Integer teacherId);
 
+    void addTeachers(Integer courseId, Collection<Integer> teacherIds);
+
     Page<TrainingProgramDto> getTrainingPrograms(Integer id, Pageable pageable);
 
     void addTrainingProgram(Integer courseId, Integer programId);
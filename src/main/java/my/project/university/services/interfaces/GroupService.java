@@ -2,9 +2,14 @@ package my.project.university.services.interfaces;
 
 import my.project.university.models.dto.GroupDto;
 import my.project.university.models.dto.StudentDto;
+import my.project.university.models.dto.StudentTransferReport;
+import my.project.university.models.dto.Versioned;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.Optional;
+
 public interface GroupService {
     GroupDto findById(Integer id);
 
@@ -12,11 +17,17 @@ public interface GroupService {
 
     Page<GroupDto> findAll(Pageable pageable);
 
+    Optional<String> findVersion(Integer id);
+
     GroupDto saveOrUpdate(GroupDto groupDto);
 
+    Versioned<GroupDto> update(GroupDto groupDto, String expectedVersion);
+
     void delete(Integer groupId);
 
     Page<StudentDto> getStudents(Integer id, Pageable pageable);
 
     void addStudent(Integer groupId, Integer studentId);
+
+    StudentTransferReport addStudents(Integer groupId, Collection<Integer> studentIds);
 }
@@ -1,15 +1,27 @@
 package my.project.university.services.interfaces;
 
 import my.project.university.models.LectureHall;
+import my.project.university.models.dto.Versioned;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
 public interface LectureHallService {
     LectureHall findById(Integer id);
 
     Page<LectureHall> findAll(Pageable pageable);
 
+    Optional<String> findVersion(Integer id);
+
     LectureHall saveOrUpdate(LectureHall lectureHall);
 
+    Versioned<LectureHall> update(LectureHall lectureHall, String expectedVersion);
+
     void delete(Integer lectureHallId);
+
+    List<LectureHall> findFree(LocalDate date, LocalTime time, Integer housing);
 }
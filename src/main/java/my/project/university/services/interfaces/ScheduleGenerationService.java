@@ -0,0 +1,9 @@
+package my.project.university.services.interfaces;
+
+import my.project.university.models.dto.ScheduleGenerationReport;
+
+import java.time.LocalDate;
+
+public interface ScheduleGenerationService {
+    ScheduleGenerationReport generate(LocalDate from, LocalDate to);
+}
@@ -1,11 +1,18 @@
 package my.project.university.services.interfaces;
 
+import my.project.university.models.dto.KeysetSlice;
+import my.project.university.models.dto.ScheduleCursor;
 import my.project.university.models.dto.ScheduleDto;
+import my.project.university.models.dto.ScheduleFilter;
+import my.project.university.models.dto.ScheduleImportReport;
+import my.project.university.models.dto.Versioned;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ScheduleService {
 
@@ -13,9 +20,23 @@ public interface ScheduleService {
 
     Page<ScheduleDto> findAll(Pageable pageable);
 
+    KeysetSlice<ScheduleDto> findAllAfter(ScheduleCursor after, int size);
+
+    Optional<String> findVersion(Integer id);
+
     ScheduleDto saveOrUpdate(ScheduleDto scheduleDtoTo);
 
+    Versioned<ScheduleDto> update(ScheduleDto scheduleDto, String expectedVersion);
+
     void delete(Integer scheduleId);
 
-    List<ScheduleDto> getScheduleByCriteria(Map<String, String> filters);
+    ScheduleImportReport importSchedules(List<ScheduleDto> scheduleDtos);
+
+    ScheduleImportReport importSchedules(List<ScheduleDto> scheduleDtos, Map<Integer, String> invalidRows);
+
+    Page<ScheduleDto> getScheduleByCriteria(ScheduleFilter filter, Pageable pageable);
+
+    KeysetSlice<ScheduleDto> getScheduleByCriteriaAfter(ScheduleFilter filter, ScheduleCursor after, int size);
+
+    void streamScheduleByCriteria(ScheduleFilter filter, Consumer<ScheduleDto> consumer);
 }
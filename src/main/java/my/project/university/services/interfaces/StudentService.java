@@ -2,17 +2,23 @@ package my.project.university.services.interfaces;
 
 
 import my.project.university.models.dto.StudentDto;
+import my.project.university.models.dto.Versioned;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface StudentService {
     StudentDto findById(Integer id);
 
     Page<StudentDto> findAll(Pageable pageable);
 
+    Optional<String> findVersion(Integer id);
+
     StudentDto saveOrUpdate(StudentDto studentDto);
 
+    Versioned<StudentDto> update(StudentDto studentDto, String expectedVersion);
+
     void delete(Integer id);
 }
@@ -2,19 +2,27 @@ package my.project.university.services.interfaces;
 
 
 import my.project.university.models.dto.CourseDto;
+import my.project.university.models.dto.FreeSlot;
 import my.project.university.models.dto.TeacherDto;
+import my.project.university.models.dto.Versioned;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface TeacherService {
     TeacherDto findById(Integer id);
 
     Page<TeacherDto> findAll(Pageable pageable);
 
+    Optional<String> findVersion(Integer id);
+
     TeacherDto saveOrUpdate(TeacherDto teacherDto);
 
+    Versioned<TeacherDto> update(TeacherDto teacherDto, String expectedVersion);
+
     void delete(Integer teacherId);
 
     Page<CourseDto> getCourses(Integer teacherId, Pageable pageable);
@@ -25,4 +33,6 @@ public interface TeacherService {
 
     void deleteCourse(Integer teacherId, Integer courseId);
 
+    List<FreeSlot> findFreeSlots(Integer teacherId, LocalDate from, LocalDate to);
+
 }
@@ -0,0 +1,9 @@
+package my.project.university.services.interfaces;
+
+import my.project.university.timetable.MaterializedTimetable;
+
+public interface TimetableService {
+    MaterializedTimetable getGroupWeek(Integer groupId, String isoWeek);
+
+    MaterializedTimetable getTeacherWeek(Integer teacherId, String isoWeek);
+}
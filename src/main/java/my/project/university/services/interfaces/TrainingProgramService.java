@@ -2,10 +2,12 @@ package my.project.university.services.interfaces;
 
 import my.project.university.models.dto.CourseDto;
 import my.project.university.models.dto.TrainingProgramDto;
+import my.project.university.models.dto.Versioned;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface TrainingProgramService {
 
@@ -15,8 +17,12 @@ public interface TrainingProgramService {
 
     Page<TrainingProgramDto> findAll(Pageable pageable);
 
+    Optional<String> findVersion(Integer id);
+
     TrainingProgramDto saveOrUpdate(TrainingProgramDto trainingProgram);
 
+    Versioned<TrainingProgramDto> update(TrainingProgramDto trainingProgram, String expectedVersion);
+
     void delete(Integer trainingProgramId);
 
     Page<CourseDto> getCourses(Integer id, Pageable pageable);
@@ -0,0 +1,20 @@
+package my.project.university.solver;
+
+import lombok.Value;
+
+@Value
+public class CourseLoad {
+    int groupId;
+    int courseId;
+    int lessons;
+
+    public CourseLoad(Integer groupId, Integer courseId, Integer lessons) {
+        this.groupId = groupId;
+        this.courseId = courseId;
+        this.lessons = lessons == null ? 0 : lessons;
+    }
+
+    public CourseLoad(Integer groupId, Integer courseId, Long lessons) {
+        this(groupId, courseId, lessons.intValue());
+    }
+}
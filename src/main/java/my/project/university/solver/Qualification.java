@@ -0,0 +1,14 @@
+package my.project.university.solver;
+
+import lombok.Value;
+
+@Value
+public class Qualification {
+    int courseId;
+    int teacherId;
+
+    public Qualification(Integer courseId, Integer teacherId) {
+        this.courseId = courseId;
+        this.teacherId = teacherId;
+    }
+}
@@ -0,0 +1,56 @@
+package my.project.university.solver;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Numbers the lesson slots of a date range: slot {@code day * timesPerDay + period}, days counted over
+ * the working days only.
+ */
+public class SlotGrid {
+    private final List<LocalDate> days = new ArrayList<>();
+    private final List<LocalTime> times;
+    private final Map<LocalDate, Integer> dayIndexes = new HashMap<>();
+    private final Map<LocalTime, Integer> timeIndexes = new HashMap<>();
+
+    public SlotGrid(LocalDate from, LocalDate to, Collection<DayOfWeek> workingDays, List<LocalTime> times) {
+        this.times = List.copyOf(times);
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (workingDays.contains(day.getDayOfWeek())) {
+                dayIndexes.put(day, days.size());
+                days.add(day);
+            }
+        }
+        for (int i = 0; i < this.times.size(); i++) {
+            timeIndexes.put(this.times.get(i), i);
+        }
+    }
+
+    public int size() {
+        return days.size() * times.size();
+    }
+
+    public int getTimesPerDay() {
+        return times.size();
+    }
+
+    public int slot(LocalDate date, LocalTime time) {
+        Integer day = dayIndexes.get(date);
+        Integer period = timeIndexes.get(time);
+        return day == null || period == null ? -1 : day * times.size() + period;
+    }
+
+    public LocalDate date(int slot) {
+        return days.get(slot / times.size());
+    }
+
+    public LocalTime time(int slot) {
+        return times.get(slot % times.size());
+    }
+}
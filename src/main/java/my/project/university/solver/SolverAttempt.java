@@ -0,0 +1,258 @@
+package my.project.university.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * One randomized run of the solver. Lessons are placed greedily, hardest first, each one scanning
+ * the slots from its preferred position: the k-th of n lessons of a course prefers the k-th n-th of the
+ * semester, so a course is spread evenly instead of packed into the first weeks, and days on which the
+ * group already has the course are only used when nothing else is free. Lessons left over
+ * are then repaired by moving a single lesson that blocks their teacher or lecture hall elsewhere.
+ */
+class SolverAttempt {
+    static final int FREE = -1;
+    static final int BOOKED = -2;
+
+    private static final int MOVES_PER_REPAIR = 256;
+
+    private final TimetableProblem problem;
+    private final SplittableRandom random;
+    private final int slots;
+    private final int groups;
+    private final int teachers;
+    private final int halls;
+    private final int days;
+    private final int timesPerDay;
+    private final long salt;
+
+    private final int[] slotOf;
+    private final int[] teacherOf;
+    private final int[] hallOf;
+    private final int[] groupAt;
+    private final int[] teacherAt;
+    private final int[] hallAt;
+    private final int[] freeHalls;
+    private final int[] teacherLoad;
+    private final int[] requirementDays;
+
+    private int moveBudget;
+
+    SolverAttempt(TimetableProblem problem, SplittableRandom random) {
+        this.problem = problem;
+        this.random = random;
+        this.slots = problem.getSlotCount();
+        this.groups = problem.getGroupCount();
+        this.teachers = problem.getTeacherCount();
+        this.halls = problem.getHallCount();
+        this.days = problem.getDayCount();
+        this.timesPerDay = problem.getTimesPerDay();
+        this.salt = random.nextLong();
+
+        int lessons = problem.getLessonCount();
+        this.slotOf = filled(lessons);
+        this.teacherOf = filled(lessons);
+        this.hallOf = filled(lessons);
+        this.groupAt = occupancy(problem.copyGroupTaken());
+        this.teacherAt = occupancy(problem.copyTeacherTaken());
+        this.hallAt = occupancy(problem.copyHallTaken());
+        this.teacherLoad = new int[teachers];
+        this.requirementDays = new int[problem.getRequirementCount() * days];
+        this.freeHalls = new int[slots];
+        for (int slot = 0; slot < slots; slot++) {
+            for (int hall = 0; hall < halls; hall++) {
+                if (hallAt[slot * halls + hall] == FREE) {
+                    freeHalls[slot]++;
+                }
+            }
+        }
+    }
+
+    TimetableSolution run() {
+        List<Integer> unplaced = new ArrayList<>();
+        for (int lesson : order()) {
+            if (!place(lesson, FREE)) {
+                unplaced.add(lesson);
+            }
+        }
+
+        boolean repaired = true;
+        while (repaired && !unplaced.isEmpty()) {
+            repaired = false;
+            for (Iterator<Integer> iterator = unplaced.iterator(); iterator.hasNext(); ) {
+                if (repair(iterator.next())) {
+                    iterator.remove();
+                    repaired = true;
+                }
+            }
+        }
+        return new TimetableSolution(problem, slotOf, teacherOf, hallOf);
+    }
+
+    private Integer[] order() {
+        int lessons = problem.getLessonCount();
+        int[] groupDemand = new int[groups];
+        int[] tieBreak = new int[lessons];
+        Integer[] order = new Integer[lessons];
+        for (int lesson = 0; lesson < lessons; lesson++) {
+            groupDemand[problem.lessonGroup(lesson)]++;
+            tieBreak[lesson] = random.nextInt();
+            order[lesson] = lesson;
+        }
+
+        Arrays.sort(order, Comparator
+                .<Integer>comparingInt(lesson -> problem.teachersOf(problem.lessonCourse(lesson)).length)
+                .thenComparingInt(lesson -> -groupDemand[problem.lessonGroup(lesson)])
+                .thenComparingInt(lesson -> tieBreak[lesson]));
+        return order;
+    }
+
+    private boolean place(int lesson, int forbiddenSlot) {
+        return place(lesson, forbiddenSlot, true) || place(lesson, forbiddenSlot, false);
+    }
+
+    private boolean place(int lesson, int forbiddenSlot, boolean newDayOnly) {
+        int group = problem.lessonGroup(lesson);
+        int requirement = problem.lessonRequirement(lesson) * days;
+        int start = preferredSlot(lesson);
+        for (int i = 0; i < slots; i++) {
+            int slot = start + i < slots ? start + i : start + i - slots;
+            if (slot == forbiddenSlot || groupAt[slot * groups + group] != FREE || freeHalls[slot] == 0
+                    || newDayOnly && requirementDays[requirement + slot / timesPerDay] > 0) {
+                continue;
+            }
+            int teacher = freeTeacher(lesson, slot);
+            if (teacher != FREE) {
+                assign(lesson, slot, teacher, freeHall(slot));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean repair(int lesson) {
+        if (place(lesson, FREE)) {
+            return true;
+        }
+        int group = problem.lessonGroup(lesson);
+        int start = preferredSlot(lesson);
+        moveBudget = MOVES_PER_REPAIR;
+
+        for (int i = 0; i < slots && moveBudget > 0; i++) {
+            int slot = start + i < slots ? start + i : start + i - slots;
+            if (groupAt[slot * groups + group] != FREE) {
+                continue;
+            }
+
+            if (freeHalls[slot] > 0) {
+                for (int teacher : problem.teachersOf(problem.lessonCourse(lesson))) {
+                    if (moveAway(teacherAt[slot * teachers + teacher], slot)) {
+                        assign(lesson, slot, teacher, freeHall(slot));
+                        return true;
+                    }
+                }
+            } else {
+                int teacher = freeTeacher(lesson, slot);
+                if (teacher == FREE) {
+                    continue;
+                }
+                for (int hall = 0; hall < halls && moveBudget > 0; hall++) {
+                    if (moveAway(hallAt[slot * halls + hall], slot)) {
+                        assign(lesson, slot, teacher, hall);
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean moveAway(int lesson, int slot) {
+        if (lesson < 0 || moveBudget-- <= 0) {
+            return false;
+        }
+        int teacher = teacherOf[lesson];
+        int hall = hallOf[lesson];
+        unassign(lesson);
+        if (place(lesson, slot)) {
+            return true;
+        }
+        assign(lesson, slot, teacher, hall);
+        return false;
+    }
+
+    private int preferredSlot(int lesson) {
+        long key = salt ^ ((long) problem.lessonGroup(lesson) << 32 | problem.lessonCourse(lesson));
+        int offset = (int) Math.floorMod(mix(key), (long) slots);
+        long spread = (long) problem.lessonOrdinal(lesson) * slots / problem.lessonTotal(lesson);
+        return (int) ((spread + offset) % slots);
+    }
+
+    private int freeTeacher(int lesson, int slot) {
+        int best = FREE;
+        for (int teacher : problem.teachersOf(problem.lessonCourse(lesson))) {
+            if (teacherAt[slot * teachers + teacher] == FREE && (best == FREE || teacherLoad[teacher] < teacherLoad[best])) {
+                best = teacher;
+            }
+        }
+        return best;
+    }
+
+    private int freeHall(int slot) {
+        for (int hall = 0; hall < halls; hall++) {
+            if (hallAt[slot * halls + hall] == FREE) {
+                return hall;
+            }
+        }
+        throw new IllegalStateException("No free lecture hall in slot " + slot);
+    }
+
+    private void assign(int lesson, int slot, int teacher, int hall) {
+        slotOf[lesson] = slot;
+        teacherOf[lesson] = teacher;
+        hallOf[lesson] = hall;
+        groupAt[slot * groups + problem.lessonGroup(lesson)] = lesson;
+        teacherAt[slot * teachers + teacher] = lesson;
+        hallAt[slot * halls + hall] = lesson;
+        freeHalls[slot]--;
+        teacherLoad[teacher]++;
+        requirementDays[problem.lessonRequirement(lesson) * days + slot / timesPerDay]++;
+    }
+
+    private void unassign(int lesson) {
+        int slot = slotOf[lesson];
+        groupAt[slot * groups + problem.lessonGroup(lesson)] = FREE;
+        teacherAt[slot * teachers + teacherOf[lesson]] = FREE;
+        hallAt[slot * halls + hallOf[lesson]] = FREE;
+        freeHalls[slot]++;
+        teacherLoad[teacherOf[lesson]]--;
+        requirementDays[problem.lessonRequirement(lesson) * days + slot / timesPerDay]--;
+        slotOf[lesson] = FREE;
+        teacherOf[lesson] = FREE;
+        hallOf[lesson] = FREE;
+    }
+
+    private static int[] filled(int size) {
+        int[] array = new int[size];
+        Arrays.fill(array, FREE);
+        return array;
+    }
+
+    private static int[] occupancy(boolean[] taken) {
+        int[] occupancy = new int[taken.length];
+        for (int i = 0; i < taken.length; i++) {
+            occupancy[i] = taken[i] ? BOOKED : FREE;
+        }
+        return occupancy;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,236 @@
+package my.project.university.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A timetable to fill, with groups, courses, teachers and lecture halls renumbered densely from zero so
+ * the solver works on flat int arrays. Slots already taken by existing lessons are marked per resource.
+ */
+public class TimetableProblem {
+    private final int slotCount;
+    private final int timesPerDay;
+
+    private final int[] groupIds;
+    private final int[] courseIds;
+    private final int[] teacherIds;
+    private final int[] hallIds;
+
+    private final int[] lessonGroup;
+    private final int[] lessonCourse;
+    private final int[] lessonOrdinal;
+    private final int[] lessonTotal;
+    private final int[] lessonRequirement;
+    private final int requirementCount;
+    private final int[][] courseTeachers;
+
+    private final boolean[] groupTaken;
+    private final boolean[] teacherTaken;
+    private final boolean[] hallTaken;
+
+    private TimetableProblem(Builder builder) {
+        this.slotCount = builder.slotCount;
+        this.timesPerDay = builder.timesPerDay;
+        this.groupIds = toArray(builder.groups);
+        this.courseIds = toArray(builder.courses);
+        this.teacherIds = toArray(builder.teachers);
+        this.hallIds = toArray(builder.halls);
+
+        List<int[]> lessons = new ArrayList<>();
+        int requirement = 0;
+        for (Map.Entry<Long, Integer> entry : builder.requirements.entrySet()) {
+            int group = (int) (entry.getKey() >>> 32);
+            int course = (int) (long) entry.getKey();
+            int lessonCount = entry.getValue();
+            for (int ordinal = 0; ordinal < lessonCount; ordinal++) {
+                lessons.add(new int[]{group, course, ordinal, lessonCount, requirement});
+            }
+            requirement++;
+        }
+        this.requirementCount = requirement;
+        this.lessonGroup = lessons.stream().mapToInt(lesson -> lesson[0]).toArray();
+        this.lessonCourse = lessons.stream().mapToInt(lesson -> lesson[1]).toArray();
+        this.lessonOrdinal = lessons.stream().mapToInt(lesson -> lesson[2]).toArray();
+        this.lessonTotal = lessons.stream().mapToInt(lesson -> lesson[3]).toArray();
+        this.lessonRequirement = lessons.stream().mapToInt(lesson -> lesson[4]).toArray();
+
+        this.courseTeachers = new int[courseIds.length][];
+        for (int course = 0; course < courseIds.length; course++) {
+            courseTeachers[course] = builder.qualifications.getOrDefault(course, List.of()).stream()
+                    .mapToInt(Integer::intValue).distinct().toArray();
+        }
+
+        this.groupTaken = new boolean[slotCount * groupIds.length];
+        this.teacherTaken = new boolean[slotCount * teacherIds.length];
+        this.hallTaken = new boolean[slotCount * hallIds.length];
+        for (int[] booking : builder.bookings) {
+            take(groupTaken, booking[0], builder.groups.get(booking[1]), groupIds.length);
+            take(teacherTaken, booking[0], builder.teachers.get(booking[2]), teacherIds.length);
+            take(hallTaken, booking[0], builder.halls.get(booking[3]), hallIds.length);
+        }
+    }
+
+    public static Builder builder(SlotGrid grid) {
+        return new Builder(grid.size(), grid.getTimesPerDay());
+    }
+
+    public static Builder builder(int slotCount, int timesPerDay) {
+        return new Builder(slotCount, timesPerDay);
+    }
+
+    private static void take(boolean[] taken, int slot, Integer resource, int resources) {
+        if (resource != null) {
+            taken[slot * resources + resource] = true;
+        }
+    }
+
+    private static int[] toArray(Map<Integer, Integer> indexes) {
+        return indexes.keySet().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    public int getTimesPerDay() {
+        return timesPerDay;
+    }
+
+    public int getDayCount() {
+        return slotCount / timesPerDay;
+    }
+
+    int getRequirementCount() {
+        return requirementCount;
+    }
+
+    public int getLessonCount() {
+        return lessonGroup.length;
+    }
+
+    public int getGroupCount() {
+        return groupIds.length;
+    }
+
+    public int getTeacherCount() {
+        return teacherIds.length;
+    }
+
+    public int getHallCount() {
+        return hallIds.length;
+    }
+
+    int lessonGroup(int lesson) {
+        return lessonGroup[lesson];
+    }
+
+    int lessonCourse(int lesson) {
+        return lessonCourse[lesson];
+    }
+
+    int lessonOrdinal(int lesson) {
+        return lessonOrdinal[lesson];
+    }
+
+    int lessonTotal(int lesson) {
+        return lessonTotal[lesson];
+    }
+
+    int lessonRequirement(int lesson) {
+        return lessonRequirement[lesson];
+    }
+
+    int[] teachersOf(int course) {
+        return courseTeachers[course];
+    }
+
+    boolean[] copyGroupTaken() {
+        return Arrays.copyOf(groupTaken, groupTaken.length);
+    }
+
+    boolean[] copyTeacherTaken() {
+        return Arrays.copyOf(teacherTaken, teacherTaken.length);
+    }
+
+    boolean[] copyHallTaken() {
+        return Arrays.copyOf(hallTaken, hallTaken.length);
+    }
+
+    public int groupId(int group) {
+        return groupIds[group];
+    }
+
+    public int courseId(int course) {
+        return courseIds[course];
+    }
+
+    public int teacherId(int teacher) {
+        return teacherIds[teacher];
+    }
+
+    public int hallId(int hall) {
+        return hallIds[hall];
+    }
+
+    public static class Builder {
+        private final int slotCount;
+        private final int timesPerDay;
+        private final Map<Integer, Integer> groups = new LinkedHashMap<>();
+        private final Map<Integer, Integer> courses = new LinkedHashMap<>();
+        private final Map<Integer, Integer> teachers = new LinkedHashMap<>();
+        private final Map<Integer, Integer> halls = new LinkedHashMap<>();
+        private final Map<Long, Integer> requirements = new LinkedHashMap<>();
+        private final Map<Integer, List<Integer>> qualifications = new HashMap<>();
+        private final List<int[]> bookings = new ArrayList<>();
+
+        private Builder(int slotCount, int timesPerDay) {
+            if (timesPerDay < 1 || slotCount % timesPerDay != 0) {
+                throw new IllegalArgumentException("Slots should be whole days of " + timesPerDay + " lessons");
+            }
+            this.slotCount = slotCount;
+            this.timesPerDay = timesPerDay;
+        }
+
+        public Builder require(int groupId, int courseId, int lessons) {
+            if (lessons > 0) {
+                long key = (long) index(groups, groupId) << 32 | index(courses, courseId);
+                requirements.merge(key, lessons, Integer::sum);
+            }
+            return this;
+        }
+
+        public Builder qualify(int courseId, int teacherId) {
+            qualifications.computeIfAbsent(index(courses, courseId), course -> new ArrayList<>())
+                    .add(index(teachers, teacherId));
+            return this;
+        }
+
+        public Builder hall(int hallId) {
+            index(halls, hallId);
+            return this;
+        }
+
+        /**
+         * Marks a slot taken by an existing lesson. Resources the problem does not otherwise mention are
+         * ignored, and so are slots outside the grid.
+         */
+        public Builder book(int slot, int groupId, int teacherId, int hallId) {
+            if (slot >= 0 && slot < slotCount) {
+                bookings.add(new int[]{slot, groupId, teacherId, hallId});
+            }
+            return this;
+        }
+
+        public TimetableProblem build() {
+            return new TimetableProblem(this);
+        }
+
+        private static int index(Map<Integer, Integer> indexes, int id) {
+            return indexes.computeIfAbsent(id, key -> indexes.size());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package my.project.university.solver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class TimetableSolution {
+    private final TimetableProblem problem;
+    private final int[] slotOf;
+    private final int[] teacherOf;
+    private final int[] hallOf;
+    private final int placed;
+    private final int sameDayRepeats;
+
+    TimetableSolution(TimetableProblem problem, int[] slotOf, int[] teacherOf, int[] hallOf) {
+        this.problem = problem;
+        this.slotOf = slotOf;
+        this.teacherOf = teacherOf;
+        this.hallOf = hallOf;
+
+        int placedLessons = 0;
+        int repeats = 0;
+        boolean[] requirementDays = new boolean[problem.getRequirementCount() * problem.getDayCount()];
+        for (int lesson = 0; lesson < slotOf.length; lesson++) {
+            if (slotOf[lesson] == SolverAttempt.FREE) {
+                continue;
+            }
+            placedLessons++;
+            int day = problem.lessonRequirement(lesson) * problem.getDayCount() + slotOf[lesson] / problem.getTimesPerDay();
+            if (requirementDays[day]) {
+                repeats++;
+            }
+            requirementDays[day] = true;
+        }
+        this.placed = placedLessons;
+        this.sameDayRepeats = repeats;
+    }
+
+    public int getPlaced() {
+        return placed;
+    }
+
+    public int getUnplaced() {
+        return slotOf.length - placed;
+    }
+
+    /**
+     * Lessons of a course given to the same group twice on one day. Lower is better.
+     */
+    public int getSameDayRepeats() {
+        return sameDayRepeats;
+    }
+
+    public void forEachPlaced(LessonConsumer consumer) {
+        for (int lesson = 0; lesson < slotOf.length; lesson++) {
+            if (slotOf[lesson] != SolverAttempt.FREE) {
+                consumer.accept(slotOf[lesson],
+                        problem.groupId(problem.lessonGroup(lesson)),
+                        problem.courseId(problem.lessonCourse(lesson)),
+                        problem.teacherId(teacherOf[lesson]),
+                        problem.hallId(hallOf[lesson]));
+            }
+        }
+    }
+
+    public void forEachUnplaced(ShortfallConsumer consumer) {
+        Map<Long, Integer> shortfalls = new LinkedHashMap<>();
+        for (int lesson = 0; lesson < slotOf.length; lesson++) {
+            if (slotOf[lesson] == SolverAttempt.FREE) {
+                long groupCourse = (long) problem.lessonGroup(lesson) << 32 | problem.lessonCourse(lesson);
+                shortfalls.merge(groupCourse, 1, Integer::sum);
+            }
+        }
+        shortfalls.forEach((groupCourse, lessons) -> consumer.accept(
+                problem.groupId((int) (groupCourse >>> 32)), problem.courseId((int) (long) groupCourse), lessons));
+    }
+
+    @FunctionalInterface
+    public interface LessonConsumer {
+        void accept(int slot, int groupId, int courseId, int teacherId, int hallId);
+    }
+
+    @FunctionalInterface
+    public interface ShortfallConsumer {
+        void accept(int groupId, int courseId, int lessons);
+    }
+}
@@ -0,0 +1,39 @@
+package my.project.university.solver;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Runs independent randomized attempts in parallel and keeps the one that places the most lessons,
+ * then the one that repeats a course on the same day least often.
+ */
+public class TimetableSolver {
+    private static final Comparator<TimetableSolution> BEST_FIRST = Comparator
+            .comparingInt(TimetableSolution::getUnplaced)
+            .thenComparingInt(TimetableSolution::getSameDayRepeats);
+
+    private final int attempts;
+    private final long seed;
+
+    public TimetableSolver(int attempts, long seed) {
+        if (attempts < 1) {
+            throw new IllegalArgumentException("Solver needs at least one attempt, was " + attempts);
+        }
+        this.attempts = attempts;
+        this.seed = seed;
+    }
+
+    public TimetableSolution solve(TimetableProblem problem) {
+        SplittableRandom random = new SplittableRandom(seed);
+        SplittableRandom[] randoms = IntStream.range(0, attempts)
+                .mapToObj(attempt -> random.split())
+                .toArray(SplittableRandom[]::new);
+
+        return IntStream.range(0, attempts)
+                .parallel()
+                .mapToObj(attempt -> new SolverAttempt(problem, randoms[attempt]).run())
+                .min(BEST_FIRST)
+                .orElseThrow();
+    }
+}
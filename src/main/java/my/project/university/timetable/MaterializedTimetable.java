@@ -0,0 +1,14 @@
+package my.project.university.timetable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class MaterializedTimetable {
+    private final byte[] body;
+    private final String etag;
+    private final Set<Integer> scheduleIds;
+}
@@ -0,0 +1,20 @@
+package my.project.university.timetable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimetableKey {
+    private Owner owner;
+    private Integer ownerId;
+    private LocalDate firstDay;
+
+    public enum Owner {
+        GROUP, TEACHER
+    }
+}
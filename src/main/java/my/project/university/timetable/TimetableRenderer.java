@@ -0,0 +1,6 @@
+package my.project.university.timetable;
+
+public interface TimetableRenderer {
+
+    MaterializedTimetable render(TimetableKey key);
+}
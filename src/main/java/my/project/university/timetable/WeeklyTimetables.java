@@ -0,0 +1,122 @@
+package my.project.university.timetable;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import my.project.university.occupancy.ScheduleBooking;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Rendered weeks of group and teacher timetables. A committed schedule write re-renders the weeks it touched,
+ * so reads keep hitting a rendered week. Changes of reference entities and bulk writes may touch any week and
+ * drop them all instead; those weeks are rendered again on their next read.
+ */
+@Component
+public class WeeklyTimetables {
+    private static final Logger LOG = LoggerFactory.getLogger(WeeklyTimetables.class);
+    private static final long MAX_TIMETABLES = 10_000;
+
+    private final ObjectProvider<TimetableRenderer> renderer;
+
+    private final Cache<TimetableKey, MaterializedTimetable> timetables = Caffeine.newBuilder()
+            .maximumSize(MAX_TIMETABLES)
+            .build();
+    private long generation;
+
+    @Autowired
+    public WeeklyTimetables(ObjectProvider<TimetableRenderer> renderer) {
+        this.renderer = renderer;
+    }
+
+    public MaterializedTimetable get(TimetableKey key, Supplier<MaterializedTimetable> loader) {
+        MaterializedTimetable timetable = timetables.getIfPresent(key);
+        if (timetable != null) {
+            return timetable;
+        }
+
+        long loadedGeneration = currentGeneration();
+        timetable = loader.get();
+        synchronized (this) {
+            if (loadedGeneration == generation) {
+                timetables.put(key, timetable);
+            }
+        }
+        return timetable;
+    }
+
+    public void refresh(ScheduleBooking booking) {
+        afterCommit(() -> {
+            LocalDate firstDay = firstDayOfWeek(booking.getLessonDate());
+            render(evict(booking.getScheduleId(), Set.of(
+                    new TimetableKey(TimetableKey.Owner.GROUP, booking.getGroupId(), firstDay),
+                    new TimetableKey(TimetableKey.Owner.TEACHER, booking.getTeacherId(), firstDay))));
+        });
+    }
+
+    public void refresh(Integer scheduleId) {
+        afterCommit(() -> render(evict(scheduleId, Set.of())));
+    }
+
+    public void invalidate() {
+        afterCommit(() -> {
+            synchronized (this) {
+                generation++;
+                timetables.invalidateAll();
+            }
+        });
+    }
+
+    public static LocalDate firstDayOfWeek(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized Set<TimetableKey> evict(Integer scheduleId, Set<TimetableKey> touched) {
+        generation++;
+        Set<TimetableKey> keys = new HashSet<>(touched);
+        timetables.asMap().forEach((key, timetable) -> {
+            if (timetable.getScheduleIds().contains(scheduleId)) {
+                keys.add(key);
+            }
+        });
+        timetables.invalidateAll(keys);
+        return keys;
+    }
+
+    private void render(Set<TimetableKey> keys) {
+        renderer.ifAvailable(available -> keys.forEach(key -> {
+            try {
+                get(key, () -> available.render(key));
+            } catch (RuntimeException e) {
+                LOG.warn(String.format("Week %s is left to be rendered on read", key), e);
+            }
+        }));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -6,8 +6,13 @@ import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
 
 public class DateTimeValidator implements ConstraintValidator<DateTimeFuture, ScheduleDto> {
+    private static final String INVALID_DATE_MESSAGE = "Lesson date should be a valid ISO date";
+    private static final String INVALID_TIME_MESSAGE = "Lesson time should be a valid ISO time";
+
     @Override
     public void initialize(DateTimeFuture constraintAnnotation) {
 
@@ -15,8 +20,11 @@ public class DateTimeValidator implements ConstraintValidator<DateTimeFuture, Sc
 
     @Override
     public boolean isValid(ScheduleDto dto, ConstraintValidatorContext context) {
-        LocalDate date = LocalDate.parse(dto.getLessonDate());
-        LocalTime time = LocalTime.parse(dto.getLessonTime());
+        LocalDate date = parse(dto.getLessonDate(), LocalDate::parse, INVALID_DATE_MESSAGE, context);
+        LocalTime time = parse(dto.getLessonTime(), LocalTime::parse, INVALID_TIME_MESSAGE, context);
+        if (date == null || time == null) {
+            return false;
+        }
         if(date.isBefore(LocalDate.now())){
             return false;
         } else if(date.isAfter(LocalDate.now())){
@@ -27,4 +35,17 @@ public class DateTimeValidator implements ConstraintValidator<DateTimeFuture, Sc
             return false;
         }
     }
+
+    private <T> T parse(String value, Function<String, T> parser, String message, ConstraintValidatorContext context) {
+        if (value != null) {
+            try {
+                return parser.apply(value);
+            } catch (DateTimeParseException e) {
+                // falls through to a violation carrying the message for this field
+            }
+        }
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(message).addConstraintViolation();
+        return null;
+    }
 }
@@ -0,0 +1,22 @@
+package my.project.university.versioning;
+
+import my.project.university.exceptions.VersionMismatchException;
+
+// A version is the entity @Version followed by the versions of the entities embedded in its dto, e.g. "3.1"
+public final class EntityVersions {
+    private static final String SEPARATOR = ".";
+
+    private EntityVersions() {
+    }
+
+    public static int own(String version) {
+        int end = version.indexOf(SEPARATOR);
+        return Integer.parseInt(end < 0 ? version : version.substring(0, end));
+    }
+
+    public static void checkMatch(String entityName, Integer id, String expected, String current) {
+        if (expected != null && !expected.equals(current)) {
+            throw new VersionMismatchException(entityName, id, expected, current);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+ALTER TABLE courses ADD COLUMN version INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE trainingProgram ADD COLUMN version INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE groups ADD COLUMN version INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE lectureHalls ADD COLUMN version INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE students ADD COLUMN version INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE teachers ADD COLUMN version INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE schedule ADD COLUMN version INTEGER DEFAULT 0 NOT NULL;
@@ -0,0 +1,11 @@
+CREATE TABLE audit_log
+(
+    ID          BIGSERIAL PRIMARY KEY,
+    occurred_at TIMESTAMP              NOT NULL,
+    actor       CHARACTER VARYING(100) NOT NULL,
+    entity      CHARACTER VARYING(30)  NOT NULL,
+    action      CHARACTER VARYING(50)  NOT NULL,
+    details     CHARACTER VARYING(2000)
+);
+
+CREATE INDEX audit_log_entity_occurred_at_idx ON audit_log (entity, occurred_at);
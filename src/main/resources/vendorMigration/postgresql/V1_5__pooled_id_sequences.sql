@@ -0,0 +1,20 @@
+ALTER SEQUENCE courses_id_seq INCREMENT BY 50;
+SELECT setval('courses_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM courses), false);
+
+ALTER SEQUENCE trainingprogram_id_seq INCREMENT BY 50;
+SELECT setval('trainingprogram_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM trainingProgram), false);
+
+ALTER SEQUENCE groups_id_seq INCREMENT BY 50;
+SELECT setval('groups_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM groups), false);
+
+ALTER SEQUENCE lecturehalls_id_seq INCREMENT BY 50;
+SELECT setval('lecturehalls_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM lectureHalls), false);
+
+ALTER SEQUENCE students_id_seq INCREMENT BY 50;
+SELECT setval('students_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM students), false);
+
+ALTER SEQUENCE teachers_id_seq INCREMENT BY 50;
+SELECT setval('teachers_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM teachers), false);
+
+ALTER SEQUENCE schedule_id_seq INCREMENT BY 50;
+SELECT setval('schedule_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM schedule), false);
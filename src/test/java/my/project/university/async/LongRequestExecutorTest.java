@@ -0,0 +1,92 @@
+package my.project.university.async;
+
+import my.project.university.property.LongRequestProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongRequestExecutorTest {
+    private LongRequestExecutor executor;
+
+    private LongRequestExecutor executor(int poolSize, int queueCapacity) {
+        LongRequestProperties properties = new LongRequestProperties();
+        properties.setPoolSize(poolSize);
+        properties.setQueueCapacity(queueCapacity);
+        executor = new LongRequestExecutor(properties);
+        return executor;
+    }
+
+    @AfterEach
+    void closeExecutor() throws InterruptedException {
+        executor.close();
+    }
+
+    @Test
+    void supplyShouldRunTaskOffCallingThread() throws Exception {
+        executor(2, 2);
+
+        String thread = executor.supply(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        assertTrue(thread.startsWith("long-request-"));
+    }
+
+    @Test
+    void tasksShouldRunWithRequestAttributesOfSubmittingThread() throws Exception {
+        executor(1, 2);
+        RequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+        CompletableFuture<RequestAttributes> supplied;
+        CompletableFuture<RequestAttributes> executed = new CompletableFuture<>();
+        try {
+            supplied = executor.supply(RequestContextHolder::getRequestAttributes);
+            executor.getTaskExecutor().execute(() -> executed.complete(RequestContextHolder.getRequestAttributes()));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        assertSame(attributes, supplied.get(5, TimeUnit.SECONDS));
+        assertSame(attributes, executed.get(5, TimeUnit.SECONDS));
+        assertNull(executor.supply(RequestContextHolder::getRequestAttributes).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void supplyShouldRejectTasksWhenPoolAndQueueAreFull() throws Exception {
+        executor(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> running = executor.supply(() -> {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = executor.supply(() -> "queued");
+
+        assertThrows(RejectedExecutionException.class, () -> executor.supply(() -> "rejected"));
+        assertThrows(TaskRejectedException.class, () -> executor.getTaskExecutor().execute(() -> { }));
+        assertEquals(1, executor.getActive());
+        assertEquals(1, executor.getQueued());
+        assertEquals(1, executor.getQueueCapacity());
+        assertEquals(2, executor.getRejected());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,131 @@
+package my.project.university.audit;
+
+import my.project.university.property.AuditProperties;
+import my.project.university.repository.AuditLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class AuditLogWriterTest {
+    private static final int CAPACITY = 64;
+    private static final int BATCH_SIZE = 16;
+
+    private final AuditLogRepository repository = mock(AuditLogRepository.class);
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    private AuditLogWriter writer;
+
+    private AuditLogWriter writer(Duration flushInterval) {
+        AuditProperties properties = new AuditProperties();
+        properties.setBufferCapacity(CAPACITY);
+        properties.setBatchSize(BATCH_SIZE);
+        properties.setFlushInterval(flushInterval);
+        writer = new AuditLogWriter(repository, properties);
+        return writer;
+    }
+
+    private AuditEvent event(int i) {
+        return new AuditEvent(Instant.now(), AuditAspect.SYSTEM_ACTOR, "Course", "addTeacher", "1, " + i);
+    }
+
+    @AfterEach
+    void closeWriter() throws InterruptedException {
+        writer.close();
+    }
+
+    @Test
+    void flushShouldWriteBufferedEventsInBatches() {
+        doAnswer(invocation -> batchSizes.add(invocation.<List<?>>getArgument(0).size()))
+                .when(repository).insertAll(anyList());
+        writer(Duration.ofHours(1));
+
+        for (int i = 0; i < 40; i++) {
+            writer.enqueue(event(i));
+        }
+        writer.flush();
+
+        assertEquals(List.of(16, 16, 8), batchSizes);
+        assertEquals(40, writer.getWritten());
+        assertEquals(0, writer.getBuffered());
+    }
+
+    @Test
+    void failedBatchShouldBeCountedAndNotRetried() {
+        doThrow(new IllegalStateException("database is down")).when(repository).insertAll(anyList());
+        writer(Duration.ofHours(1));
+
+        writer.enqueue(event(1));
+        writer.flush();
+        writer.flush();
+
+        assertEquals(1, writer.getFailed());
+        verify(repository, times(1)).insertAll(anyList());
+    }
+
+    @Test
+    void enqueueShouldNotWaitForStalledWriter() throws Exception {
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            stalled.countDown();
+            release.await();
+            return null;
+        }).when(repository).insertAll(anyList());
+        writer(Duration.ofMillis(1));
+
+        writer.enqueue(event(0));
+        assertTrue(stalled.await(5, TimeUnit.SECONDS));
+
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    writer.enqueue(event(i));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // the writer is still stuck in its first batch, so producers got here without it
+        assertEquals(CAPACITY, writer.getBuffered());
+        assertEquals(producers * perProducer - CAPACITY, writer.getDropped());
+        verify(repository, times(1)).insertAll(anyList());
+        release.countDown();
+    }
+
+    @Test
+    void enqueueShouldNotWaitForWriterWhenCalledFromInsideFlush() {
+        List<Long> droppedWhileWriting = new ArrayList<>();
+        doAnswer(invocation -> {
+            // the only consumer is this very thread, so an enqueue waiting for room would never return
+            for (int i = 0; i < 2 * CAPACITY; i++) {
+                writer.enqueue(event(i));
+            }
+            droppedWhileWriting.add(writer.getDropped());
+            return null;
+        }).doNothing().when(repository).insertAll(anyList());
+        writer(Duration.ofHours(1));
+
+        writer.enqueue(event(0));
+        writer.flush();
+
+        assertEquals(List.of((long) CAPACITY), droppedWhileWriting);
+        assertEquals(CAPACITY + 1, writer.getWritten());
+        assertEquals(0, writer.getBuffered());
+    }
+}
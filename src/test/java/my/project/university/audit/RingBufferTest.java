@@ -0,0 +1,87 @@
+package my.project.university.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTest {
+
+    @Test
+    void capacityShouldBeRoundedUpToPowerOfTwo() {
+        assertEquals(1, new RingBuffer<>(1).capacity());
+        assertEquals(8, new RingBuffer<>(5).capacity());
+        assertEquals(8, new RingBuffer<>(8).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(0));
+    }
+
+    @Test
+    void offerShouldRejectElementsWhenFull() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+    }
+
+    @Test
+    void drainToShouldReturnElementsInOrderAndFreeSlots() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            buffer.offer(i);
+        }
+
+        assertEquals(3, buffer.drainTo(drained, 3));
+        assertTrue(buffer.offer(4));
+        assertTrue(buffer.offer(5));
+        assertTrue(buffer.offer(6));
+        assertEquals(4, buffer.drainTo(drained, 10));
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void concurrentProducersShouldNeitherLoseNorDuplicateElements() throws InterruptedException {
+        int producers = 8;
+        int perProducer = 50_000;
+        RingBuffer<Integer> buffer = new RingBuffer<>(1024);
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int first = p * perProducer;
+            executor.execute(() -> {
+                for (int i = first; i < first + perProducer; i++) {
+                    if (!buffer.offer(i)) {
+                        rejected.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+
+        List<Integer> drained = new ArrayList<>();
+        while (!executor.isTerminated()) {
+            buffer.drainTo(drained, 256);
+        }
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+
+        Set<Integer> unique = new HashSet<>(drained);
+        assertEquals(drained.size(), unique.size());
+        assertEquals(producers * perProducer, drained.size() + rejected.get());
+    }
+}
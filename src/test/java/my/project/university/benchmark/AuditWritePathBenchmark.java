@@ -0,0 +1,120 @@
+package my.project.university.benchmark;
+
+import my.project.university.audit.AuditLogWriter;
+import my.project.university.property.AuditProperties;
+import my.project.university.services.interfaces.GroupService;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {"logging.level.root=warn", "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"})
+@ActiveProfiles("test")
+@DirtiesContext
+class AuditWritePathBenchmark {
+    private static final Logger LOG = LoggerFactory.getLogger(AuditWritePathBenchmark.class);
+
+    private static final int CLIENTS = Integer.getInteger("audit.clients", 8);
+    private static final int STUDENTS_PER_CLIENT = 10;
+    private static final int WARM_UP_SECONDS = Integer.getInteger("audit.warmUpSeconds", 5);
+    private static final int MEASURE_SECONDS = Integer.getInteger("audit.seconds", 15);
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final double MICROS_TO_MILLIS = 1000.0;
+    private static final double ALLOWED_P99_REGRESSION = 1.25;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private AuditProperties auditProperties;
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<List<Integer>> seedStudents() {
+        List<List<Integer>> students = new ArrayList<>();
+        for (int client = 0; client < CLIENTS; client++) {
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < STUDENTS_PER_CLIENT; i++) {
+                jdbcTemplate.update("insert into students (first_name, last_name, group_id) values (?, ?, 1)",
+                        "audit_" + client, "student_" + i);
+                ids.add(jdbcTemplate.queryForObject("select max(id) from students", Integer.class));
+            }
+            students.add(ids);
+        }
+        return students;
+    }
+
+    private Histogram run(List<List<Integer>> students, boolean audited, int seconds) throws InterruptedException {
+        auditProperties.setEnabled(audited);
+        Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+
+        for (List<Integer> ids : students) {
+            executor.execute(() -> {
+                int group = 1;
+                while (System.nanoTime() < deadline) {
+                    group = 3 - group;
+                    long start = System.nanoTime();
+                    groupService.addStudents(group, ids);
+                    histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start),
+                            HIGHEST_TRACKABLE_MICROS));
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+        return histogram;
+    }
+
+    private String describe(String name, Histogram histogram) {
+        return String.format("%-9s %9d %9.1f %9.2f %9.2f %9.2f %9.2f", name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / (double) MEASURE_SECONDS,
+                histogram.getValueAtPercentile(50) / MICROS_TO_MILLIS,
+                histogram.getValueAtPercentile(99) / MICROS_TO_MILLIS,
+                histogram.getValueAtPercentile(99.9) / MICROS_TO_MILLIS,
+                histogram.getMaxValue() / MICROS_TO_MILLIS);
+    }
+
+    @Test
+    void auditingShouldNotSlowDownWritePath() throws Exception {
+        List<List<Integer>> students = seedStudents();
+        run(students, true, WARM_UP_SECONDS);
+
+        Histogram plain = run(students, false, MEASURE_SECONDS);
+        Histogram audited = run(students, true, MEASURE_SECONDS);
+        auditLogWriter.flush();
+
+        LOG.warn(String.format("Group.addStudents with %d clients%n%-9s %9s %9s %9s %9s %9s %9s%n%s%n%s%n" +
+                        "audit events written=%d dropped=%d failed=%d", CLIENTS,
+                "mode", "calls", "calls/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms",
+                describe("plain", plain), describe("audited", audited),
+                auditLogWriter.getWritten(), auditLogWriter.getDropped(), auditLogWriter.getFailed()));
+
+        assertEquals(0, auditLogWriter.getFailed());
+        assertTrue(audited.getValueAtPercentile(99) <= plain.getValueAtPercentile(99) * ALLOWED_P99_REGRESSION,
+                "audited p99 regressed beyond " + ALLOWED_P99_REGRESSION + "x of the plain write path");
+    }
+}
@@ -0,0 +1,101 @@
+package my.project.university.benchmark;
+
+import my.project.university.models.*;
+import my.project.university.repository.ScheduleRepository;
+import my.project.university.repository.StudentRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {"logging.level.org.hibernate.type.descriptor.sql.BasicBinder=info",
+        "university.metrics.hibernate-statistics=true"})
+@ActiveProfiles("test")
+@DirtiesContext
+class InsertThroughputBenchmark {
+    private static final Logger LOG = LoggerFactory.getLogger(InsertThroughputBenchmark.class);
+    private static final int WARM_UP_ROWS = 2_000;
+    private static final int MEASURED_ROWS = 20_000;
+    private static final int ROWS_PER_TRANSACTION = 1_000;
+    private static final LocalDate FIRST_DAY = LocalDate.parse("2030-01-01");
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private int scheduleDays;
+
+    private Student student(int i) {
+        return new Student("first_" + i, "last_" + i, new Group(1));
+    }
+
+    private Schedule schedule(int i) {
+        return new Schedule(null, FIRST_DAY.plusDays(scheduleDays++), LocalTime.parse("10:00"),
+                new LectureHall(1, null, null, null), new Group(1), new Teacher(1, null, null), new Course(1, null, null));
+    }
+
+    private <T> long insert(int rows, IntFunction<T> factory, CrudRepository<T, Integer> repository) {
+        long start = System.nanoTime();
+        for (int from = 0; from < rows; from += ROWS_PER_TRANSACTION) {
+            List<T> chunk = new ArrayList<>(ROWS_PER_TRANSACTION);
+            for (int i = from; i < from + ROWS_PER_TRANSACTION; i++) {
+                chunk.add(factory.apply(i));
+            }
+            transactionTemplate.executeWithoutResult(status -> repository.saveAll(chunk));
+        }
+        return System.nanoTime() - start;
+    }
+
+    private <T> void measure(String name, IntFunction<T> factory, CrudRepository<T, Integer> repository) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        insert(WARM_UP_ROWS, factory, repository);
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        long elapsed = insert(MEASURED_ROWS, factory, repository);
+        long statements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        double rowsPerSecond = MEASURED_ROWS / (elapsed / 1_000_000_000.0);
+        LOG.info(String.format("%s: %d rows in %d ms, %.0f rows/s, %d prepared statements",
+                name, MEASURED_ROWS, elapsed / 1_000_000, rowsPerSecond, statements));
+        assertTrue(statements < MEASURED_ROWS / 10,
+                String.format("%s inserts were not batched: %d prepared statements", name, statements));
+    }
+
+    @Test
+    void studentInsertThroughput() {
+        measure("students", this::student, studentRepository);
+    }
+
+    @Test
+    void scheduleInsertThroughput() {
+        measure("schedules", this::schedule, scheduleRepository);
+    }
+}
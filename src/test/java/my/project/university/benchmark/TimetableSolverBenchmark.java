@@ -0,0 +1,74 @@
+package my.project.university.benchmark;
+
+import my.project.university.solver.TimetableProblem;
+import my.project.university.solver.TimetableSolution;
+import my.project.university.solver.TimetableSolver;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class TimetableSolverBenchmark {
+    private static final Logger LOG = LoggerFactory.getLogger(TimetableSolverBenchmark.class);
+
+    private static final int GROUPS = Integer.getInteger("solver.groups", 500);
+    private static final int HALLS = Integer.getInteger("solver.halls", 200);
+    private static final int PROGRAMS = 50;
+    private static final int COURSES_PER_PROGRAM = 6;
+    private static final int LESSONS_PER_COURSE = 24;
+    private static final int TEACHERS_PER_COURSE = 2;
+    private static final int TEACHERS = 400;
+    private static final int WEEKS = 18;
+    private static final int DAYS = WEEKS * 5;
+    private static final int TIMES_PER_DAY = 6;
+    private static final int RUNS = 5;
+    private static final long TIME_LIMIT_MILLIS = 10_000;
+
+    private TimetableProblem semester() {
+        TimetableProblem.Builder builder = TimetableProblem.builder(DAYS * TIMES_PER_DAY, TIMES_PER_DAY);
+        for (int group = 0; group < GROUPS; group++) {
+            int program = group % PROGRAMS;
+            for (int course = 0; course < COURSES_PER_PROGRAM; course++) {
+                builder.require(group, program * COURSES_PER_PROGRAM + course, LESSONS_PER_COURSE);
+            }
+        }
+        for (int course = 0; course < PROGRAMS * COURSES_PER_PROGRAM; course++) {
+            for (int i = 0; i < TEACHERS_PER_COURSE; i++) {
+                builder.qualify(course, (course * 7 + i * 131) % TEACHERS);
+            }
+        }
+        for (int hall = 0; hall < HALLS; hall++) {
+            builder.hall(hall);
+        }
+        return builder.build();
+    }
+
+    @Test
+    void semesterForFiveHundredGroups() {
+        TimetableProblem problem = semester();
+        TimetableSolver solver = new TimetableSolver(Runtime.getRuntime().availableProcessors(), 1);
+        solver.solve(problem);
+
+        long best = Long.MAX_VALUE;
+        TimetableSolution solution = null;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            solution = solver.solve(problem);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(best);
+        LOG.info(String.format("%d groups, %d halls, %d lessons in %d slots: best of %d runs %d ms, " +
+                        "%d unplaced, %d same-day repeats, %d threads", GROUPS, HALLS, problem.getLessonCount(),
+                problem.getSlotCount(), RUNS, millis, solution.getUnplaced(), solution.getSameDayRepeats(),
+                Runtime.getRuntime().availableProcessors()));
+        assertEquals(0, solution.getUnplaced());
+        assertTrue(millis < TIME_LIMIT_MILLIS, "solver took " + millis + " ms");
+    }
+}
@@ -2,9 +2,11 @@ package my.project.university.controllers.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import my.project.university.exceptions.NotFoundEntityException;
+import my.project.university.exceptions.VersionMismatchException;
 import my.project.university.models.dto.CourseDto;
 import my.project.university.models.dto.TeacherDto;
 import my.project.university.models.dto.TrainingProgramDto;
+import my.project.university.models.dto.Versioned;
 import my.project.university.serializers.CustomMappingConfiguration;
 import my.project.university.services.interfaces.CourseService;
 import org.junit.jupiter.api.Test;
@@ -13,11 +15,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -48,6 +52,7 @@ class CoursesRestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(dto));
 
+        verify(courseService).findVersion(1);
         verify(courseService).findById(1);
         verifyNoMoreInteractions(courseService);
     }
@@ -116,9 +121,9 @@ class CoursesRestControllerTest {
     }
 
     @Test
-    void updateShouldOnlyCallSaveOrUpdateMethodAndReturnChangedCourseDtoWithStatus200() throws Exception {
+    void updateShouldOnlyCallUpdateMethodAndReturnChangedCourseDtoWithStatus200() throws Exception {
         CourseDto updating = new CourseDto(2, "changed", 2);
-        when(courseService.saveOrUpdate(updating)).thenReturn(updating);
+        when(courseService.update(updating, null)).thenReturn(new Versioned<>(updating, "2"));
 
         String requestBody = "{\n" +
                 "    \"id\": 2,\n" +
@@ -130,10 +135,11 @@ class CoursesRestControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(requestBody))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(updating));
 
-        verify(courseService).saveOrUpdate(updating);
+        verify(courseService).update(updating, null);
         verifyNoMoreInteractions(courseService);
     }
 
@@ -176,6 +182,17 @@ class CoursesRestControllerTest {
 
     }
 
+    @Test
+    void addTeachersShouldOnlyCallAddTeachersMethodAndReturnStatus201() throws Exception {
+        mockMvc.perform(post(URL_PATH + "1/teachers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[2, 3]"))
+                .andExpect(status().isCreated());
+
+        verify(courseService).addTeachers(1, List.of(2, 3));
+        verifyNoMoreInteractions(courseService);
+    }
+
     @Test
     void deleteTeacherShouldOnlyCallDeleteTeacherMethodAndReturnStatus200() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.delete(URL_PATH + "1/teachers/2"))
@@ -231,6 +248,7 @@ class CoursesRestControllerTest {
         mockMvc.perform(MockMvcRequestBuilders.get(URL_PATH+"4"))
                 .andExpect(status().isNotFound());
 
+        verify(courseService).findVersion(4);
         verify(courseService).findById(4);
         verifyNoMoreInteractions(courseService);
     }
@@ -320,6 +338,26 @@ class CoursesRestControllerTest {
         verifyNoInteractions(courseService);
     }
 
+    @Test
+    void addTeachersShouldReturnStatusBadRequestWhenTeacherIdsEmptyOrNotPositive() throws Exception {
+        mockMvc.perform(post(URL_PATH + "1/teachers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post(URL_PATH + "1/teachers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[2, -1]"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post(URL_PATH + "-1/teachers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[2]"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(courseService);
+    }
+
     @Test
     void deleteTeacherShouldReturnStatusBadRequestWhenCourseIdAndOrTeacherIdNotPositive() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.delete(URL_PATH+ "-2" + "/teachers/" + "1"))
@@ -368,4 +406,76 @@ class CoursesRestControllerTest {
 
         verifyNoInteractions(courseService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByIdShouldReturnVersionAsETag() throws Exception {
+        CourseDto dto = new CourseDto(1, "course", 2);
+        when(courseService.findVersion(1)).thenReturn(Optional.of("3"));
+        when(courseService.findById(1)).thenReturn(dto);
+
+        mockMvc.perform(get(URL_PATH + "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$").value(dto));
+    }
+
+    @Test
+    void findByIdShouldReturnStatus304WithoutLoadingCourseWhenETagMatches() throws Exception {
+        when(courseService.findVersion(1)).thenReturn(Optional.of("3"));
+
+        mockMvc.perform(get(URL_PATH + "1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(courseService).findVersion(1);
+        verifyNoMoreInteractions(courseService);
+    }
+
+    @Test
+    void updateShouldPassIfMatchVersionToService() throws Exception {
+        CourseDto updating = new CourseDto(2, "changed", 2);
+        when(courseService.update(updating, "3")).thenReturn(new Versioned<>(updating, "4"));
+
+        mockMvc.perform(put(URL_PATH)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(updating)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        verify(courseService).update(updating, "3");
+    }
+
+    @Test
+    void updateShouldReturnStatus412WhenVersionMismatch() throws Exception {
+        CourseDto updating = new CourseDto(2, "changed", 2);
+        when(courseService.update(updating, "3")).thenThrow(new VersionMismatchException("Course", 2, "3", "4"));
+
+        mockMvc.perform(put(URL_PATH)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(updating)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void findByIdShouldReturnCompactJsonByDefault() throws Exception {
+        when(courseService.findById(1)).thenReturn(new CourseDto(1, "course", 2));
+
+        mockMvc.perform(get(URL_PATH + "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"id\":1,\"name\":\"course\",\"hours\":2}"));
+    }
+
+    @Test
+    void findByIdShouldReturnIndentedJsonWhenPrettyRequested() throws Exception {
+        when(courseService.findById(1)).thenReturn(new CourseDto(1, "course", 2));
+
+        mockMvc.perform(get(URL_PATH + "1").param("pretty", ""))
+                .andExpect(status().isOk())
+                .andExpect(content().string(new ObjectMapper().writerWithDefaultPrettyPrinter()
+                        .writeValueAsString(new CourseDto(1, "course", 2))));
+    }
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import my.project.university.exceptions.NotFoundEntityException;
 import my.project.university.models.dto.GroupDto;
 import my.project.university.models.dto.StudentDto;
+import my.project.university.models.dto.StudentTransferReport;
+import my.project.university.models.dto.Versioned;
 import my.project.university.serializers.CustomMappingConfiguration;
 import my.project.university.services.interfaces.GroupService;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -46,6 +49,7 @@ class GroupsRestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(groupDto));
 
+        verify(groupService).findVersion(1);
         verify(groupService).findById(1);
         verifyNoMoreInteractions(groupService);
     }
@@ -114,10 +118,10 @@ class GroupsRestControllerTest {
     }
 
     @Test
-    void updateShouldOnlyCallSaveOrUpdateMethodAndReturnChangedGroupDtoWithStatus200() throws Exception {
+    void updateShouldOnlyCallUpdateMethodAndReturnChangedGroupDtoWithStatus200() throws Exception {
         GroupDto updating = new GroupDto(1, "changed", 1, "program");
 
-        when(groupService.saveOrUpdate(updating)).thenReturn(updating);
+        when(groupService.update(updating, null)).thenReturn(new Versioned<>(updating, "2"));
 
         String requestBody = "{\n" +
                 "    \"id\": 1,\n" +
@@ -130,10 +134,11 @@ class GroupsRestControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(requestBody))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(updating));
 
-        verify(groupService).saveOrUpdate(updating);
+        verify(groupService).update(updating, null);
         verifyNoMoreInteractions(groupService);
     }
 
@@ -175,6 +180,22 @@ class GroupsRestControllerTest {
         verifyNoMoreInteractions(groupService);
     }
 
+    @Test
+    void addStudentsShouldOnlyCallAddStudentsMethodAndReturnReportWithStatus200() throws Exception {
+        StudentTransferReport report = new StudentTransferReport(1, List.of(3));
+        when(groupService.addStudents(1, List.of(2, 3))).thenReturn(report);
+
+        mockMvc.perform(post(URL_PATH + "1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[2, 3]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moved").value(1))
+                .andExpect(jsonPath("$.notFound[0]").value(3));
+
+        verify(groupService).addStudents(1, List.of(2, 3));
+        verifyNoMoreInteractions(groupService);
+    }
+
     @Test
     void whenEntityNotFoundByIdShouldReturnStatusNotFound() throws Exception {
         doThrow(NotFoundEntityException.class).when(groupService).findById(4);
@@ -182,6 +203,7 @@ class GroupsRestControllerTest {
         mockMvc.perform(MockMvcRequestBuilders.get(URL_PATH+"4"))
                 .andExpect(status().isNotFound());
 
+        verify(groupService).findVersion(4);
         verify(groupService).findById(4);
         verifyNoMoreInteractions(groupService);
     }
@@ -270,4 +292,19 @@ class GroupsRestControllerTest {
 
         verifyNoInteractions(groupService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void addStudentsShouldReturnStatusBadRequestWhenStudentIdsEmptyOrNotPositive() throws Exception {
+        mockMvc.perform(post(URL_PATH + "1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post(URL_PATH + "1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[2, 0]"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(groupService);
+    }
+}
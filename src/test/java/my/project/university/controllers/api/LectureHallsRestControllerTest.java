@@ -3,6 +3,7 @@ package my.project.university.controllers.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import my.project.university.exceptions.NotFoundEntityException;
 import my.project.university.models.LectureHall;
+import my.project.university.models.dto.Versioned;
 import my.project.university.serializers.CustomMappingConfiguration;
 import my.project.university.services.interfaces.LectureHallService;
 import org.junit.jupiter.api.Test;
@@ -11,10 +12,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
@@ -46,6 +50,7 @@ class LectureHallsRestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(lectureHall));
 
+        verify(lectureHallService).findVersion(1);
         verify(lectureHallService).findById(1);
         verifyNoMoreInteractions(lectureHallService);
     }
@@ -96,9 +101,9 @@ class LectureHallsRestControllerTest {
     }
 
     @Test
-    void updateShouldOnlyCallSaveOrUpdateMethodAndReturnChangedLectureHallWithStatus200() throws Exception {
+    void updateShouldOnlyCallUpdateMethodAndReturnChangedLectureHallWithStatus200() throws Exception {
         LectureHall updating = new LectureHall(1, 1, 1, 1);
-        when(lectureHallService.saveOrUpdate(updating)).thenReturn(updating);
+        when(lectureHallService.update(updating, null)).thenReturn(new Versioned<>(updating, "2"));
 
         String requestBody = "{\n" +
                 "    \"id\": 1,\n" +
@@ -111,10 +116,11 @@ class LectureHallsRestControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(requestBody))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(updating));
 
-        verify(lectureHallService).saveOrUpdate(updating);
+        verify(lectureHallService).update(updating, null);
         verifyNoMoreInteractions(lectureHallService);
     }
 
@@ -134,6 +140,7 @@ class LectureHallsRestControllerTest {
         mockMvc.perform(get(URL_PATH+"4"))
                 .andExpect(status().isNotFound());
 
+        verify(lectureHallService).findVersion(4);
         verify(lectureHallService).findById(4);
         verifyNoMoreInteractions(lectureHallService);
     }
@@ -193,4 +200,31 @@ class LectureHallsRestControllerTest {
 
         verifyNoInteractions(lectureHallService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findFreeShouldReturnFreeLectureHallsOfGivenHousing() throws Exception {
+        LectureHall lectureHall = new LectureHall(2, 3, 1, 12);
+        when(lectureHallService.findFree(LocalDate.parse("2030-01-01"), LocalTime.parse("09:40"), 3))
+                .thenReturn(List.of(lectureHall));
+
+        mockMvc.perform(get(URL_PATH + "free")
+                .param("date", "2030-01-01")
+                .param("time", "09:40")
+                .param("housing", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(2));
+
+        verify(lectureHallService).findFree(LocalDate.parse("2030-01-01"), LocalTime.parse("09:40"), 3);
+        verifyNoMoreInteractions(lectureHallService);
+    }
+
+    @Test
+    void findFreeShouldReturnStatus400WhenTimeIsMissing() throws Exception {
+        mockMvc.perform(get(URL_PATH + "free")
+                .param("date", "2030-01-01"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(lectureHallService);
+    }
+}
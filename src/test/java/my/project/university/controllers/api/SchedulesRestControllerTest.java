@@ -1,34 +1,63 @@
 package my.project.university.controllers.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import my.project.university.async.LongRequestExecutor;
 import my.project.university.exceptions.NotFoundEntityException;
+import my.project.university.models.dto.KeysetSlice;
+import my.project.university.models.dto.ScheduleCursor;
 import my.project.university.models.dto.ScheduleDto;
+import my.project.university.models.dto.ScheduleFilter;
+import my.project.university.models.dto.ScheduleGenerationReport;
+import my.project.university.models.dto.ScheduleImportReport;
+import my.project.university.models.dto.ScheduleImportRow;
+import my.project.university.models.dto.UnscheduledLessons;
+import my.project.university.models.dto.Versioned;
+import my.project.university.property.LongRequestProperties;
 import my.project.university.serializers.CustomMappingConfiguration;
+import my.project.university.services.interfaces.ScheduleGenerationService;
 import my.project.university.services.interfaces.ScheduleService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
-import java.util.HashMap;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static my.project.university.async.AsyncRequests.performAsync;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = SchedulesRestController.class)
-@Import(value = CustomMappingConfiguration.class)
+@Import(value = {CustomMappingConfiguration.class, LongRequestExecutor.class})
 class SchedulesRestControllerTest {
     private static final String URL_PATH = "/api/schedules/";
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
 
     private final Pageable pageable = PageRequest.of(0, 10, Sort.by("id").ascending());
 
@@ -38,6 +67,15 @@ class SchedulesRestControllerTest {
     @MockBean
     ScheduleService scheduleService;
 
+    @MockBean
+    ScheduleGenerationService generationService;
+
+    @SpyBean
+    LongRequestExecutor longRequests;
+
+    @Autowired
+    LongRequestProperties longRequestProperties;
+
     @Test
     void findByIdShouldOnlyCallFindByIdMethodAndReturnScheduleDtoWithGivenIdWithStatus200() throws Exception {
         ScheduleDto dto = new ScheduleDto(1, "2020-01-01", "01:01:00", 1, 1, 1, 1,
@@ -51,6 +89,7 @@ class SchedulesRestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(dto));
 
+        verify(scheduleService).findVersion(1);
         verify(scheduleService).findById(1);
         verifyNoMoreInteractions(scheduleService);
     }
@@ -76,6 +115,86 @@ class SchedulesRestControllerTest {
         verifyNoMoreInteractions(scheduleService);
     }
 
+    @Test
+    void showAllShouldReturnSmilePageWhenSmileAccepted() throws Exception {
+        ScheduleDto dto = new ScheduleDto(1, "2020-01-01", "01:01:00", 1, 1, 1, 1,
+                "group", 1, "name", "lastName", "course");
+        when(scheduleService.findAll(pageable)).thenReturn(new PageImpl<>(List.of(dto), pageable, 1));
+
+        MvcResult result = mockMvc.perform(get(URL_PATH)
+                .accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andReturn();
+
+        JsonNode page = new ObjectMapper(new SmileFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(1, page.get("totalElements").asInt());
+        assertEquals(dto, new ObjectMapper().treeToValue(page.get("content").get(0), ScheduleDto.class));
+    }
+
+    @Test
+    void showAllShouldReturnCborPageWhenCborAccepted() throws Exception {
+        ScheduleDto dto = new ScheduleDto(1, "2020-01-01", "01:01:00", 1, 1, 1, 1,
+                "group", 1, "name", "lastName", "course");
+        when(scheduleService.findAll(pageable)).thenReturn(new PageImpl<>(List.of(dto), pageable, 1));
+
+        MvcResult result = mockMvc.perform(get(URL_PATH)
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        JsonNode page = new ObjectMapper(new CBORFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(1, page.get("totalElements").asInt());
+        assertEquals(dto, new ObjectMapper().treeToValue(page.get("content").get(0), ScheduleDto.class));
+    }
+
+    @Test
+    void showAllWithEmptyAfterShouldOnlyCallFindAllAfterWithoutCursorAndReturnSliceWithStatus200() throws Exception {
+        ScheduleDto dto = new ScheduleDto(1, "2020-01-01", "01:01:00", 1, 1, 1, 1,
+                "group", 1, "name", "lastName", "course");
+        String next = new ScheduleCursor(LocalDate.parse("2020-01-01"), LocalTime.parse("01:01"), 1).encode();
+        KeysetSlice<ScheduleDto> slice = new KeysetSlice<>(List.of(dto), 10, true, next);
+        when(scheduleService.findAllAfter(null, 10)).thenReturn(slice);
+
+        mockMvc.perform(get(URL_PATH)
+                .param("after", "")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0]").value(dto))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.after").value(next))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(scheduleService).findAllAfter(null, 10);
+        verifyNoMoreInteractions(scheduleService);
+    }
+
+    @Test
+    void showAllWithAfterShouldOnlyCallFindAllAfterWithDecodedCursor() throws Exception {
+        ScheduleCursor cursor = new ScheduleCursor(LocalDate.parse("2020-01-01"), LocalTime.parse("01:01"), 1);
+        when(scheduleService.findAllAfter(cursor, 10)).thenReturn(new KeysetSlice<>(List.of(), 10, false, null));
+
+        mockMvc.perform(get(URL_PATH)
+                .param("after", cursor.encode()))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        verify(scheduleService).findAllAfter(cursor, 10);
+        verifyNoMoreInteractions(scheduleService);
+    }
+
+    @Test
+    void showAllShouldReturnStatusBadRequestWhenAfterIsMalformed() throws Exception {
+        mockMvc.perform(get(URL_PATH)
+                .param("after", "bm90LWEtY3Vyc29y"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(scheduleService);
+    }
+
     @Test
     void addShouldOnlyCallSaveOrUpdateMethodAndReturnAddedScheduleDtoWithStatus201() throws Exception {
         ScheduleDto adding = new ScheduleDto(null, "2030-01-01", "01:01:00", 1, null, null, null,
@@ -112,12 +231,12 @@ class SchedulesRestControllerTest {
     }
 
     @Test
-    void updateShouldOnlyCallSaveOrUpdateMethodAndReturnChangedScheduleDtoWithStatus200() throws Exception {
+    void updateShouldOnlyCallUpdateMethodAndReturnChangedScheduleDtoWithStatus200() throws Exception {
         ScheduleDto updating = new ScheduleDto(1, "2030-01-01", "01:01:00", 1, null, null, null,
                 "group", 1, null, null, "course");
         ScheduleDto updated = new ScheduleDto(1, "2030-01-01", "01:01:00", 1, 1, 1, 1,
                 "group", 1, "name", "lastName", "course");
-        when(scheduleService.saveOrUpdate(updating)).thenReturn(updated);
+        when(scheduleService.update(updating, null)).thenReturn(new Versioned<>(updated, "2"));
 
         String requestBody = "{\n" +
                 "    \"id\": 1,\n" +
@@ -133,10 +252,11 @@ class SchedulesRestControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(requestBody))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(updated));
 
-        verify(scheduleService).saveOrUpdate(updating);
+        verify(scheduleService).update(updating, null);
         verifyNoMoreInteractions(scheduleService);
     }
 
@@ -159,24 +279,173 @@ class SchedulesRestControllerTest {
         paramsForm.add("from", "");
         paramsForm.add("to", "");
 
-        Map<String, String> filters = new HashMap<>();
-        filters.put("groupDescription", "group");
-        filters.put("teacherId", "");
-        filters.put("from", "");
-        filters.put("to", "");
+        ScheduleFilter filters = new ScheduleFilter();
+        filters.setGroupDescription(List.of("group"));
 
-        when(scheduleService.getScheduleByCriteria(filters)).thenReturn(scheduleDtos);
+        when(scheduleService.getScheduleByCriteria(filters, pageable)).thenReturn(new PageImpl<>(scheduleDtos, pageable, 1));
 
-        mockMvc.perform(MockMvcRequestBuilders.get(URL_PATH + "filter")
+        performAsync(mockMvc, MockMvcRequestBuilders.get(URL_PATH + "filter")
                 .params(paramsForm))
                 .andExpect(status().is2xxSuccessful())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.[0]").value(scheduleDtos.get(0)));
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0]").value(scheduleDtos.get(0)));
+
+        verify(scheduleService).getScheduleByCriteria(filters, pageable);
+        verifyNoMoreInteractions(scheduleService);
+    }
+
+    @Test
+    void getScheduleByCriteriaShouldPassRequestedPageAndSortToService() throws Exception {
+        ScheduleFilter filters = new ScheduleFilter();
+        filters.setGroupDescription(List.of("group"));
+        Pageable requested = PageRequest.of(2, 5, Sort.by(Sort.Direction.DESC, "lessonDate"));
+        when(scheduleService.getScheduleByCriteria(filters, requested)).thenReturn(Page.empty(requested));
+
+        performAsync(mockMvc, get(URL_PATH + "filter")
+                .param("groupDescription", "group")
+                .param("page", "2")
+                .param("size", "5")
+                .param("sort", "lessonDate,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pageNumber").value(2))
+                .andExpect(jsonPath("$.sort[0].property").value("lessonDate"));
+
+        verify(scheduleService).getScheduleByCriteria(filters, requested);
+        verifyNoMoreInteractions(scheduleService);
+    }
+
+    @Test
+    void getScheduleByCriteriaWithAfterShouldOnlyCallGetScheduleByCriteriaAfterWithDecodedCursor() throws Exception {
+        ScheduleFilter filters = new ScheduleFilter();
+        filters.setGroupDescription(List.of("group"));
+        ScheduleCursor cursor = new ScheduleCursor(LocalDate.parse("2020-01-01"), LocalTime.parse("01:01"), 1);
+        when(scheduleService.getScheduleByCriteriaAfter(filters, cursor, 10))
+                .thenReturn(new KeysetSlice<>(List.of(), 10, false, null));
+
+        performAsync(mockMvc, get(URL_PATH + "filter")
+                .param("groupDescription", "group")
+                .param("after", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(scheduleService).getScheduleByCriteriaAfter(filters, cursor, 10);
+        verifyNoMoreInteractions(scheduleService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamScheduleByCriteriaShouldWriteEachScheduleDtoAsSingleJsonLine() throws Exception {
+        ScheduleDto first = new ScheduleDto(1, "2020-01-01", "01:01:00", 1, 1, 1, 1,
+                "group", 1, "name", "lastName", "course");
+        ScheduleDto second = new ScheduleDto(2, "2020-02-02", "02:02:00", 2, 2, 2, 2,
+                "group", 2, "name", "lastName", "course");
+
+        ScheduleFilter filters = new ScheduleFilter();
+        filters.setGroupDescription(List.of("group"));
+
+        doAnswer(invocation -> {
+            Consumer<ScheduleDto> consumer = invocation.getArgument(1);
+            consumer.accept(first);
+            consumer.accept(second);
+            return null;
+        }).when(scheduleService).streamScheduleByCriteria(eq(filters), any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get(URL_PATH + "filter/stream")
+                .param("groupDescription", "group"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ObjectMapper mapper = new ObjectMapper();
+        String expected = mapper.writeValueAsString(first) + "\n" + mapper.writeValueAsString(second) + "\n";
 
-        verify(scheduleService).getScheduleByCriteria(filters);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(expected));
+
+        verify(scheduleService).streamScheduleByCriteria(eq(filters), any(Consumer.class));
+        verifyNoMoreInteractions(scheduleService);
+    }
+
+    @Test
+    void importJsonShouldPassAllRowsToServiceAndReturnReport() throws Exception {
+        ScheduleDto dto = new ScheduleDto(null, "2030-01-01", "10:00", 1, null, null, null,
+                "group", 1, null, null, "course");
+        ScheduleImportReport report = new ScheduleImportReport(1, 0,
+                List.of(new ScheduleImportRow(1, ScheduleImportRow.Status.IMPORTED, null)));
+
+        when(scheduleService.importSchedules(List.of(dto))).thenReturn(report);
+
+        performAsync(mockMvc, post(URL_PATH + "import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(List.of(dto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andExpect(jsonPath("$.rows[0].status").value("IMPORTED"));
+
+        verify(scheduleService).importSchedules(List.of(dto));
+        verifyNoMoreInteractions(scheduleService);
+    }
+
+    @Test
+    void importCsvShouldReadRowsAndReturnReport() throws Exception {
+        ScheduleDto dto = new ScheduleDto(null, "2030-01-01", "10:00", 1, null, null, null,
+                "group", 1, null, null, "course");
+        ScheduleImportReport report = new ScheduleImportReport(0, 1,
+                List.of(new ScheduleImportRow(1, ScheduleImportRow.Status.CONFLICT, "Group with id 1 already busy")));
+
+        when(scheduleService.importSchedules(List.of(dto), Map.of())).thenReturn(report);
+
+        performAsync(mockMvc, post(URL_PATH + "import")
+                .contentType("text/csv")
+                .content("lessonDate,lessonTime,lectureHallId,groupDescription,teacherId,courseName\n" +
+                        "2030-01-01,10:00,1,group,1,course\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rows[0].status").value("CONFLICT"));
+
+        verify(scheduleService).importSchedules(List.of(dto), Map.of());
+        verifyNoMoreInteractions(scheduleService);
+    }
+
+    @Test
+    void importCsvShouldPassUnreadableRowsToServiceInsteadOfRejectingUpload() throws Exception {
+        ScheduleDto dto = new ScheduleDto(null, "2030-01-02", "11:00", 2, null, null, null,
+                "group", 2, null, null, "course");
+        Map<Integer, String> invalidRows = Map.of(1, "teacherId should be a number, was 'one'");
+        ScheduleImportReport report = new ScheduleImportReport(1, 1, List.of(
+                new ScheduleImportRow(1, ScheduleImportRow.Status.INVALID, "teacherId should be a number, was 'one'"),
+                new ScheduleImportRow(2, ScheduleImportRow.Status.IMPORTED, null)));
+
+        when(scheduleService.importSchedules(List.of(new ScheduleDto(), dto), invalidRows)).thenReturn(report);
+
+        performAsync(mockMvc, post(URL_PATH + "import")
+                .contentType("text/csv")
+                .content("lessonDate,lessonTime,lectureHallId,groupDescription,teacherId,courseName\n" +
+                        "2030-01-01,10:00,1,group,one,course\n" +
+                        "2030-01-02,11:00,2,group,2,course\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rows[0].status").value("INVALID"))
+                .andExpect(jsonPath("$.rows[0].message").value("teacherId should be a number, was 'one'"));
+
+        verify(scheduleService).importSchedules(List.of(new ScheduleDto(), dto), invalidRows);
         verifyNoMoreInteractions(scheduleService);
     }
 
+    @Test
+    void importCsvShouldReturnStatusBadRequestWhenHeaderIsIncomplete() throws Exception {
+        performAsync(mockMvc, post(URL_PATH + "import")
+                .contentType("text/csv")
+                .content("lessonDate,lessonTime\n2030-01-01,10:00\n"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(scheduleService);
+    }
+
     @Test
     void whenEntityNotFoundByIdShouldReturnStatusNotFound() throws Exception {
         doThrow(NotFoundEntityException.class).when(scheduleService).findById(4);
@@ -184,6 +453,7 @@ class SchedulesRestControllerTest {
         mockMvc.perform(get(URL_PATH+"4"))
                 .andExpect(status().isNotFound());
 
+        verify(scheduleService).findVersion(4);
         verify(scheduleService).findById(4);
         verifyNoMoreInteractions(scheduleService);
     }
@@ -251,4 +521,130 @@ class SchedulesRestControllerTest {
 
         verifyNoInteractions(scheduleService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void generateShouldCallGenerationServiceWithGivenRangeAndReturnReport() throws Exception {
+        LocalDate from = LocalDate.parse("2020-01-06");
+        LocalDate to = LocalDate.parse("2020-01-10");
+        ScheduleGenerationReport report = new ScheduleGenerationReport(from, to, 3, 2,
+                List.of(new UnscheduledLessons(1, 2, 1)));
+        when(generationService.generate(from, to)).thenReturn(report);
+
+        performAsync(mockMvc, post(URL_PATH + "generate")
+                .param("from", "2020-01-06")
+                .param("to", "2020-01-10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2020-01-06"))
+                .andExpect(jsonPath("$.scheduled").value(2))
+                .andExpect(jsonPath("$.unscheduled[0].courseId").value(2));
+
+        verify(generationService).generate(from, to);
+        verifyNoInteractions(scheduleService);
+    }
+
+    @Test
+    void generateShouldReturnStatus400WhenDateIsInvalid() throws Exception {
+        mockMvc.perform(post(URL_PATH + "generate")
+                .param("from", "2020-13-06")
+                .param("to", "2020-01-10"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(generationService);
+    }
+
+    @Test
+    void getScheduleByCriteriaShouldBindSeveralValuesAndTimeOfDayRange() throws Exception {
+        ScheduleFilter filter = new ScheduleFilter();
+        filter.setTeacherId(List.of(1, 2, 3));
+        filter.setLectureHallId(List.of(4));
+        filter.setCourseName(List.of("course_1", "course_2"));
+        filter.setFrom(LocalDate.parse("2020-01-01"));
+        filter.setFromTime(LocalTime.parse("08:00"));
+        filter.setToTime(LocalTime.parse("12:00"));
+        when(scheduleService.getScheduleByCriteria(filter, pageable)).thenReturn(Page.empty(pageable));
+
+        performAsync(mockMvc, get(URL_PATH + "filter")
+                .param("teacherId", "1,2,3")
+                .param("lectureHallId", "4")
+                .param("courseName", "course_1", " course_2 ", "")
+                .param("from", "2020-01-01")
+                .param("to", "")
+                .param("fromTime", "08:00")
+                .param("toTime", "12:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0));
+
+        verify(scheduleService).getScheduleByCriteria(filter, pageable);
+    }
+
+    @Test
+    void getScheduleByCriteriaShouldReturnStatus400WithoutCallingServiceWhenFilterIsInvalid() throws Exception {
+        mockMvc.perform(get(URL_PATH + "filter")
+                .param("from", "2020-13-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("from has invalid value '2020-13-01'"));
+
+        mockMvc.perform(get(URL_PATH + "filter")
+                .param("teacherId", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Teacher id should be positive"));
+
+        mockMvc.perform(get(URL_PATH + "filter")
+                .param("fromTime", "12:00")
+                .param("toTime", "08:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Time from should not be after time to"));
+
+        verifyNoInteractions(scheduleService);
+    }
+
+    @Test
+    void getScheduleByCriteriaShouldReturnStatusServiceUnavailableWhenLongRequestsAreFull() throws Exception {
+        doThrow(new RejectedExecutionException()).when(longRequests).supply(any());
+
+        mockMvc.perform(get(URL_PATH + "filter"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.message").value(LongRequestExecutor.REJECTED_MESSAGE));
+
+        verifyNoInteractions(scheduleService);
+    }
+
+    @Test
+    void streamScheduleByCriteriaShouldReturnStatusServiceUnavailableWhenLongRequestsAreFull() throws Exception {
+        CompletableFuture<Object> release = new CompletableFuture<>();
+        CountDownLatch started = new CountDownLatch(longRequestProperties.getPoolSize());
+        try {
+            for (long i = started.getCount(); i > 0; i--) {
+                longRequests.supply(() -> {
+                    started.countDown();
+                    return release.join();
+                });
+            }
+            // every worker now waits on release, so no task left over from another test can free a slot
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < longRequests.getQueueCapacity(); i++) {
+                longRequests.supply(release::join);
+            }
+
+            mockMvc.perform(get(URL_PATH + "filter/stream")
+                    .param("groupDescription", "group"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.message").value(LongRequestExecutor.REJECTED_MESSAGE));
+        } finally {
+            release.complete(null);
+        }
+
+        verifyNoInteractions(scheduleService);
+    }
+
+    @Test
+    void findByIdShouldStayOnRequestThread() throws Exception {
+        when(scheduleService.findById(1)).thenReturn(new ScheduleDto());
+
+        mockMvc.perform(get(URL_PATH + "1"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk());
+
+        verifyNoInteractions(longRequests);
+    }
+}
@@ -3,6 +3,7 @@ package my.project.university.controllers.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import my.project.university.exceptions.NotFoundEntityException;
 import my.project.university.models.dto.StudentDto;
+import my.project.university.models.dto.Versioned;
 import my.project.university.serializers.CustomMappingConfiguration;
 import my.project.university.services.interfaces.StudentService;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -47,6 +49,7 @@ class StudentsRestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(dto));
 
+        verify(studentService).findVersion(1);
         verify(studentService).findById(1);
         verifyNoMoreInteractions(studentService);
     }
@@ -98,10 +101,10 @@ class StudentsRestControllerTest {
     }
 
     @Test
-    void updateShouldOnlyCallSaveOrUpdateMethodAndReturnChangedStudentDtoWithStatus200() throws Exception {
+    void updateShouldOnlyCallUpdateMethodAndReturnChangedStudentDtoWithStatus200() throws Exception {
         StudentDto updating = new StudentDto(1, "name", "lastName", "group", 1);
 
-        when(studentService.saveOrUpdate(updating)).thenReturn(updating);
+        when(studentService.update(updating, null)).thenReturn(new Versioned<>(updating, "2"));
 
         String requestBody = "{\n" +
                 "    \"id\": 1,\n" +
@@ -115,10 +118,11 @@ class StudentsRestControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(requestBody))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(updating));
 
-        verify(studentService).saveOrUpdate(updating);
+        verify(studentService).update(updating, null);
         verifyNoMoreInteractions(studentService);
     }
 
@@ -138,6 +142,7 @@ class StudentsRestControllerTest {
         mockMvc.perform(get(URL_PATH+"4"))
                 .andExpect(status().isNotFound());
 
+        verify(studentService).findVersion(4);
         verify(studentService).findById(4);
         verifyNoMoreInteractions(studentService);
     }
@@ -3,7 +3,9 @@ package my.project.university.controllers.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import my.project.university.exceptions.NotFoundEntityException;
 import my.project.university.models.dto.CourseDto;
+import my.project.university.models.dto.FreeSlot;
 import my.project.university.models.dto.TeacherDto;
+import my.project.university.models.dto.Versioned;
 import my.project.university.serializers.CustomMappingConfiguration;
 import my.project.university.services.interfaces.TeacherService;
 import org.junit.jupiter.api.Test;
@@ -12,10 +14,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
@@ -47,6 +52,7 @@ class TeachersRestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(dto));
 
+        verify(teacherService).findVersion(1);
         verify(teacherService).findById(1);
         verifyNoMoreInteractions(teacherService);
     }
@@ -96,10 +102,10 @@ class TeachersRestControllerTest {
     }
 
     @Test
-    void updateShouldOnlyCallSaveOrUpdateMethodAndReturnChangedTeacherDtoWithStatus200() throws Exception {
+    void updateShouldOnlyCallUpdateMethodAndReturnChangedTeacherDtoWithStatus200() throws Exception {
         TeacherDto updating = new TeacherDto(1, "name", "lastName");
 
-        when(teacherService.saveOrUpdate(updating)).thenReturn(updating);
+        when(teacherService.update(updating, null)).thenReturn(new Versioned<>(updating, "2"));
 
         String requestBody = "{\n" +
                 "    \"id\": 1,\n" +
@@ -111,10 +117,11 @@ class TeachersRestControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(requestBody))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(updating));
 
-        verify(teacherService).saveOrUpdate(updating);
+        verify(teacherService).update(updating, null);
         verifyNoMoreInteractions(teacherService);
     }
 
@@ -173,6 +180,7 @@ class TeachersRestControllerTest {
         mockMvc.perform(MockMvcRequestBuilders.get(URL_PATH+"4"))
                 .andExpect(status().isNotFound());
 
+        verify(teacherService).findVersion(4);
         verify(teacherService).findById(4);
         verifyNoMoreInteractions(teacherService);
     }
@@ -267,4 +275,32 @@ class TeachersRestControllerTest {
 
         verifyNoInteractions(teacherService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findFreeSlotsShouldReturnFreeSlotsOfTeacherInRange() throws Exception {
+        LocalDate date = LocalDate.parse("2030-01-01");
+        when(teacherService.findFreeSlots(1, date, date))
+                .thenReturn(List.of(new FreeSlot(date, LocalTime.parse("09:40"))));
+
+        mockMvc.perform(get(URL_PATH + "1/free-slots")
+                .param("from", "2030-01-01")
+                .param("to", "2030-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date").value("2030-01-01"))
+                .andExpect(jsonPath("$[0].time").value("09:40:00"));
+
+        verify(teacherService).findFreeSlots(1, date, date);
+        verifyNoMoreInteractions(teacherService);
+    }
+
+    @Test
+    void findFreeSlotsShouldReturnStatus404WhenTeacherNotFound() throws Exception {
+        LocalDate date = LocalDate.parse("2030-01-01");
+        when(teacherService.findFreeSlots(4, date, date)).thenThrow(new NotFoundEntityException("Teacher", 4));
+
+        mockMvc.perform(get(URL_PATH + "4/free-slots")
+                .param("from", "2030-01-01")
+                .param("to", "2030-01-01"))
+                .andExpect(status().isNotFound());
+    }
+}
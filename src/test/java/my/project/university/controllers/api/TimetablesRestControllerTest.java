@@ -0,0 +1,78 @@
+package my.project.university.controllers.api;
+
+import my.project.university.exceptions.NotFoundEntityException;
+import my.project.university.serializers.CustomMappingConfiguration;
+import my.project.university.services.interfaces.TimetableService;
+import my.project.university.timetable.MaterializedTimetable;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = TimetablesRestController.class)
+@Import(value = CustomMappingConfiguration.class)
+class TimetablesRestControllerTest {
+    private static final String URL_PATH = "/api/timetables/";
+    private static final String ETAG = "\"etag\"";
+
+    private final MaterializedTimetable timetable = new MaterializedTimetable(
+            "{\"week\":\"2020-W01\",\"lessons\":[]}".getBytes(), ETAG, Set.of());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TimetableService timetableService;
+
+    @Test
+    void getGroupWeekShouldReturnMaterializedTimetableWithETagWithStatus200() throws Exception {
+        when(timetableService.getGroupWeek(1, "2020-W01")).thenReturn(timetable);
+
+        mockMvc.perform(get(URL_PATH + "groups/1/weeks/2020-W01"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(jsonPath("$.week").value("2020-W01"));
+
+        verify(timetableService).getGroupWeek(1, "2020-W01");
+        verifyNoMoreInteractions(timetableService);
+    }
+
+    @Test
+    void getTeacherWeekShouldReturnStatus304WhenETagMatches() throws Exception {
+        when(timetableService.getTeacherWeek(1, "2020-W01")).thenReturn(timetable);
+
+        mockMvc.perform(get(URL_PATH + "teachers/1/weeks/2020-W01")
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getGroupWeekShouldReturnStatus404WhenGroupNotExist() throws Exception {
+        when(timetableService.getGroupWeek(1, "2020-W01")).thenThrow(new NotFoundEntityException("Group", 1));
+
+        mockMvc.perform(get(URL_PATH + "groups/1/weeks/2020-W01"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getGroupWeekShouldReturnStatus400WhenWeekOrIdNotValid() throws Exception {
+        mockMvc.perform(get(URL_PATH + "groups/1/weeks/2020-01-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(URL_PATH + "groups/0/weeks/2020-W01"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(timetableService);
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import my.project.university.exceptions.NotFoundEntityException;
 import my.project.university.models.dto.CourseDto;
 import my.project.university.models.dto.TrainingProgramDto;
+import my.project.university.models.dto.Versioned;
 import my.project.university.serializers.CustomMappingConfiguration;
 import my.project.university.services.interfaces.TrainingProgramService;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -48,6 +50,7 @@ class TrainingProgramsRestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(dto));
 
+        verify(trainingProgramService).findVersion(1);
         verify(trainingProgramService).findById(1);
         verifyNoMoreInteractions(trainingProgramService);
     }
@@ -112,10 +115,10 @@ class TrainingProgramsRestControllerTest {
     }
 
     @Test
-    void updateShouldOnlyCallSaveOrUpdateMethodAndReturnChangedTrainingProgramDtoWithStatus200() throws Exception {
+    void updateShouldOnlyCallUpdateMethodAndReturnChangedTrainingProgramDtoWithStatus200() throws Exception {
         TrainingProgramDto updating = new TrainingProgramDto(1, "speciality");
 
-        when(trainingProgramService.saveOrUpdate(updating)).thenReturn(updating);
+        when(trainingProgramService.update(updating, null)).thenReturn(new Versioned<>(updating, "2"));
 
         String requestBody = "{\n" +
                 "    \"id\": 1,\n" +
@@ -126,10 +129,11 @@ class TrainingProgramsRestControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(requestBody))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").value(updating));
 
-        verify(trainingProgramService).saveOrUpdate(updating);
+        verify(trainingProgramService).update(updating, null);
         verifyNoMoreInteractions(trainingProgramService);
     }
 
@@ -188,6 +192,7 @@ class TrainingProgramsRestControllerTest {
         mockMvc.perform(MockMvcRequestBuilders.get(URL_PATH + "4"))
                 .andExpect(status().isNotFound());
 
+        verify(trainingProgramService).findVersion(4);
         verify(trainingProgramService).findById(4);
         verifyNoMoreInteractions(trainingProgramService);
     }
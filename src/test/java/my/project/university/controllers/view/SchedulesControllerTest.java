@@ -1,6 +1,7 @@
 package my.project.university.controllers.view;
 
 import my.project.university.models.dto.ScheduleDto;
+import my.project.university.models.dto.ScheduleFilter;
 import my.project.university.services.interfaces.ScheduleService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,10 +13,9 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -157,7 +157,8 @@ class SchedulesControllerTest {
 
     @Test
     void getScheduleByCriteriaWithPostHttp() throws Exception {
-        List<ScheduleDto> scheduleDtos = List.of(new ScheduleDto());
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id").ascending());
+        Page<ScheduleDto> scheduleDtos = new PageImpl<>(List.of(new ScheduleDto()), pageable, 1);
 
         MultiValueMap<String, String> paramsForm = new LinkedMultiValueMap<>();
         paramsForm.add("groupDescription", "group_1");
@@ -165,22 +166,46 @@ class SchedulesControllerTest {
         paramsForm.add("from", "");
         paramsForm.add("to", "");
 
-        Map<String, String> filters = new HashMap<>();
-        filters.put("groupDescription", "group_1");
-        filters.put("teacherId", "");
-        filters.put("from", "");
-        filters.put("to", "");
+        ScheduleFilter filters = new ScheduleFilter();
+        filters.setGroupDescription(List.of("group_1"));
 
-        when(scheduleService.getScheduleByCriteria(filters)).thenReturn(scheduleDtos);
+        when(scheduleService.getScheduleByCriteria(filters, pageable)).thenReturn(scheduleDtos);
 
-        mockMvc.perform(MockMvcRequestBuilders.post("/schedules/getSchedule")
+        mockMvc.perform(MockMvcRequestBuilders.post("/schedules/byCriteria")
                 .params(paramsForm))
-                .andExpect(status().is2xxSuccessful())
-                .andExpect(model().size(1))
-                .andExpect(model().attribute("scheduleDtos", scheduleDtos))
-                .andExpect(view().name("scheduleView/schedulesByCriteria"));
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("schedules", scheduleDtos))
+                .andExpect(view().name("schedules/schedulesByCriteria"));
+
+        verify(scheduleService).getScheduleByCriteria(filters, pageable);
+        verifyNoMoreInteractions(scheduleService);
+    }
 
-        verify(scheduleService).getScheduleByCriteria(filters);
+    @Test
+    void getScheduleByCriteriaShouldRenderPageLinksCarryingFilter() throws Exception {
+        Pageable pageable = PageRequest.of(1, 1, Sort.by("id").ascending());
+        Page<ScheduleDto> page = new PageImpl<>(List.of(new ScheduleDto()), pageable, 3);
+
+        ScheduleFilter filters = new ScheduleFilter();
+        filters.setGroupDescription(List.of("group_1"));
+        filters.setTeacherId(List.of(1, 2));
+
+        when(scheduleService.getScheduleByCriteria(filters, pageable)).thenReturn(page);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/schedules/byCriteria")
+                .param("groupDescription", "group_1")
+                .param("teacherId", "1,2")
+                .param("page", "1")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("schedules", page))
+                .andExpect(view().name("schedules/schedulesByCriteria"))
+                .andExpect(content().string(containsString(
+                        "/schedules/byCriteria?groupDescription=group_1&amp;teacherId=1&amp;teacherId=2")))
+                .andExpect(content().string(containsString("page=0&amp;size=1")))
+                .andExpect(content().string(containsString("page=2&amp;size=1")));
+
+        verify(scheduleService).getScheduleByCriteria(filters, pageable);
         verifyNoMoreInteractions(scheduleService);
     }
 
@@ -0,0 +1,111 @@
+package my.project.university.integrationTests;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import my.project.university.audit.AuditAspect;
+import my.project.university.audit.AuditLogMetrics;
+import my.project.university.audit.AuditLogWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static my.project.university.async.AsyncRequests.performAsync;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "university.audit.flush-interval=1h")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuditLogApiTest {
+    private static final String LAST_ID = "select coalesce(max(id), 0) from audit_log";
+    private static final String SELECT_AUDIT_LOG = "select actor, entity, action, details from audit_log where id > ? order by id";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private AuditLogWriter writer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DirtiesContext
+    void committedChangesShouldBeWrittenToAuditLog() throws Exception {
+        long lastId = jdbcTemplate.queryForObject(LAST_ID, Long.class);
+
+        mvc.perform(post("/api/courses/1/teachers/2"))
+                .andExpect(status().isCreated());
+        mvc.perform(post("/api/groups/1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[2, 3]"))
+                .andExpect(status().isOk());
+        mvc.perform(delete("/api/teachers/2/courses/1"))
+                .andExpect(status().isOk());
+
+        writer.flush();
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_AUDIT_LOG, lastId);
+
+        assertEquals(3, rows.size());
+        assertEquals(Map.of("ACTOR", AuditAspect.ANONYMOUS_ACTOR, "ENTITY", "Course", "ACTION", "addTeacher",
+                "DETAILS", "1, 2"), rows.get(0));
+        assertEquals(Map.of("ACTOR", AuditAspect.ANONYMOUS_ACTOR, "ENTITY", "Group", "ACTION", "addStudents",
+                "DETAILS", "1, [2, 3]"), rows.get(1));
+        assertEquals(Map.of("ACTOR", AuditAspect.ANONYMOUS_ACTOR, "ENTITY", "Teacher", "ACTION", "deleteCourse",
+                "DETAILS", "2, 1"), rows.get(2));
+        assertEquals(3, meterRegistry.get(AuditLogMetrics.EVENTS).tag("outcome", "written").functionCounter().count());
+    }
+
+    @Test
+    @DirtiesContext
+    void asyncImportShouldBeAuditedUnderRequestingUser() throws Exception {
+        long lastId = jdbcTemplate.queryForObject(LAST_ID, Long.class);
+
+        performAsync(mvc, post("/api/schedules/import")
+                .with(request -> {
+                    request.setRemoteUser("alice");
+                    return request;
+                })
+                .contentType("text/csv")
+                .content("lessonDate,lessonTime,lectureHallId,groupDescription,teacherId,courseName\n" +
+                        "2030-01-01,11:00,2,group_2,2,course_2\n"))
+                .andExpect(status().isOk());
+
+        writer.flush();
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_AUDIT_LOG, lastId);
+
+        assertEquals(1, rows.size());
+        assertEquals("alice", rows.get(0).get("ACTOR"));
+        assertEquals("Schedule", rows.get(0).get("ENTITY"));
+        assertEquals("importSchedules", rows.get(0).get("ACTION"));
+    }
+
+    @Test
+    void readsAndRolledBackChangesShouldNotBeAudited() throws Exception {
+        long lastId = jdbcTemplate.queryForObject(LAST_ID, Long.class);
+
+        mvc.perform(get("/api/courses/1"))
+                .andExpect(status().isOk());
+        mvc.perform(post("/api/courses/100/teachers/2"))
+                .andExpect(status().isNotFound());
+
+        writer.flush();
+
+        assertTrue(jdbcTemplate.queryForList(SELECT_AUDIT_LOG, lastId).isEmpty());
+        assertEquals(0, writer.getBuffered());
+    }
+}
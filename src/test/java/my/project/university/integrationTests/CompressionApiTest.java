@@ -0,0 +1,63 @@
+package my.project.university.integrationTests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "server.compression.min-response-size=1")
+@ActiveProfiles("test")
+class CompressionApiTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void showAllShouldReturnGzippedJsonWhenClientAcceptsGzip() throws Exception {
+        HttpResponse<byte[]> response = send(HttpRequest.newBuilder(uri("/api/schedules"))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+        try (InputStream body = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            JsonNode page = new ObjectMapper().readTree(body);
+            assertEquals(3, page.get("content").size());
+        }
+    }
+
+    @Test
+    void showAllShouldReturnPlainJsonWhenClientDoesNotAcceptGzip() throws Exception {
+        HttpResponse<byte[]> response = send(HttpRequest.newBuilder(uri("/api/schedules")).build());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+        assertEquals(3, new ObjectMapper().readTree(response.body()).get("content").size());
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
@@ -120,6 +121,49 @@ class CoursesApiTest {
         assertEquals(new Course(2, "changed", 5), repository.findById(2).get());
     }
 
+    @Test
+    void findByIdShouldReturnStatusNotModifiedWhenETagNotChanged() throws Exception {
+        String eTag = mvc.perform(get(URL_PATH + "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get(URL_PATH + "1")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DirtiesContext
+    void updateShouldChangeETagWhenIfMatchIsCurrentAndRejectStaleIfMatch() throws Exception {
+        String requestBody = "{\n" +
+                "    \"id\": 2,\n" +
+                "    \"name\": \"changed\",\n" +
+                "    \"hours\": 5\n" +
+                "}";
+        String eTag = mvc.perform(get(URL_PATH + "2"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String updatedETag = mvc.perform(put(URL_PATH)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, updatedETag);
+
+        mvc.perform(put(URL_PATH)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+                .andExpect(status().isPreconditionFailed());
+
+        mvc.perform(get(URL_PATH + "2"))
+                .andExpect(header().string(HttpHeaders.ETAG, updatedETag));
+    }
+
     @Test
     @DirtiesContext
     void deleteShouldReturnDeleteEntityFromDataBase() throws Exception {
@@ -159,6 +203,33 @@ class CoursesApiTest {
         assertTrue(result.contains(2));
     }
 
+    @Test
+    @DirtiesContext
+    void addTeachersShouldEnrollAllTeachersWithGivenIdsOnCourseWithGivenId() throws Exception {
+        mvc.perform(post(URL_PATH + "1/teachers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1, 2, 3]"))
+                .andExpect(status().isCreated());
+
+        Query query = entityManager.createNativeQuery("select teacher_id from course_teacher where course_id = 1");
+        List result = query.getResultList();
+
+        assertEquals(3, result.size());
+        assertTrue(result.containsAll(List.of(1, 2, 3)));
+    }
+
+    @Test
+    void addTeachersShouldReturnStatusNotFoundAndAddNothingWhenAnyTeacherNotFound() throws Exception {
+        mvc.perform(post(URL_PATH + "1/teachers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[2, 40]"))
+                .andExpect(status().isNotFound());
+
+        Query query = entityManager.createNativeQuery("select teacher_id from course_teacher where course_id = 1");
+
+        assertEquals(1, query.getResultList().size());
+    }
+
     @Test
     @DirtiesContext
     void deleteTeacherShouldDeleteTeacherWithGivenIdFromListTeachersCourseWithGivenId() throws Exception {
@@ -0,0 +1,82 @@
+package my.project.university.integrationTests;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ETagApiTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    static Stream<Arguments> resources() {
+        return Stream.of(
+                Arguments.of("/api/groups/", "{\"id\": 1, \"description\": \"changed\", " +
+                        "\"trainingProgramId\": 2, \"trainingProgram\": \"trainingProgram_2\"}"),
+                Arguments.of("/api/lecture-halls/", "{\"id\": 1, \"housing\": 5, \"floor\": 5, \"number\": 5}"),
+                Arguments.of("/api/schedules/", "{\"id\": 1, \"lessonDate\": \"2030-01-01\", \"lessonTime\": \"05:05:00\", " +
+                        "\"lectureHallId\": 2, \"groupDescription\": \"group_2\", \"teacherId\": 3, \"courseName\": \"course_2\"}"),
+                Arguments.of("/api/students/", "{\"id\": 1, \"firstName\": \"name\", \"lastName\": \"lastName\", " +
+                        "\"groupDescription\": \"group_2\", \"groupId\": 2}"),
+                Arguments.of("/api/teachers/", "{\"id\": 1, \"firstName\": \"name\", \"lastName\": \"lastName\"}"),
+                Arguments.of("/api/training-programs/", "{\"id\": 1, \"speciality\": \"speciality\"}"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("resources")
+    void findByIdShouldReturnStatusNotModifiedWhenETagNotChanged(String urlPath) throws Exception {
+        String eTag = mvc.perform(get(urlPath + "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get(urlPath + "1")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @ParameterizedTest
+    @MethodSource("resources")
+    @DirtiesContext
+    void updateShouldChangeETagWhenIfMatchIsCurrentAndRejectStaleIfMatch(String urlPath, String requestBody) throws Exception {
+        String eTag = mvc.perform(get(urlPath + "1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String updatedETag = mvc.perform(put(urlPath)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, updatedETag);
+
+        mvc.perform(put(urlPath)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+                .andExpect(status().isPreconditionFailed());
+
+        mvc.perform(get(urlPath + "1"))
+                .andExpect(header().string(HttpHeaders.ETAG, updatedETag));
+    }
+}
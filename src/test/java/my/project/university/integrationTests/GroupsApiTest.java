@@ -170,6 +170,31 @@ class GroupsApiTest {
         assertTrue(students.contains(new Student(2)));
     }
 
+    @Test
+    @DirtiesContext
+    void addStudentsShouldMoveStudentsWithGivenIdsToGroupAndReturnNotFoundIds() throws Exception {
+        mvc.perform(post(URL_PATH + "1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[2, 3, 40]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moved").value(2))
+                .andExpect(jsonPath("$.notFound.length()").value(1))
+                .andExpect(jsonPath("$.notFound[0]").value(40));
+
+        Query query = entityManager.createQuery("select g from Group g join fetch g.students t where g.id = 1", Group.class);
+        Group actual = (Group) query.getSingleResult();
+
+        assertEquals(Set.of(new Student(1), new Student(2), new Student(3)), actual.getStudents());
+    }
+
+    @Test
+    void addStudentsShouldReturnStatusNotFoundWhenGroupNotFound() throws Exception {
+        mvc.perform(post(URL_PATH + "4/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1]"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void whenGroupNotFoundByIdShouldReturnStatusNotFound() throws Exception {
         mvc.perform(MockMvcRequestBuilders.get(URL_PATH + "4"))
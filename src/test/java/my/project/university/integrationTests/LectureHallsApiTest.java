@@ -60,6 +60,23 @@ class LectureHallsApiTest {
                 .andExpect(jsonPath("$.sort[0].descending").value(false));
     }
 
+    @Test
+    void findFreeShouldSkipLectureHallWithLessonAtGivenTime() throws Exception {
+        mvc.perform(get(URL_PATH + "free")
+                .param("date", "2020-02-02")
+                .param("time", "02:02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == 2)]").isEmpty())
+                .andExpect(jsonPath("$[?(@.id == 1)]").isNotEmpty());
+
+        mvc.perform(get(URL_PATH + "free")
+                .param("date", "2020-02-02")
+                .param("time", "02:02")
+                .param("housing", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
     @Test
     @DirtiesContext
     void addShouldAddNewLectureHallsToDataBase() throws Exception {
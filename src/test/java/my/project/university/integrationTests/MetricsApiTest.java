@@ -0,0 +1,103 @@
+package my.project.university.integrationTests;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import my.project.university.async.LongRequestMetrics;
+import my.project.university.metrics.ExceptionCounter;
+import my.project.university.metrics.TimedLayersAspect;
+import my.project.university.metrics.TimedMappersAspect;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"university.metrics.hibernate-statistics=true", "university.metrics.time-mappers=true"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MetricsApiTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void serviceRepositoryAndMapperCallsShouldBeTimed() throws Exception {
+        mvc.perform(get("/api/groups/1"))
+                .andExpect(status().isOk());
+
+        assertNotNull(meterRegistry.find(TimedLayersAspect.SERVICE_TIMER)
+                .tags("class", "GroupServiceImpl", "method", "findById", "exception", "none").timer());
+        assertNotNull(meterRegistry.find(TimedLayersAspect.REPOSITORY_TIMER)
+                .tags("class", "GroupRepository", "method", "findById", "exception", "none").timer());
+        assertNotNull(meterRegistry.find(TimedMappersAspect.MAPPER_TIMER)
+                .tags("class", "GroupMapperImpl", "method", "toDto").timer());
+    }
+
+    @Test
+    void customRepositoryFragmentCallsShouldBeTimed() throws Exception {
+        MvcResult result = mvc.perform(get("/api/schedules/filter").param("groupDescription", "group_1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        assertNotNull(meterRegistry.find(TimedLayersAspect.REPOSITORY_TIMER)
+                .tags("class", "MyScheduleRepositoryImpl", "method", "getScheduleByCriteria").timer());
+    }
+
+    @Test
+    void notFoundAndConstraintViolationsShouldBeCounted() throws Exception {
+        mvc.perform(get("/api/groups/100"))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/groups/-1"))
+                .andExpect(status().isBadRequest());
+
+        assertNotNull(meterRegistry.find(TimedLayersAspect.SERVICE_TIMER)
+                .tags("class", "GroupServiceImpl", "method", "findById", "exception", "NotFoundEntityException").timer());
+        assertTrue(meterRegistry.find(ExceptionCounter.NAME)
+                .tags("exception", "NotFoundEntityException", "handler", "api").counter().count() >= 1);
+        assertTrue(meterRegistry.find(ExceptionCounter.NAME)
+                .tags("exception", "ConstraintViolationException", "handler", "api").counter().count() >= 1);
+    }
+
+    @Test
+    void poolAndHibernateStatisticsShouldBeExposedByActuator() throws Exception {
+        mvc.perform(get("/api/groups/1"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/actuator/metrics/hikaricp.connections.active"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("hikaricp.connections.active"));
+        mvc.perform(get("/actuator/metrics/hibernate.statements"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("hibernate.statements"));
+        mvc.perform(get("/actuator/metrics/university.service")
+                .param("tag", "class:GroupServiceImpl"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void longRequestQueueShouldBeExposedByActuator() throws Exception {
+        mvc.perform(get("/actuator/metrics/" + LongRequestMetrics.QUEUED))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").value(0.0));
+        mvc.perform(get("/actuator/metrics/" + LongRequestMetrics.CAPACITY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").value(50.0));
+        mvc.perform(get("/actuator/metrics/" + LongRequestMetrics.REQUESTS)
+                .param("tag", "outcome:rejected"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,91 @@
+package my.project.university.integrationTests;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import my.project.university.datasource.ReadWriteRoutingConfiguration;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadWriteRoutingApiTest.PRIMARY_URL,
+        "university.datasource.replica.jdbc-url=" + ReadWriteRoutingApiTest.REPLICA_URL,
+        "university.datasource.replica.username=" + ReadWriteRoutingApiTest.USER
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ReadWriteRoutingApiTest {
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica";
+    static final String USER = "sa";
+    private static final String URL_PATH = "/api/courses/";
+    private static final String COUNT_COURSES = "select count(*) from courses where name = ?";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, USER, ""));
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, USER, ""));
+
+    @BeforeEach
+    void migrateReplica() {
+        Flyway.configure().configuration(flyway.getConfiguration())
+                .dataSource(replica.getDataSource())
+                .load()
+                .migrate();
+        replica.update("MERGE INTO courses (id, name, hours) KEY (id) VALUES (100, 'replica_course', 5)");
+    }
+
+    @Test
+    void readOnlyServiceCallsShouldBeServedByReplica() throws Exception {
+        mvc.perform(get(URL_PATH + "name/replica_course"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(100));
+        mvc.perform(get(URL_PATH + "100"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void writesShouldGoToPrimary() throws Exception {
+        mvc.perform(post(URL_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"primary_course\",\"hours\":3}"))
+                .andExpect(status().isCreated());
+
+        assertEquals(1, primary.queryForObject(COUNT_COURSES, Integer.class, "primary_course"));
+        assertEquals(0, replica.queryForObject(COUNT_COURSES, Integer.class, "primary_course"));
+    }
+
+    @Test
+    void eachPoolShouldPublishItsOwnMetrics() throws Exception {
+        mvc.perform(get(URL_PATH + "1"))
+                .andExpect(status().isOk());
+
+        assertNotNull(meterRegistry.find("hikaricp.connections")
+                .tag("pool", ReadWriteRoutingConfiguration.PRIMARY_POOL).gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections")
+                .tag("pool", ReadWriteRoutingConfiguration.REPLICA_POOL).gauge());
+    }
+}
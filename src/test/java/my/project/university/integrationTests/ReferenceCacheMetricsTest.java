@@ -0,0 +1,53 @@
+package my.project.university.integrationTests;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import my.project.university.cache.ReferenceCacheConfiguration;
+import my.project.university.cache.ReferenceCacheMetrics;
+import my.project.university.services.interfaces.CourseService;
+import my.project.university.services.interfaces.TeacherService;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true"})
+@ActiveProfiles("test")
+class ReferenceCacheMetricsTest {
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private double hitRatio(String region) {
+        return meterRegistry.get(ReferenceCacheMetrics.HIT_RATIO).tag("region", region).gauge().value();
+    }
+
+    @Test
+    void hitRatiosShouldBeReportedWithoutHibernateStatistics() {
+        assertFalse(entityManagerFactory.unwrap(SessionFactory.class).getStatistics().isStatisticsEnabled());
+
+        teacherService.findById(1);
+        teacherService.findById(1);
+        courseService.findByName("course_1");
+        courseService.findByName("course_1");
+
+        assertTrue(hitRatio(ReferenceCacheConfiguration.TEACHER_REGION) > 0);
+        assertTrue(hitRatio(ReferenceCacheMetrics.QUERY_REGION) > 0);
+    }
+}
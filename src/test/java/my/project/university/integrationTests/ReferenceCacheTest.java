@@ -0,0 +1,122 @@
+package my.project.university.integrationTests;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import my.project.university.cache.ReferenceCacheConfiguration;
+import my.project.university.cache.ReferenceCacheMetrics;
+import my.project.university.exceptions.NotFoundEntityException;
+import my.project.university.models.Group;
+import my.project.university.models.LectureHall;
+import my.project.university.models.dto.CourseDto;
+import my.project.university.models.dto.GroupDto;
+import my.project.university.models.dto.TeacherDto;
+import my.project.university.services.interfaces.CourseService;
+import my.project.university.services.interfaces.GroupService;
+import my.project.university.services.interfaces.LectureHallService;
+import my.project.university.services.interfaces.TeacherService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "university.metrics.hibernate-statistics=true"})
+@ActiveProfiles("test")
+class ReferenceCacheTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private LectureHallService lectureHallService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private long statementCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private double hitRatio(String region) {
+        return meterRegistry.get(ReferenceCacheMetrics.HIT_RATIO).tag("region", region).gauge().value();
+    }
+
+    @Test
+    void repeatedNaturalKeyLookupShouldNotQueryDataBase() {
+        courseService.findByName("course_2");
+        long statements = statementCount();
+
+        CourseDto actual = courseService.findByName("course_2");
+
+        assertEquals("course_2", actual.getName());
+        assertEquals(statements, statementCount());
+        assertTrue(hitRatio(ReferenceCacheMetrics.QUERY_REGION) > 0);
+    }
+
+    @Test
+    void repeatedLookupByIdShouldNotQueryDataBase() {
+        teacherService.findById(2);
+        long statements = statementCount();
+
+        TeacherDto actual = teacherService.findById(2);
+
+        assertEquals("teacher_2", actual.getFirstName());
+        assertEquals(statements, statementCount());
+        assertTrue(hitRatio(ReferenceCacheConfiguration.TEACHER_REGION) > 0);
+    }
+
+    @Test
+    void saveOrUpdateShouldInvalidateCachedNaturalKeyLookup() {
+        GroupDto group = groupService.findByDescription("group_3");
+        try {
+            group.setDescription("group_33");
+            groupService.saveOrUpdate(group);
+
+            assertThrows(NotFoundEntityException.class, () -> groupService.findByDescription("group_3"));
+            assertEquals(group.getId(), groupService.findByDescription("group_33").getId());
+        } finally {
+            group.setDescription("group_3");
+            groupService.saveOrUpdate(group);
+        }
+    }
+
+    @Test
+    void linkTableUpdatesShouldKeepCachedEntitiesAndQueries() {
+        groupService.findById(1);
+        lectureHallService.findById(1);
+        courseService.findByName("course_2");
+        Cache cache = entityManagerFactory.getCache();
+        try {
+            courseService.addTeacher(1, 2);
+            groupService.addStudents(1, List.of(2));
+
+            assertTrue(cache.contains(Group.class, 1));
+            assertTrue(cache.contains(LectureHall.class, 1));
+            long statements = statementCount();
+            courseService.findByName("course_2");
+            assertEquals(statements, statementCount());
+        } finally {
+            courseService.deleteTeacher(1, 2);
+            groupService.addStudents(2, List.of(2));
+        }
+    }
+}
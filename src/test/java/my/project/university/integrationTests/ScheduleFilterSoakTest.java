@@ -0,0 +1,83 @@
+package my.project.university.integrationTests;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import my.project.university.models.dto.ScheduleFilter;
+import my.project.university.repository.ScheduleRepository;
+import my.project.university.services.interfaces.ScheduleService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "university.metrics.hibernate-statistics=true")
+@ActiveProfiles("test")
+class ScheduleFilterSoakTest {
+    private static final int WARM_UP_CALLS = 500;
+    private static final int SOAK_CALLS = 5000;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private ScheduleFilter filters(int shape) {
+        ScheduleFilter filters = new ScheduleFilter();
+        filters.setGroupDescription((shape & 1) != 0 ? List.of("group_1") : List.of());
+        filters.setTeacherId((shape & 2) != 0 ? List.of(1, 2) : List.of());
+        filters.setFrom((shape & 4) != 0 ? LocalDate.parse("2020-01-01") : null);
+        filters.setTo((shape & 8) != 0 ? LocalDate.parse("2020-12-31") : null);
+        filters.setFromTime((shape & 16) != 0 ? LocalTime.parse("00:00") : null);
+        return filters;
+    }
+
+    private void callFilters(int calls) {
+        for (int i = 0; i < calls; i++) {
+            ScheduleFilter filters = filters(i % 32);
+            if (i % 2 == 0) {
+                scheduleService.getScheduleByCriteria(filters, PageRequest.of(0, 20));
+            } else {
+                scheduleRepository.getScheduleByCriteria(filters, Pageable.unpaged());
+            }
+        }
+    }
+
+    @Test
+    void getScheduleByCriteriaShouldKeepPoolAndSessionsFlatUnderRepeatedCalls() throws Exception {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        callFilters(WARM_UP_CALLS);
+        int totalConnections = pool.getTotalConnections();
+
+        statistics.clear();
+        callFilters(SOAK_CALLS);
+
+        assertEquals(0, pool.getActiveConnections());
+        assertEquals(0, pool.getThreadsAwaitingConnection());
+        assertTrue(pool.getTotalConnections() <= totalConnections);
+        // every call must close the session it opened, otherwise its persistence context stays on the heap
+        assertTrue(statistics.getSessionOpenCount() >= SOAK_CALLS);
+        assertEquals(statistics.getSessionOpenCount(), statistics.getSessionCloseCount());
+    }
+}
@@ -1,5 +1,6 @@
 package my.project.university.integrationTests;
 
+import com.jayway.jsonpath.JsonPath;
 import my.project.university.models.Schedule;
 import my.project.university.models.dto.ScheduleDto;
 import my.project.university.repository.ScheduleRepository;
@@ -8,9 +9,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -20,6 +23,7 @@ import java.time.LocalTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import static my.project.university.async.AsyncRequests.performAsync;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -37,6 +41,9 @@ class SchedulesApiTest {
     @Autowired
     private ScheduleRepository repository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void findByIdShouldReturnScheduleElementWithGivenId() throws Exception {
         mvc.perform(get(URL_PATH + "1")
@@ -73,6 +80,30 @@ class SchedulesApiTest {
                 .andExpect(jsonPath("$.sort[0].descending").value(false));
     }
 
+    @Test
+    void showAllWithAfterShouldWalkScheduleByCursorWithoutCounting() throws Exception {
+        String response = mvc.perform(get(URL_PATH)
+                .param("after", "")
+                .param("size", "2"))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[1].id").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+
+        String after = JsonPath.read(response, "$.after");
+
+        mvc.perform(get(URL_PATH)
+                .param("after", after)
+                .param("size", "2"))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(3))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
     @Test
     @DirtiesContext
     void addShouldAddNewScheduleElementToDataBase() throws Exception {
@@ -170,11 +201,158 @@ class SchedulesApiTest {
         filters.put("from", "");
         filters.put("to", "");
 
-        mvc.perform(MockMvcRequestBuilders.get(URL_PATH + "filter")
+        performAsync(mvc, MockMvcRequestBuilders.get(URL_PATH + "filter")
                 .params(paramsForm))
                 .andExpect(status().is2xxSuccessful())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.[0].id").value(1));
+                .andExpect(jsonPath("$.content[0].id").value(1));
+    }
+
+    @Test
+    void getScheduleByCriteriaShouldReturnSortedPageAndRejectPagesPastOffsetLimit() throws Exception {
+        performAsync(mvc, get(URL_PATH + "filter")
+                .param("from", "2020-01-01")
+                .param("to", "2020-12-31")
+                .param("size", "1")
+                .param("sort", "lessonDate,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(3))
+                .andExpect(jsonPath("$.totalElements").value(3));
+
+        performAsync(mvc, get(URL_PATH + "filter")
+                .param("page", "1000")
+                .param("size", "50"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Pages past row 10000 are only available with the after cursor"));
+
+        performAsync(mvc, get(URL_PATH + "filter")
+                .param("sort", "teacher.firstName"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Schedules can not be sorted by teacher.firstName"));
+    }
+
+    @Test
+    void getScheduleByCriteriaWithAfterShouldWalkMatchingSchedulesBySlices() throws Exception {
+        MvcResult first = performAsync(mvc, get(URL_PATH + "filter")
+                .param("from", "2020-01-01")
+                .param("to", "2020-12-31")
+                .param("after", "")
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[1].id").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+        String after = JsonPath.read(first.getResponse().getContentAsString(), "$.after");
+
+        performAsync(mvc, get(URL_PATH + "filter")
+                .param("from", "2020-01-01")
+                .param("to", "2020-12-31")
+                .param("after", after)
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(3))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void streamScheduleByCriteriaShouldWriteMatchingScheduleElementsAsNdjson() throws Exception {
+        MvcResult result = mvc.perform(get(URL_PATH + "filter/stream")
+                .param("from", "2020-02-02"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(Integer.valueOf(2), JsonPath.read(lines[0], "$.id"));
+        assertEquals(Integer.valueOf(3), JsonPath.read(lines[1], "$.id"));
+    }
+
+    @Test
+    @DirtiesContext
+    void addShouldReturnStatusConflictWhenGroupIsAlreadyBusyAtThisTime() throws Exception {
+        String requestBody = "{\n" +
+                "    \"lessonDate\": \"2030-01-01\",\n" +
+                "    \"lessonTime\": \"01:01:00\",\n" +
+                "    \"lectureHallId\": %d,\n" +
+                "    \"groupDescription\": \"group_1\",\n" +
+                "    \"teacherId\": %d,\n" +
+                "    \"courseName\": \"course_1\"\n" +
+                "}";
+
+        mvc.perform(post(URL_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(String.format(requestBody, 1, 1)))
+                .andExpect(status().isCreated());
+
+        mvc.perform(post(URL_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(String.format(requestBody, 2, 2)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Group with id 1 already busy at 2030-01-01 01:01"));
+
+        assertEquals(4, repository.count());
+    }
+
+    @Test
+    @DirtiesContext
+    void importShouldInsertFreeRowsAndReportRejectedOnes() throws Exception {
+        String csv = "lessonDate,lessonTime,lectureHallId,groupDescription,teacherId,courseName\n" +
+                "2030-01-01,10:00,1,group_1,1,course_1\n" +
+                "2030-01-01,10:00,2,group_2,1,course_2\n" +
+                "2030-01-01,11:00,2,group_4,2,course_2\n" +
+                "2030-01-01,11:00,2,group_2,2,course_2\n";
+
+        performAsync(mvc, post(URL_PATH + "import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rows[0].status").value("IMPORTED"))
+                .andExpect(jsonPath("$.rows[1].status").value("CONFLICT"))
+                .andExpect(jsonPath("$.rows[1].message").value("Teacher with id 1 already busy at 2030-01-01 10:00"))
+                .andExpect(jsonPath("$.rows[2].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.rows[3].status").value("IMPORTED"));
+
+        assertEquals(5, repository.count());
+    }
+
+    @Test
+    @DirtiesContext
+    void importShouldReportRowsTakenByConcurrentInsertAndRealValidationMessage() throws Exception {
+        String header = "lessonDate,lessonTime,lectureHallId,groupDescription,teacherId,courseName\n";
+        performAsync(mvc, post(URL_PATH + "import")
+                .contentType("text/csv")
+                .content(header + "2030-01-01,10:00,1,group_4,1,course_1\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(0));
+        jdbcTemplate.update("INSERT INTO schedule (lesson_date, lesson_time, lectureHall_id, group_id, teacher_id, course_id) " +
+                "VALUES ('2030-01-01', '12:00', 3, 1, 3, 1)");
+
+        performAsync(mvc, post(URL_PATH + "import")
+                .contentType("text/csv")
+                .content(header +
+                        "2030-01-01,12:00,1,group_1,1,course_1\n" +
+                        "2030-01-01,13:00,2,group_2,2,course_2\n" +
+                        "2030-02-30,13:00,3,group_3,3,course_3\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rows[0].status").value("CONFLICT"))
+                .andExpect(jsonPath("$.rows[0].message").value("Slot at 2030-01-01 12:00 was taken by a concurrent change"))
+                .andExpect(jsonPath("$.rows[1].status").value("IMPORTED"))
+                .andExpect(jsonPath("$.rows[2].status").value("INVALID"))
+                .andExpect(jsonPath("$.rows[2].message").value("Lesson date should be a valid ISO date"));
+
+        assertEquals(5, repository.count());
     }
 
     @Test
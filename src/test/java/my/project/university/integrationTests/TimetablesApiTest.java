@@ -0,0 +1,87 @@
+package my.project.university.integrationTests;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TimetablesApiTest {
+    private static final String URL_PATH = "/api/timetables/";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void getGroupWeekShouldReturnLessonsOfWeekAndStatus304WhenNotModified() throws Exception {
+        MvcResult result = mvc.perform(get(URL_PATH + "groups/1/weeks/2020-W01"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.week").value("2020-W01"))
+                .andExpect(jsonPath("$.firstDay").value("2019-12-30"))
+                .andExpect(jsonPath("$.lastDay").value("2020-01-05"))
+                .andExpect(jsonPath("$.lessons.length()").value(1))
+                .andExpect(jsonPath("$.lessons[0].id").value(1))
+                .andReturn();
+
+        mvc.perform(get(URL_PATH + "groups/1/weeks/2020-W01")
+                .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getTeacherWeekShouldReflectCommittedChanges() throws Exception {
+        String week = URL_PATH + "teachers/1/weeks/2031-W02";
+        String emptyWeek = mvc.perform(get(week))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lessons.length()").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String requestBody = "{\n" +
+                "    \"lessonDate\": \"2031-01-08\",\n" +
+                "    \"lessonTime\": \"10:00:00\",\n" +
+                "    \"lectureHallId\": 1,\n" +
+                "    \"groupDescription\": \"group_1\",\n" +
+                "    \"teacherId\": 1,\n" +
+                "    \"courseName\": \"course_1\"\n" +
+                "}";
+        String created = mvc.perform(post("/api/schedules/")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Integer id = JsonPath.read(created, "$.id");
+
+        String bookedWeek = mvc.perform(get(week))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lessons.length()").value(1))
+                .andExpect(jsonPath("$.lessons[0].id").value(id))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(emptyWeek, bookedWeek);
+
+        mvc.perform(delete("/api/schedules/" + id))
+                .andExpect(status().is2xxSuccessful());
+
+        mvc.perform(get(week).header(HttpHeaders.IF_NONE_MATCH, emptyWeek))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getGroupWeekShouldReturnStatus404WhenGroupNotExist() throws Exception {
+        mvc.perform(get(URL_PATH + "groups/100/weeks/2020-W01"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,178 @@
+package my.project.university.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"logging.level.root=warn", "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"})
+@ActiveProfiles("test")
+@DirtiesContext
+class ApiLoadBenchmark {
+    private static final Logger LOG = LoggerFactory.getLogger(ApiLoadBenchmark.class);
+
+    private static final int GROUPS = Integer.getInteger("loadtest.groups", 100);
+    private static final int STUDENTS = Integer.getInteger("loadtest.students", 10_000);
+    private static final int SCHEDULES = Integer.getInteger("loadtest.schedules", 50_000);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 8);
+    private static final int WARM_UP_SECONDS = Integer.getInteger("loadtest.warmUpSeconds", 10);
+    private static final int MEASURE_SECONDS = Integer.getInteger("loadtest.seconds", 30);
+    private static final Path REPORT_DIRECTORY = Paths.get(System.getProperty("loadtest.reportDir", "target/loadtest"));
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final double MICROS_TO_MILLIS = 1000.0;
+    private static final int PAGE_SIZE = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final Map<String, IntFunction<String>> endpoints = new LinkedHashMap<>();
+    private final Map<String, Histogram> histograms = new HashMap<>();
+    private final Map<String, AtomicLong> errors = new HashMap<>();
+
+    private void defineEndpoints(LoadTestSeeder seeder) {
+        List<Integer> groupIds = seeder.getGroupIds();
+        List<Integer> scheduleIds = seeder.getScheduleIds();
+        String lastDay = seeder.getLastDay(GROUPS, SCHEDULES).toString();
+        int schedulePages = Math.max(1, SCHEDULES / PAGE_SIZE);
+        int studentPages = Math.max(1, STUDENTS / PAGE_SIZE);
+
+        endpoints.put("schedule-by-id", r -> "/api/schedules/" + scheduleIds.get(r % scheduleIds.size()));
+        endpoints.put("schedules-page", r -> "/api/schedules?size=" + PAGE_SIZE + "&page=" + r % schedulePages);
+        endpoints.put("schedules-keyset", r -> "/api/schedules?after=&size=" + PAGE_SIZE);
+        endpoints.put("schedules-filter", r -> "/api/schedules/filter?groupDescription="
+                + LoadTestSeeder.GROUP_PREFIX + r % GROUPS + "&from=" + LoadTestSeeder.FIRST_DAY + "&to=" + lastDay);
+        endpoints.put("group-by-id", r -> "/api/groups/" + groupIds.get(r % groupIds.size()));
+        endpoints.put("group-students", r -> "/api/groups/" + groupIds.get(r % groupIds.size()) + "/students?size=" + PAGE_SIZE);
+        endpoints.put("students-page", r -> "/api/students?size=" + PAGE_SIZE + "&page=" + r % studentPages);
+        endpoints.put("teachers-page", r -> "/api/teachers?size=" + PAGE_SIZE);
+    }
+
+    private void resetHistograms() {
+        endpoints.keySet().forEach(name -> {
+            histograms.put(name, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(name, new AtomicLong());
+        });
+    }
+
+    private void runClients(int seconds) throws InterruptedException {
+        List<String> names = new ArrayList<>(endpoints.keySet());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+
+        for (int c = 0; c < CLIENTS; c++) {
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    String name = names.get(random.nextInt(names.size()));
+                    call(name, endpoints.get(name).apply(random.nextInt(Integer.MAX_VALUE)));
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+    }
+
+    private void call(String name, String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            histograms.get(name).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start),
+                    HIGHEST_TRACKABLE_MICROS));
+            if (response.statusCode() != 200) {
+                errors.get(name).incrementAndGet();
+            }
+        } catch (IOException e) {
+            errors.get(name).incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeReports() throws IOException {
+        Files.createDirectories(REPORT_DIRECTORY);
+        StringBuilder summary = new StringBuilder(String.format(
+                "groups=%d students=%d schedules=%d clients=%d seconds=%d%n%-18s %9s %9s %9s %9s %9s %9s %7s%n",
+                GROUPS, STUDENTS, SCHEDULES, CLIENTS, MEASURE_SECONDS,
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors"));
+
+        for (String name : endpoints.keySet()) {
+            Histogram histogram = histograms.get(name);
+            try (PrintStream out = new PrintStream(Files.newOutputStream(REPORT_DIRECTORY.resolve(name + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, MICROS_TO_MILLIS);
+            }
+            summary.append(String.format("%-18s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %7d%n", name,
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / (double) MEASURE_SECONDS,
+                    histogram.getValueAtPercentile(50) / MICROS_TO_MILLIS,
+                    histogram.getValueAtPercentile(99) / MICROS_TO_MILLIS,
+                    histogram.getValueAtPercentile(99.9) / MICROS_TO_MILLIS,
+                    histogram.getMaxValue() / MICROS_TO_MILLIS,
+                    errors.get(name).get()));
+        }
+        Files.writeString(REPORT_DIRECTORY.resolve("summary.txt"), summary);
+        LOG.warn("API load test finished, reports in {}\n{}", REPORT_DIRECTORY.toAbsolutePath(), summary);
+    }
+
+    @Test
+    void apiThroughputAndLatency() throws Exception {
+        LoadTestSeeder seeder = new LoadTestSeeder(jdbcTemplate);
+        long seedStart = System.nanoTime();
+        seeder.seed(GROUPS, STUDENTS, SCHEDULES);
+        LOG.warn("Seeded {} groups, {} students, {} schedules in {} ms", GROUPS, STUDENTS, SCHEDULES,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+        defineEndpoints(seeder);
+        resetHistograms();
+        runClients(WARM_UP_SECONDS);
+
+        resetHistograms();
+        runClients(MEASURE_SECONDS);
+        writeReports();
+
+        for (String name : endpoints.keySet()) {
+            assertEquals(0, errors.get(name).get(), name + " returned errors");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package my.project.university.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LoadTestSeeder {
+    public static final String GROUP_PREFIX = "load_group_";
+    public static final LocalDate FIRST_DAY = LocalDate.parse("2031-01-01");
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int LESSONS_PER_DAY = 8;
+    private static final LocalTime FIRST_LESSON = LocalTime.parse("08:00");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private List<Integer> groupIds;
+    private List<Integer> scheduleIds;
+
+    public LoadTestSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void seed(int groups, int students, int schedules) {
+        Integer trainingProgramId = jdbcTemplate.queryForObject("select min(id) from trainingProgram", Integer.class);
+        Integer courseId = jdbcTemplate.queryForObject("select min(id) from courses", Integer.class);
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < groups; i++) {
+            rows.add(new Object[]{GROUP_PREFIX + i, trainingProgramId});
+        }
+        jdbcTemplate.batchUpdate("insert into groups (description, trainingProgram_id) values (?, ?)", rows);
+        groupIds = ids("select id from groups where description like '" + GROUP_PREFIX + "%' order by id");
+
+        rows.clear();
+        for (int i = 0; i < groups; i++) {
+            rows.add(new Object[]{"load_teacher_" + i, "load_teacher_" + i});
+        }
+        jdbcTemplate.batchUpdate("insert into teachers (first_name, last_name) values (?, ?)", rows);
+        List<Integer> teacherIds = ids("select id from teachers where first_name like 'load_teacher_%' order by id");
+
+        rows.clear();
+        for (int i = 0; i < groups; i++) {
+            rows.add(new Object[]{1000 + i, 1, 1});
+        }
+        jdbcTemplate.batchUpdate("insert into lectureHalls (housing, floor, number) values (?, ?, ?)", rows);
+        List<Integer> lectureHallIds = ids("select id from lectureHalls where housing >= 1000 order by id");
+
+        jdbcTemplate.batchUpdate("insert into students (first_name, last_name, group_id) values (?, ?, ?)",
+                indexes(students), BATCH_SIZE, (statement, i) -> {
+                    statement.setString(1, "load_student_" + i);
+                    statement.setString(2, "load_student_" + i);
+                    statement.setInt(3, groupIds.get(i % groups));
+                });
+
+        jdbcTemplate.batchUpdate("insert into schedule (lesson_date, lesson_time, lectureHall_id, group_id, teacher_id, course_id) " +
+                        "values (?, ?, ?, ?, ?, ?)",
+                indexes(schedules), BATCH_SIZE, (statement, i) -> {
+                    int slot = i / groups;
+                    int resource = i % groups;
+                    statement.setDate(1, Date.valueOf(FIRST_DAY.plusDays(slot / LESSONS_PER_DAY)));
+                    statement.setTime(2, Time.valueOf(FIRST_LESSON.plusHours(slot % LESSONS_PER_DAY)));
+                    statement.setInt(3, lectureHallIds.get(resource));
+                    statement.setInt(4, groupIds.get(resource));
+                    statement.setInt(5, teacherIds.get((resource + slot) % groups));
+                    statement.setInt(6, courseId);
+                });
+        scheduleIds = ids("select id from schedule where lesson_date >= '" + FIRST_DAY + "' order by id");
+    }
+
+    public List<Integer> getGroupIds() {
+        return groupIds;
+    }
+
+    public List<Integer> getScheduleIds() {
+        return scheduleIds;
+    }
+
+    public LocalDate getLastDay(int groups, int schedules) {
+        return FIRST_DAY.plusDays((long) schedules / groups / LESSONS_PER_DAY);
+    }
+
+    private List<Integer> ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Integer.class);
+    }
+
+    private List<Integer> indexes(int count) {
+        List<Integer> indexes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+}
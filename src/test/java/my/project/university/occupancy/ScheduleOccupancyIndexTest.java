@@ -0,0 +1,118 @@
+package my.project.university.occupancy;
+
+import my.project.university.exceptions.ScheduleConflictException;
+import my.project.university.repository.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ScheduleOccupancyIndexTest {
+    private static final LocalDate DATE = LocalDate.parse("2030-01-01");
+    private static final LocalTime TIME = LocalTime.parse("10:00");
+
+    private ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+
+    private ScheduleOccupancyIndex index = new ScheduleOccupancyIndex(scheduleRepository);
+
+    @BeforeEach
+    void loadBookings() {
+        when(scheduleRepository.findAllBookings()).thenReturn(List.of(new ScheduleBooking(1, DATE, TIME, 1, 1, 1)));
+    }
+
+    @Test
+    void checkConflictsShouldPassWhenAllResourcesAreFree() {
+        assertDoesNotThrow(() -> index.checkConflicts(new ScheduleBooking(null, DATE, TIME, 2, 2, 2)));
+        assertDoesNotThrow(() -> index.checkConflicts(new ScheduleBooking(null, DATE, LocalTime.parse("11:00"), 1, 1, 1)));
+    }
+
+    @Test
+    void checkConflictsShouldReportEveryClashingResource() {
+        ScheduleConflictException e = assertThrows(ScheduleConflictException.class,
+                () -> index.checkConflicts(new ScheduleBooking(null, DATE, TIME, 1, 2, 1)));
+
+        assertEquals(List.of("Teacher with id 1", "Group with id 1"), e.getResources());
+    }
+
+    @Test
+    void checkConflictsShouldReportLectureHallClash() {
+        ScheduleConflictException e = assertThrows(ScheduleConflictException.class,
+                () -> index.checkConflicts(new ScheduleBooking(null, DATE, TIME, 2, 1, 2)));
+
+        assertEquals(List.of("LectureHall with id 1"), e.getResources());
+    }
+
+    @Test
+    void checkConflictsShouldIgnoreOwnBookingWhenScheduleIsUpdated() {
+        assertDoesNotThrow(() -> index.checkConflicts(new ScheduleBooking(1, DATE, TIME, 1, 1, 2)));
+    }
+
+    @Test
+    void findConflictsShouldCheckBatchAgainstIndexAndEarlierRowsOfSameBatch() {
+        List<ScheduleBooking> batch = List.of(
+                new ScheduleBooking(null, DATE, TIME, 1, 2, 2),
+                new ScheduleBooking(null, DATE, TIME, 2, 2, 2),
+                new ScheduleBooking(null, DATE, TIME, 3, 2, 3),
+                new ScheduleBooking(null, DATE, LocalTime.parse("11:00"), 1, 1, 1));
+
+        List<List<String>> expected = List.of(
+                List.of("Teacher with id 1"),
+                List.of(),
+                List.of("LectureHall with id 2"),
+                List.of());
+
+        assertEquals(expected, index.findConflicts(batch));
+    }
+
+    @Test
+    void bookShouldOccupyResourcesAndReleaseOldSlotOfUpdatedSchedule() {
+        index.checkConflicts(new ScheduleBooking(null, DATE, TIME, 2, 2, 2));
+        index.book(new ScheduleBooking(2, DATE, TIME, 2, 2, 2));
+        index.book(new ScheduleBooking(1, DATE, LocalTime.parse("11:00"), 1, 1, 1));
+
+        assertThrows(ScheduleConflictException.class,
+                () -> index.checkConflicts(new ScheduleBooking(null, DATE, TIME, 2, 3, 3)));
+        assertDoesNotThrow(() -> index.checkConflicts(new ScheduleBooking(null, DATE, TIME, 1, 1, 1)));
+    }
+
+    @Test
+    void releaseShouldFreeResourcesOfDeletedSchedule() {
+        index.checkConflicts(new ScheduleBooking(null, DATE, TIME, 2, 2, 2));
+        index.release(1);
+
+        assertDoesNotThrow(() -> index.checkConflicts(new ScheduleBooking(null, DATE, TIME, 1, 1, 1)));
+    }
+
+    @Test
+    void invalidateShouldReloadBookingsOnNextCheck() {
+        index.checkConflicts(new ScheduleBooking(null, DATE, TIME, 2, 2, 2));
+        index.invalidate();
+        when(scheduleRepository.findAllBookings()).thenReturn(List.of());
+
+        assertDoesNotThrow(() -> index.checkConflicts(new ScheduleBooking(null, DATE, TIME, 1, 1, 1)));
+        verify(scheduleRepository, times(2)).findAllBookings();
+    }
+
+    @Test
+    void findBusyLectureHallsShouldReturnHallsTakenAtExactlyThatDateAndTime() {
+        index.findBusyLectureHalls(DATE, TIME).set(5);
+
+        assertEquals(BitSet.valueOf(new long[]{0b10}), index.findBusyLectureHalls(DATE, TIME));
+        assertTrue(index.findBusyLectureHalls(DATE, LocalTime.parse("11:00")).isEmpty());
+    }
+
+    @Test
+    void findTeacherLessonsShouldReturnLessonsOfTeacherWithinRange() {
+        assertEquals(Set.of(LocalDateTime.of(DATE, TIME)), index.findTeacherLessons(1, DATE, DATE.plusDays(6)));
+        assertTrue(index.findTeacherLessons(2, DATE, DATE.plusDays(6)).isEmpty());
+        assertTrue(index.findTeacherLessons(1, DATE.plusDays(1), DATE.plusDays(6)).isEmpty());
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 import javax.persistence.EntityManager;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -144,4 +145,26 @@ class CourseRepositoryTest {
         assertEquals(2, courseRepository.count());
         assertFalse(courseRepository.existsById(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void addTeacherShouldReturnZeroWhenTeacherNotExistOrRelationAlreadyExists() {
+        assertEquals(0, courseRepository.addTeacher(1, 4));
+        assertEquals(0, courseRepository.addTeacher(1, 1));
+        assertEquals(1, courseRepository.addTeacher(1, 2));
+    }
+
+    @Test
+    void addTeachersShouldLinkOnlyExistingTeachersNotYetTeachingCourse() {
+        assertEquals(2, courseRepository.addTeachers(1, List.of(1, 2, 3, 4)));
+
+        entityManager.clear();
+
+        assertEquals(Set.of(testData.teacher1, testData.teacher2, testData.teacher3),
+                courseRepository.findById(1).get().getTeachers());
+    }
+
+    @Test
+    void addTrainingProgramShouldReturnZeroWhenCourseNotExist() {
+        assertEquals(0, courseRepository.addTrainingProgram(4, 1));
+    }
+}
@@ -0,0 +1,104 @@
+package my.project.university.repositoty;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * H2 indexes foreign key columns on its own, so a plan without a table scan proves nothing about the migration.
+ * The checks below name the indexes V1_3__indexes creates.
+ */
+@DataJpaTest
+@ActiveProfiles(profiles = "test")
+class IndexUsageTest {
+    private static final List<String> MIGRATION_INDEXES = List.of(
+            "SCHEDULE_GROUP_ID_LESSON_DATE_IDX",
+            "SCHEDULE_TEACHER_ID_LESSON_DATE_IDX",
+            "SCHEDULE_LECTUREHALL_ID_LESSON_DATE_IDX",
+            "SCHEDULE_COURSE_ID_IDX",
+            "SCHEDULE_LESSON_DATE_LESSON_TIME_ID_IDX",
+            "STUDENTS_GROUP_ID_IDX",
+            "GROUPS_TRAININGPROGRAM_ID_IDX",
+            "COURSE_TEACHER_TEACHER_ID_IDX",
+            "COURSE_TRAININGPROGRAM_TRAININGPROGRAM_ID_IDX");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toUpperCase();
+    }
+
+    private void assertUsesIndex(String sql, String index) {
+        String plan = explain(sql);
+        assertTrue(plan.contains("PUBLIC." + index + ":"), plan);
+    }
+
+    @Test
+    void migrationIndexesShouldExist() {
+        Set<String> indexes = new HashSet<>(jdbcTemplate.queryForList(
+                "select upper(index_name) from information_schema.indexes where table_schema = 'PUBLIC'", String.class));
+
+        MIGRATION_INDEXES.forEach(index -> assertTrue(indexes.contains(index), index));
+    }
+
+    @Test
+    void scheduleByGroupDescriptionAndDateShouldUseGroupDateIndex() {
+        assertUsesIndex("select s.id from schedule s " +
+                        "inner join groups g on s.group_id = g.id " +
+                        "where g.description = 'group_1' and s.lesson_date >= '2020-01-01' and s.lesson_date <= '2020-12-31'",
+                "SCHEDULE_GROUP_ID_LESSON_DATE_IDX");
+    }
+
+    @Test
+    void scheduleByTeacherAndDateShouldUseTeacherDateIndex() {
+        assertUsesIndex("select s.id from schedule s " +
+                        "where s.teacher_id = 1 and s.lesson_date >= '2020-01-01' and s.lesson_date <= '2020-12-31'",
+                "SCHEDULE_TEACHER_ID_LESSON_DATE_IDX");
+    }
+
+    @Test
+    void scheduleByLectureHallAndDateShouldUseLectureHallDateIndex() {
+        assertUsesIndex("select s.id from schedule s " +
+                        "where s.lectureHall_id = 1 and s.lesson_date = '2020-01-01'",
+                "SCHEDULE_LECTUREHALL_ID_LESSON_DATE_IDX");
+    }
+
+    @Test
+    void scheduleKeysetSeekShouldUseKeysetIndex() {
+        assertUsesIndex("select s.id from schedule s " +
+                        "where s.lesson_date >= '2020-01-01' " +
+                        "order by s.lesson_date, s.lesson_time, s.id",
+                "SCHEDULE_LESSON_DATE_LESSON_TIME_ID_IDX");
+    }
+
+    @Test
+    void studentsByGroupShouldUseGroupIndex() {
+        assertUsesIndex("select s.id from students s where s.group_id = 1",
+                "STUDENTS_GROUP_ID_IDX");
+    }
+
+    @Test
+    void coursesByTeacherShouldUseReverseJoinTableIndex() {
+        assertUsesIndex("select c.id from courses c " +
+                        "inner join course_teacher ct on c.id = ct.course_id " +
+                        "where ct.teacher_id = 1",
+                "COURSE_TEACHER_TEACHER_ID_IDX");
+    }
+
+    @Test
+    void coursesByTrainingProgramShouldUseReverseJoinTableIndex() {
+        assertUsesIndex("select c.id from courses c " +
+                        "inner join course_trainingProgram ct on c.id = ct.course_id " +
+                        "where ct.trainingProgram_id = 1",
+                "COURSE_TRAININGPROGRAM_TRAININGPROGRAM_ID_IDX");
+    }
+}
@@ -1,16 +1,29 @@
 package my.project.university.repositoty;
 
 import my.project.university.models.Schedule;
+import my.project.university.models.dto.ScheduleCursor;
+import my.project.university.models.dto.ScheduleFilter;
 import my.project.university.repository.ScheduleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -25,6 +38,9 @@ class MyScheduleRepositoryTest {
     @Autowired
     private ScheduleRepository scheduleRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     public void fillTestData() {
         testData.fillTestData();
@@ -32,26 +48,18 @@ class MyScheduleRepositoryTest {
 
     @Test
     void getScheduleByCriteriaShouldReturnAllSchedulesWhenParametersNotSpecified() {
-        Map<String, String> criteria = Map.of(
-                "groupDescription", "",
-                "teacherId", "",
-                "from", "",
-                "to", "");
+        ScheduleFilter criteria = filter(null, null, null, null);
 
-        assertEquals(testData.allSchedules, scheduleRepository.getScheduleByCriteria(criteria));
+        assertEquals(testData.allSchedules, find(criteria));
     }
 
     @Test
     void getScheduleByCriteriaShouldReturnEmptyListWhenSchedulesNotFound() {
         List<Schedule> expectedSchedules = List.of();
 
-        Map<String, String> criteria = Map.of(
-                "groupDescription", "group_1",
-                "teacherId", "4",
-                "from", "2021-02-06",
-                "to", "");
+        ScheduleFilter criteria = filter("group_1", 4, "2021-02-06", null);
 
-        assertEquals(expectedSchedules, scheduleRepository.getScheduleByCriteria(criteria));
+        assertEquals(expectedSchedules, find(criteria));
 
     }
 
@@ -59,65 +67,185 @@ class MyScheduleRepositoryTest {
     void getScheduleByCriteriaShouldReturnCorrectSchedulesForGroup() {
         List<Schedule> expectedSchedules = List.of(testData.schedule2);
 
-        Map<String, String> criteria = Map.of(
-                "groupDescription", "group_2",
-                "teacherId", "",
-                "from", "",
-                "to", "");
+        ScheduleFilter criteria = filter("group_2", null, null, null);
 
-        assertEquals(expectedSchedules, scheduleRepository.getScheduleByCriteria(criteria));
+        assertEquals(expectedSchedules, find(criteria));
     }
 
     @Test
     void getScheduleByCriteriaShouldReturnCorrectSchedulesForTeacher() {
         List<Schedule> expectedSchedules = List.of(testData.schedule3);
 
-        Map<String, String> criteria = Map.of(
-                "groupDescription", "",
-                "teacherId", "3",
-                "from", "",
-                "to", "");
+        ScheduleFilter criteria = filter(null, 3, null, null);
 
-        assertEquals(expectedSchedules, scheduleRepository.getScheduleByCriteria(criteria));
+        assertEquals(expectedSchedules, find(criteria));
     }
 
     @Test
     void getScheduleByCriteriaShouldReturnCorrectSchedulesForTimeInterval() {
         List<Schedule> expectedSchedules = List.of(testData.schedule3);
 
-        Map<String, String> criteria = Map.of(
-                "groupDescription", "",
-                "teacherId", "3",
-                "from", "2020-02-02",
-                "to", "2020-03-05");
+        ScheduleFilter criteria = filter(null, 3, "2020-02-02", "2020-03-05");
 
-        assertEquals(expectedSchedules, scheduleRepository.getScheduleByCriteria(criteria));
+        assertEquals(expectedSchedules, find(criteria));
     }
 
     @Test
     void getScheduleByCriteriaShouldReturnCorrectSchedulesGreatestThenTime() {
         List<Schedule> expectedSchedules = List.of(testData.schedule2, testData.schedule3);
 
-        Map<String, String> criteria =Map.of(
-                "groupDescription", "",
-                "teacherId", "",
-                "from", "2020-02-01",
-                "to", "");
+        ScheduleFilter criteria = filter(null, null, "2020-02-01", null);
 
-        assertEquals(expectedSchedules, scheduleRepository.getScheduleByCriteria(criteria));
+        assertEquals(expectedSchedules, find(criteria));
     }
 
     @Test
     void getScheduleByCriteriaShouldReturnCorrectSchedulesLessThenTime() {
         List<Schedule> expectedSchedules = List.of(testData.schedule1, testData.schedule2);
 
-        Map<String, String> criteria =Map.of(
-                "groupDescription", "",
-                "teacherId", "",
-                "from", "",
-                "to", "2020-02-06");
+        ScheduleFilter criteria = filter(null, null, null, "2020-02-06");
+
+        assertEquals(expectedSchedules, find(criteria));
+    }
+
+    @Test
+    void insertAllShouldAddEveryScheduleToDataBase() {
+        Schedule first = new Schedule(null, LocalDate.parse("2030-01-01"), LocalTime.parse("10:00"),
+                testData.lectureHall1, testData.group1, testData.teacher1, testData.course1);
+        Schedule second = new Schedule(null, LocalDate.parse("2030-01-01"), LocalTime.parse("10:00"),
+                testData.lectureHall2, testData.group2, testData.teacher2, testData.course2);
+        entityManager.flush();
+
+        scheduleRepository.insertAll(List.of(first, second));
+
+        ScheduleFilter criteria = filter(null, null, "2030-01-01", null);
+        List<Schedule> inserted = find(criteria);
+        assertEquals(2, inserted.size());
+        assertEquals(testData.allSchedules.size() + 2, scheduleRepository.count());
+    }
+
+    @Test
+    void tryInsertAllShouldSkipOnlyRowsRejectedByDataBase() {
+        Schedule free = new Schedule(null, LocalDate.parse("2030-01-01"), LocalTime.parse("10:00"),
+                testData.lectureHall1, testData.group1, testData.teacher1, testData.course1);
+        Schedule taken = new Schedule(null, testData.schedule1.getLessonDate(), testData.schedule1.getLessonTime(),
+                testData.lectureHall2, testData.group1, testData.teacher2, testData.course2);
+        Schedule last = new Schedule(null, LocalDate.parse("2030-01-01"), LocalTime.parse("10:00"),
+                testData.lectureHall2, testData.group2, testData.teacher2, testData.course2);
+        entityManager.flush();
+
+        assertEquals(Set.of(1), scheduleRepository.tryInsertAll(List.of(free, taken, last)));
+
+        assertEquals(2, find(filter(null, null, "2030-01-01", null)).size());
+        assertEquals(testData.allSchedules.size() + 2, scheduleRepository.count());
+    }
+
+    @Test
+    void streamScheduleByCriteriaShouldReturnSameSchedulesAsListQuery() {
+        ScheduleFilter criteria = filter(null, null, "2020-02-02", null);
+
+        List<Schedule> actual;
+        try (Stream<Schedule> schedules = scheduleRepository.streamScheduleByCriteria(criteria)) {
+            actual = schedules.collect(Collectors.toList());
+        }
 
-        assertEquals(expectedSchedules, scheduleRepository.getScheduleByCriteria(criteria));
+        assertEquals(List.of(testData.schedule2, testData.schedule3), actual);
     }
 
-}
\ No newline at end of file
+    @Test
+    void streamScheduleByCriteriaShouldDetachStreamedSchedules() {
+        ScheduleFilter criteria = filter("group_1", null, null, null);
+
+        try (Stream<Schedule> schedules = scheduleRepository.streamScheduleByCriteria(criteria)) {
+            schedules.forEach(schedule -> assertFalse(entityManager.contains(schedule)));
+        }
+    }
+
+    @Test
+    void getScheduleByCriteriaShouldMatchAnyOfSeveralValuesAndTimeOfDayRange() {
+        ScheduleFilter criteria = new ScheduleFilter();
+        criteria.setTeacherId(List.of(1, 3));
+        criteria.setCourseName(List.of(testData.course1.getName(), testData.course3.getName()));
+
+        assertEquals(List.of(testData.schedule1, testData.schedule3), find(criteria));
+
+        criteria.setFromTime(testData.schedule3.getLessonTime());
+        criteria.setToTime(testData.schedule3.getLessonTime());
+
+        assertEquals(List.of(testData.schedule3), find(criteria));
+    }
+
+    @Test
+    void getScheduleByCriteriaShouldReturnRequestedPageInRequestedOrder() {
+        ScheduleFilter criteria = filter(null, null, null, null);
+        Sort sort = Sort.by(Sort.Direction.DESC, "lessonDate");
+
+        Page<Schedule> first = scheduleRepository.getScheduleByCriteria(criteria, PageRequest.of(0, 2, sort));
+        Page<Schedule> last = scheduleRepository.getScheduleByCriteria(criteria, PageRequest.of(1, 2, sort));
+
+        assertEquals(List.of(testData.schedule3, testData.schedule2), first.getContent());
+        assertEquals(3, first.getTotalElements());
+        assertEquals(List.of(testData.schedule1), last.getContent());
+        assertEquals(3, last.getTotalElements());
+    }
+
+    @Test
+    void getScheduleByCriteriaShouldSortByRelatedEntityAndCountOnlyMatchingSchedules() {
+        ScheduleFilter criteria = filter(null, null, "2020-02-01", null);
+
+        Page<Schedule> page = scheduleRepository.getScheduleByCriteria(criteria,
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "groupDescription")));
+
+        assertEquals(List.of(testData.schedule3), page.getContent());
+        assertEquals(2, page.getTotalElements());
+    }
+
+    @Test
+    void getScheduleByCriteriaShouldRejectUnknownSortProperty() {
+        ScheduleFilter criteria = filter(null, null, null, null);
+        PageRequest pageable = PageRequest.of(0, 2, Sort.by("group.description"));
+
+        InvalidDataAccessApiUsageException exception = assertThrows(InvalidDataAccessApiUsageException.class,
+                () -> scheduleRepository.getScheduleByCriteria(criteria, pageable));
+
+        assertEquals("Schedules can not be sorted by group.description", exception.getMostSpecificCause().getMessage());
+    }
+
+    @Test
+    void getScheduleByCriteriaAfterShouldContinueFromCursor() {
+        ScheduleFilter criteria = filter(null, null, null, null);
+
+        Slice<Schedule> first = scheduleRepository.getScheduleByCriteriaAfter(criteria, null, 2);
+        Slice<Schedule> next = scheduleRepository.getScheduleByCriteriaAfter(criteria,
+                ScheduleCursor.of(testData.schedule2), 2);
+
+        assertEquals(List.of(testData.schedule1, testData.schedule2), first.getContent());
+        assertTrue(first.hasNext());
+        assertEquals(List.of(testData.schedule3), next.getContent());
+        assertFalse(next.hasNext());
+    }
+
+    @Test
+    void getScheduleByCriteriaAfterShouldApplyFilter() {
+        ScheduleFilter criteria = filter(null, null, "2020-02-01", null);
+
+        Slice<Schedule> slice = scheduleRepository.getScheduleByCriteriaAfter(criteria,
+                ScheduleCursor.of(testData.schedule1), 5);
+
+        assertEquals(List.of(testData.schedule2, testData.schedule3), slice.getContent());
+        assertFalse(slice.hasNext());
+    }
+
+    private List<Schedule> find(ScheduleFilter criteria) {
+        return scheduleRepository.getScheduleByCriteria(criteria, Pageable.unpaged()).getContent();
+    }
+
+    private ScheduleFilter filter(String groupDescription, Integer teacherId, String from, String to) {
+        ScheduleFilter filter = new ScheduleFilter();
+        filter.setGroupDescription(groupDescription == null ? List.of() : List.of(groupDescription));
+        filter.setTeacherId(teacherId == null ? List.of() : List.of(teacherId));
+        filter.setFrom(from == null ? null : LocalDate.parse(from));
+        filter.setTo(to == null ? null : LocalDate.parse(to));
+        return filter;
+    }
+}
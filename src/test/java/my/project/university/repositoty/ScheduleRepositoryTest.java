@@ -1,7 +1,12 @@
 package my.project.university.repositoty;
 
+import my.project.university.mappers.ScheduleMapper;
+import my.project.university.mappers.ScheduleMapperImpl;
 import my.project.university.models.Schedule;
+import my.project.university.models.dto.ScheduleDto;
+import my.project.university.occupancy.ScheduleBooking;
 import my.project.university.repository.ScheduleRepository;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +14,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import javax.persistence.EntityManager;
@@ -16,8 +24,10 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
@@ -56,6 +66,62 @@ class ScheduleRepositoryTest {
         assertEquals(testData.allSchedules, actual.getContent());
     }
 
+    @Test
+    void findAllDtoShouldReturnSameDtosAsMapperWithoutLoadingEntities() {
+        ScheduleMapper mapper = new ScheduleMapperImpl();
+        entityManager.clear();
+
+        Page<ScheduleDto> actual = scheduleRepository.findAllDto(PageRequest.of(0, 20, Sort.by("id")));
+
+        assertEquals(testData.allSchedules.stream().map(mapper::toDto).collect(Collectors.toList()), actual.getContent());
+        assertEquals(testData.allSchedules.size(), actual.getTotalElements());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void findFirstSliceShouldReturnFirstSchedulesInDateTimeOrder() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("lessonDate", "lessonTime", "id"));
+        Slice<Schedule> actual = scheduleRepository.findFirstSlice(pageable);
+
+        assertEquals(List.of(testData.schedule1, testData.schedule2), actual.getContent());
+        assertTrue(actual.hasNext());
+    }
+
+    @Test
+    void findSliceAfterShouldReturnSchedulesFollowingGivenKey() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("lessonDate", "lessonTime", "id"));
+        Slice<Schedule> actual = scheduleRepository.findSliceAfter(testData.schedule1.getLessonDate(),
+                testData.schedule1.getLessonTime(), 1, pageable);
+
+        assertEquals(List.of(testData.schedule2, testData.schedule3), actual.getContent());
+        assertFalse(actual.hasNext());
+    }
+
+    @Test
+    void findSliceAfterShouldUseIdAsTieBreakerForSameDateAndTime() {
+        Schedule sameTime = scheduleRepository.save(new Schedule(testData.schedule1.getLessonDate(),
+                testData.schedule1.getLessonTime(), testData.lectureHall2, testData.group2, testData.teacher2, testData.course2));
+        entityManager.flush();
+        entityManager.clear();
+
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("lessonDate", "lessonTime", "id"));
+        Slice<Schedule> actual = scheduleRepository.findSliceAfter(testData.schedule1.getLessonDate(),
+                testData.schedule1.getLessonTime(), 1, pageable);
+
+        assertEquals(List.of(sameTime), actual.getContent());
+        assertTrue(actual.hasNext());
+    }
+
+    @Test
+    void findAllBookingsShouldReturnDateTimeAndResourceIdsOfEverySchedule() {
+        List<ScheduleBooking> expected = List.of(
+                new ScheduleBooking(1, testData.schedule1.getLessonDate(), testData.schedule1.getLessonTime(), 1, 1, 1),
+                new ScheduleBooking(2, testData.schedule2.getLessonDate(), testData.schedule2.getLessonTime(), 2, 2, 2),
+                new ScheduleBooking(3, testData.schedule3.getLessonDate(), testData.schedule3.getLessonTime(), 3, 3, 3));
+
+        assertEquals(expected, scheduleRepository.findAllBookings());
+    }
+
     @Test
     void saveShouldAddNewEntityToDataBase() {
         Schedule adding = new Schedule(LocalDate.parse("2020-01-01"), LocalTime.parse("11:11"),
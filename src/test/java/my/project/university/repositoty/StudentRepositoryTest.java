@@ -1,7 +1,11 @@
 package my.project.university.repositoty;
 
+import my.project.university.mappers.StudentMapper;
+import my.project.university.mappers.StudentMapperImpl;
 import my.project.university.models.Student;
+import my.project.university.models.dto.StudentDto;
 import my.project.university.repository.StudentRepository;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,11 +13,13 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import javax.persistence.EntityManager;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -55,6 +61,31 @@ class StudentRepositoryTest {
         assertEquals(testData.allStudents, actual.getContent());
     }
 
+    @Test
+    void findAllDtoShouldReturnSameDtosAsMapperWithoutLoadingEntities() {
+        StudentMapper mapper = new StudentMapperImpl();
+        entityManager.clear();
+
+        Page<StudentDto> actual = studentRepository.findAllDto(PageRequest.of(0, 20, Sort.by("id")));
+
+        assertEquals(testData.allStudents.stream().map(mapper::toDto).collect(Collectors.toList()), actual.getContent());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void findDtoByGroupShouldReturnOnlyStudentsOfGivenGroup() {
+        StudentMapper mapper = new StudentMapperImpl();
+
+        Page<StudentDto> actual = studentRepository.findDtoByGroup(testData.group1, PageRequest.of(0, 20, Sort.by("id")));
+
+        List<StudentDto> expected = testData.allStudents.stream()
+                .filter(student -> student.getGroup().equals(testData.group1))
+                .map(mapper::toDto)
+                .collect(Collectors.toList());
+        assertEquals(expected, actual.getContent());
+        assertEquals(expected.size(), actual.getTotalElements());
+    }
+
     @Test
     void saveShouldAddNewEntityToDataBase() {
         Student adding = new Student("student_4", "student_4", testData.group1);
@@ -107,4 +138,22 @@ class StudentRepositoryTest {
         assertEquals(2, actual.size());
         assertTrue(studentRepository.findById(2).isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void moveToGroupShouldMoveOnlyExistingStudentsWithSingleUpdate() {
+        assertEquals(2, studentRepository.moveToGroup(1, List.of(2, 3, 4)));
+
+        assertEquals(testData.group1, studentRepository.findById(2).get().getGroup());
+        assertEquals(testData.group1, studentRepository.findById(3).get().getGroup());
+    }
+
+    @Test
+    void moveToGroupShouldNotUpdateAnythingWhenGroupNotExist() {
+        assertEquals(0, studentRepository.moveToGroup(4, List.of(1, 2)));
+    }
+
+    @Test
+    void findExistingIdsShouldReturnOnlyIdsOfExistingStudents() {
+        assertEquals(List.of(1, 3), studentRepository.findExistingIds(List.of(1, 3, 5)));
+    }
+}
@@ -0,0 +1,33 @@
+package my.project.university.serializers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import my.project.university.models.dto.ScheduleCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@JsonTest
+@ContextConfiguration(classes = CustomMappingConfiguration.class)
+@SpringJUnitConfig
+class CustomMappingConfigurationTest {
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    void mapperShouldWriteCompactJsonWithIsoDatesAndTimes() throws JsonProcessingException {
+        ScheduleCursor cursor = new ScheduleCursor(LocalDate.of(2030, 1, 1), LocalTime.of(10, 0), 1);
+
+        String actual = mapper.writeValueAsString(cursor);
+
+        assertEquals("{\"lessonDate\":\"2030-01-01\",\"lessonTime\":\"10:00:00\",\"id\":1}", actual);
+    }
+}
@@ -31,33 +31,20 @@ class PageSerializerTest {
 
         Page<CourseDto> page = new PageImpl<>(courses, pageable, 3);
 
-        String expected = "{\r\n" +
-                "  \"content\" : [ {\r\n" +
-                "    \"id\" : 1,\r\n" +
-                "    \"name\" : \"a\",\r\n" +
-                "    \"hours\" : 1\r\n" +
-                "  }, {\r\n" +
-                "    \"id\" : 2,\r\n" +
-                "    \"name\" : \"b\",\r\n" +
-                "    \"hours\" : 2\r\n" +
-                "  } ],\r\n" +
-                "  \"totalPages\" : 2,\r\n" +
-                "  \"totalElements\" : 3,\r\n" +
-                "  \"numberOfElements\" : 2,\r\n" +
-                "  \"pageSize\" : 2,\r\n" +
-                "  \"pageNumber\" : 0,\r\n" +
-                "  \"paged\" : true,\r\n" +
-                "  \"unPaged\" : false,\r\n" +
-                "  \"lastPage\" : false,\r\n" +
-                "  \"firstPage\" : true,\r\n" +
-                "  \"emptyPage\" : false,\r\n" +
-                "  \"sort\" : [ {\r\n" +
-                "    \"property\" : \"id\",\r\n" +
-                "    \"ascending\" : true,\r\n" +
-                "    \"descending\" : false,\r\n" +
-                "    \"ignoreCase\" : false,\r\n" +
-                "    \"nullHandling\" : \"NATIVE\"\r\n" +
-                "  } ]\r\n" +
+        String expected = "{" +
+                "\"content\":[{\"id\":1,\"name\":\"a\",\"hours\":1},{\"id\":2,\"name\":\"b\",\"hours\":2}]," +
+                "\"totalPages\":2," +
+                "\"totalElements\":3," +
+                "\"numberOfElements\":2," +
+                "\"pageSize\":2," +
+                "\"pageNumber\":0," +
+                "\"paged\":true," +
+                "\"unPaged\":false," +
+                "\"lastPage\":false," +
+                "\"firstPage\":true," +
+                "\"emptyPage\":false," +
+                "\"sort\":[{\"property\":\"id\",\"ascending\":true,\"descending\":false," +
+                "\"ignoreCase\":false,\"nullHandling\":\"NATIVE\"}]" +
                 "}";
 
         String actual = mapper.writeValueAsString(page);
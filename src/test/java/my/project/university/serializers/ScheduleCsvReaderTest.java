@@ -0,0 +1,71 @@
+package my.project.university.serializers;
+
+import my.project.university.models.dto.ScheduleDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScheduleCsvReaderTest {
+    private final ScheduleCsvReader reader = new ScheduleCsvReader();
+
+    @Test
+    void readShouldMapColumnsByHeaderNames() throws IOException {
+        String csv = "courseName,teacherId,groupDescription,lectureHallId,lessonTime,lessonDate\n" +
+                "course_1,1,group_1,2,10:00,2030-01-01\n" +
+                "\n" +
+                "\"course, 2\",2,\"group \"\"2\"\"\",3,11:00,2030-01-02\n";
+
+        List<ScheduleDto> expected = List.of(
+                new ScheduleDto(null, "2030-01-01", "10:00", 2, null, null, null,
+                        "group_1", 1, null, null, "course_1"),
+                new ScheduleDto(null, "2030-01-02", "11:00", 3, null, null, null,
+                        "group \"2\"", 2, null, null, "course, 2"));
+
+        assertEquals(new ScheduleCsv(expected, Map.of()), reader.read(new StringReader(csv)));
+    }
+
+    @Test
+    void readShouldLeaveEmptyValuesNull() throws IOException {
+        String csv = "lessonDate,lessonTime,lectureHallId,groupDescription,teacherId,courseName\n" +
+                "2030-01-01,10:00,,group_1,,\n";
+
+        ScheduleDto expected = new ScheduleDto(null, "2030-01-01", "10:00", null, null, null, null,
+                "group_1", null, null, null, null);
+
+        assertEquals(new ScheduleCsv(List.of(expected), Map.of()), reader.read(new StringReader(csv)));
+    }
+
+    @Test
+    void readShouldReturnEmptyListForEmptyInput() throws IOException {
+        assertEquals(new ScheduleCsv(List.of(), Map.of()), reader.read(new StringReader("")));
+    }
+
+    @Test
+    void readShouldThrowIllegalArgumentExceptionWhenRequiredColumnIsMissing() {
+        String csv = "lessonDate,lessonTime,lectureHallId,groupDescription,teacherId\n";
+
+        assertThrows(IllegalArgumentException.class, () -> reader.read(new StringReader(csv)));
+    }
+
+    @Test
+    void readShouldReportRowsThatCannotBeReadAndKeepReadingTheRest() throws IOException {
+        String csv = "lessonDate,lessonTime,lectureHallId,groupDescription,teacherId,courseName\n" +
+                "2030-01-01,10:00,one,group_1,1,course_1\n" +
+                "2030-01-02,11:00,2,\"group_2,2,course_2\n" +
+                "2030-01-03,12:00,3,group_3,3,course_3\n";
+
+        ScheduleDto readable = new ScheduleDto(null, "2030-01-03", "12:00", 3, null, null, null,
+                "group_3", 3, null, null, "course_3");
+        ScheduleCsv expected = new ScheduleCsv(List.of(new ScheduleDto(), new ScheduleDto(), readable), Map.of(
+                1, "lectureHallId should be a number, was 'one'",
+                2, "CSV row 2 is invalid: unclosed quote"));
+
+        assertEquals(expected, reader.read(new StringReader(csv)));
+    }
+}
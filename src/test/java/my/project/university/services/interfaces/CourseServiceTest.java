@@ -1,6 +1,7 @@
 package my.project.university.services.interfaces;
 
 import my.project.university.exceptions.NotFoundEntityException;
+import my.project.university.exceptions.VersionMismatchException;
 import my.project.university.mappers.CourseMapper;
 import my.project.university.mappers.TeacherMapper;
 import my.project.university.mappers.TrainingProgramMapper;
@@ -8,16 +9,20 @@ import my.project.university.models.Course;
 import my.project.university.models.Teacher;
 import my.project.university.models.TrainingProgram;
 import my.project.university.models.dto.CourseDto;
+import my.project.university.models.dto.Versioned;
+import my.project.university.occupancy.ScheduleOccupancyIndex;
 import my.project.university.repository.CourseRepository;
 import my.project.university.repository.TeacherRepository;
 import my.project.university.repository.TrainingProgramRepository;
 import my.project.university.services.CourseServiceImpl;
+import my.project.university.timetable.WeeklyTimetables;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.springframework.data.domain.*;
 
 import java.util.*;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -31,8 +36,11 @@ class CourseServiceTest {
     private final TeacherMapper teacherMapper = mock(TeacherMapper.class);
     private final TrainingProgramMapper trainingProgramMapper = mock(TrainingProgramMapper.class);
 
+    private ScheduleOccupancyIndex occupancyIndex = mock(ScheduleOccupancyIndex.class);
+    private WeeklyTimetables timetables = mock(WeeklyTimetables.class);
+
     private CourseService courseService = new CourseServiceImpl(courseRepository, teacherRepository,
-            trainingProgramRepository, courseMapper, teacherMapper, trainingProgramMapper);
+            trainingProgramRepository, courseMapper, occupancyIndex, timetables);
 
     private Set<Course> courses = new HashSet<>();
 
@@ -150,4 +158,113 @@ class CourseServiceTest {
         assertThrows(NotFoundEntityException.class, ()->courseService.delete(4));
     }
 
-}
\ No newline at end of file
+    @Test
+    void saveOrUpdateShouldMergeWithCurrentVersionWhenDtoHasId() {
+        Course updating = new Course(2, "changed", 2);
+        CourseDto courseDto = new CourseDto(2, "changed", 2);
+
+        when(courseMapper.fromDto(courseDto)).thenReturn(updating);
+        when(courseRepository.findVersionById(2)).thenReturn(Optional.of("3"));
+        when(courseRepository.save(updating)).thenReturn(updating);
+
+        courseService.saveOrUpdate(courseDto);
+
+        assertEquals(3, updating.getVersion());
+        verify(courseRepository).save(updating);
+    }
+
+    @Test
+    void updateShouldReturnUpdatedDtoWithNewVersionWhenExpectedVersionMatches() {
+        Course updating = new Course(2, "changed", 2);
+        CourseDto courseDto = new CourseDto(2, "changed", 2);
+
+        when(courseMapper.fromDto(courseDto)).thenReturn(updating);
+        when(courseMapper.toDto(updating)).thenReturn(courseDto);
+        when(courseRepository.findVersionById(2)).thenReturn(Optional.of("3"), Optional.of("4"));
+        when(courseRepository.save(updating)).thenReturn(updating);
+
+        Versioned<CourseDto> updated = courseService.update(courseDto, "3");
+
+        assertEquals(new Versioned<>(courseDto, "4"), updated);
+        assertEquals(3, updating.getVersion());
+        verify(timetables).invalidate();
+    }
+
+    @Test
+    void updateShouldThrowVersionMismatchExceptionWhenExpectedVersionIsStale() {
+        CourseDto courseDto = new CourseDto(2, "changed", 2);
+        when(courseRepository.findVersionById(2)).thenReturn(Optional.of("4"));
+
+        assertThrows(VersionMismatchException.class, () -> courseService.update(courseDto, "3"));
+
+        verify(courseRepository).findVersionById(2);
+        verifyNoMoreInteractions(courseRepository);
+        verifyNoInteractions(courseMapper);
+    }
+
+    @Test
+    void updateShouldThrowNotFoundEntityExceptionWhenEntityNotExist() {
+        CourseDto courseDto = new CourseDto(4, "changed", 2);
+        when(courseRepository.findVersionById(4)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundEntityException.class, () -> courseService.update(courseDto, null));
+    }
+
+    @Test
+    void addTeacherShouldOnlyCallAddTeacherWhenRelationAdded() {
+        when(courseRepository.addTeacher(1, 2)).thenReturn(1);
+
+        courseService.addTeacher(1, 2);
+
+        verify(courseRepository).addTeacher(1, 2);
+        verifyNoMoreInteractions(courseRepository, teacherRepository);
+    }
+
+    @Test
+    void addTeacherShouldThrowNotFoundEntityExceptionWhenTeacherNotExist() {
+        when(courseRepository.addTeacher(1, 4)).thenReturn(0);
+        when(courseRepository.existsById(1)).thenReturn(true);
+        when(teacherRepository.existsById(4)).thenReturn(false);
+
+        assertThrows(NotFoundEntityException.class, () -> courseService.addTeacher(1, 4));
+    }
+
+    @Test
+    void addTeacherShouldThrowIllegalArgumentExceptionWhenRelationAlreadyExists() {
+        when(courseRepository.addTeacher(1, 1)).thenReturn(0);
+        when(courseRepository.existsById(1)).thenReturn(true);
+        when(teacherRepository.existsById(1)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> courseService.addTeacher(1, 1));
+    }
+
+    @Test
+    void addTeachersShouldOnlyCallAddTeachersWhenAllRelationsAdded() {
+        when(courseRepository.addTeachers(1, Set.of(2, 3))).thenReturn(2);
+
+        courseService.addTeachers(1, List.of(3, 2, 3));
+
+        verify(courseRepository).addTeachers(1, new TreeSet<>(Set.of(2, 3)));
+        verifyNoMoreInteractions(courseRepository, teacherRepository);
+    }
+
+    @Test
+    void addTeachersShouldThrowNotFoundEntityExceptionWithMissingTeacherIds() {
+        when(courseRepository.addTeachers(1, Set.of(2, 4, 5))).thenReturn(1);
+        when(courseRepository.existsById(1)).thenReturn(true);
+        when(teacherRepository.findExistingIds(Set.of(2, 4, 5))).thenReturn(List.of(2));
+
+        NotFoundEntityException exception = assertThrows(NotFoundEntityException.class,
+                () -> courseService.addTeachers(1, List.of(2, 4, 5)));
+        assertEquals("Teacher [4, 5] not found", exception.getMessage());
+    }
+
+    @Test
+    void deleteTrainingProgramShouldThrowNotFoundEntityExceptionWhenCourseNotExist() {
+        when(courseRepository.deleteTrainingProgram(4, 1)).thenReturn(0);
+        when(courseRepository.existsById(4)).thenReturn(false);
+
+        assertThrows(NotFoundEntityException.class, () -> courseService.deleteTrainingProgram(4, 1));
+        verifyNoInteractions(trainingProgramRepository);
+    }
+}
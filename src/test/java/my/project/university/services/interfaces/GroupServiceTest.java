@@ -1,6 +1,7 @@
 package my.project.university.services.interfaces;
 
 import my.project.university.mappers.StudentMapper;
+import my.project.university.occupancy.ScheduleOccupancyIndex;
 import my.project.university.repository.GroupRepository;
 import my.project.university.repository.StudentRepository;
 import my.project.university.repository.TrainingProgramRepository;
@@ -9,7 +10,9 @@ import my.project.university.mappers.GroupMapper;
 import my.project.university.models.Group;
 import my.project.university.models.TrainingProgram;
 import my.project.university.models.dto.GroupDto;
+import my.project.university.models.dto.StudentTransferReport;
 import my.project.university.services.GroupServiceImpl;
+import my.project.university.timetable.WeeklyTimetables;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.springframework.data.domain.Page;
@@ -19,7 +22,9 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -30,8 +35,11 @@ class GroupServiceTest {
     private StudentRepository studentRepository = mock(StudentRepository.class);
     private StudentMapper studentMapper = mock(StudentMapper.class);
 
+    private ScheduleOccupancyIndex occupancyIndex = mock(ScheduleOccupancyIndex.class);
+    private WeeklyTimetables timetables = mock(WeeklyTimetables.class);
+
     private GroupService groupService = new GroupServiceImpl(groupRepository, trainingProgramRepository,
-            studentRepository, studentMapper, groupMapper);
+            studentRepository, groupMapper, occupancyIndex, timetables);
 
     @Test
     void findByIdShouldThrowNotFoundEntityExceptionWhenEntityNotFound() {
@@ -145,8 +153,9 @@ class GroupServiceTest {
     void delete() {
         groupService.delete(1);
         verify(groupRepository).deleteById(1);
+        verify(occupancyIndex).invalidate();
 
-        verifyNoMoreInteractions(groupRepository);
+        verifyNoMoreInteractions(groupRepository, occupancyIndex);
     }
 
     @Test
@@ -154,4 +163,34 @@ class GroupServiceTest {
         doThrow(NotFoundEntityException.class).when(groupRepository).deleteById(4);
         assertThrows(NotFoundEntityException.class, () -> groupService.delete(4));
     }
-}
\ No newline at end of file
+
+    @Test
+    void addStudentsShouldOnlyCallMoveToGroupWhenAllStudentsMoved() {
+        when(studentRepository.moveToGroup(1, Set.of(2, 3))).thenReturn(2);
+
+        StudentTransferReport report = groupService.addStudents(1, List.of(3, 2, 2));
+
+        assertEquals(new StudentTransferReport(2, List.of()), report);
+        verify(studentRepository).moveToGroup(1, Set.of(2, 3));
+        verifyNoMoreInteractions(studentRepository, groupRepository);
+    }
+
+    @Test
+    void addStudentsShouldReturnIdsOfStudentsWhichNotFound() {
+        when(studentRepository.moveToGroup(1, Set.of(2, 4, 5))).thenReturn(1);
+        when(groupRepository.existsById(1)).thenReturn(true);
+        when(studentRepository.findExistingIds(Set.of(2, 4, 5))).thenReturn(List.of(2));
+
+        StudentTransferReport report = groupService.addStudents(1, List.of(2, 4, 5));
+
+        assertEquals(new StudentTransferReport(1, List.of(4, 5)), report);
+    }
+
+    @Test
+    void addStudentsShouldThrowNotFoundEntityExceptionWhenGroupNotExist() {
+        when(studentRepository.moveToGroup(4, Set.of(1))).thenReturn(0);
+        when(groupRepository.existsById(4)).thenReturn(false);
+
+        assertThrows(NotFoundEntityException.class, () -> groupService.addStudents(4, List.of(1)));
+    }
+}
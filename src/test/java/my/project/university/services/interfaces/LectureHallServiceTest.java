@@ -1,24 +1,32 @@
 package my.project.university.services.interfaces;
 
+import my.project.university.occupancy.ScheduleOccupancyIndex;
 import my.project.university.repository.LectureHallRepository;
 import my.project.university.exceptions.NotFoundEntityException;
 import my.project.university.models.LectureHall;
 import my.project.university.services.LectureHallServiceImpl;
+import my.project.university.timetable.WeeklyTimetables;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class LectureHallServiceTest {
     private LectureHallRepository lectureHallRepository = mock(LectureHallRepository.class);
-    private LectureHallService lectureHallService = new LectureHallServiceImpl(lectureHallRepository);
+    private ScheduleOccupancyIndex occupancyIndex = mock(ScheduleOccupancyIndex.class);
+    private WeeklyTimetables timetables = mock(WeeklyTimetables.class);
+    private LectureHallService lectureHallService = new LectureHallServiceImpl(lectureHallRepository, occupancyIndex, timetables);
 
     private LectureHall lectureHall = new LectureHall(1, 1, 1, 1);
 
@@ -52,6 +60,7 @@ class LectureHallServiceTest {
     void add() {
         lectureHallService.saveOrUpdate(lectureHall);
 
+        verify(lectureHallRepository).findVersionById(1);
         verify(lectureHallRepository).save(new LectureHall(lectureHall));
         verifyNoMoreInteractions(lectureHallRepository);
     }
@@ -60,6 +69,7 @@ class LectureHallServiceTest {
     void update() {
         lectureHallService.saveOrUpdate(lectureHall);
 
+        verify(lectureHallRepository).findVersionById(1);
         verify(lectureHallRepository).save(lectureHall);
         verifyNoMoreInteractions(lectureHallRepository);
     }
@@ -69,7 +79,9 @@ class LectureHallServiceTest {
         lectureHallService.delete(1);
 
         verify(lectureHallRepository).deleteById(1);
-        verifyNoMoreInteractions(lectureHallRepository);
+        verify(occupancyIndex).invalidate();
+        verify(timetables).invalidate();
+        verifyNoMoreInteractions(lectureHallRepository, occupancyIndex, timetables);
     }
 
     @Test
@@ -77,4 +89,18 @@ class LectureHallServiceTest {
         doThrow(NotFoundEntityException.class).when(lectureHallRepository).deleteById(4);
         assertThrows(NotFoundEntityException.class, ()->lectureHallService.delete(4));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findFreeShouldSkipLectureHallsBusyAtGivenTime() {
+        LocalDate date = LocalDate.parse("2030-01-01");
+        LocalTime time = LocalTime.parse("09:40");
+        LectureHall free = new LectureHall(2, 1, 1, 2);
+        BitSet busy = new BitSet();
+        busy.set(1);
+        when(lectureHallRepository.findAllByHousingOrderById(1)).thenReturn(List.of(lectureHall, free));
+        when(occupancyIndex.findBusyLectureHalls(date, time)).thenReturn(busy);
+
+        assertEquals(List.of(free), lectureHallService.findFree(date, time, 1));
+        verify(lectureHallRepository, never()).findAllByOrderById();
+    }
+}
@@ -0,0 +1,107 @@
+package my.project.university.services.interfaces;
+
+import my.project.university.models.Schedule;
+import my.project.university.models.dto.ScheduleGenerationReport;
+import my.project.university.models.dto.UnscheduledLessons;
+import my.project.university.occupancy.ScheduleBooking;
+import my.project.university.occupancy.ScheduleOccupancyIndex;
+import my.project.university.property.TimetableGenerationProperties;
+import my.project.university.repository.CourseRepository;
+import my.project.university.repository.GroupRepository;
+import my.project.university.repository.LectureHallRepository;
+import my.project.university.repository.ScheduleRepository;
+import my.project.university.services.ScheduleGenerationServiceImpl;
+import my.project.university.solver.CourseLoad;
+import my.project.university.solver.Qualification;
+import my.project.university.timetable.TimetableRenderer;
+import my.project.university.timetable.WeeklyTimetables;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ScheduleGenerationServiceTest {
+    private static final LocalDate MONDAY = LocalDate.parse("2020-01-06");
+    private static final LocalDate FRIDAY = LocalDate.parse("2020-01-10");
+
+    private ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private GroupRepository groupRepository = mock(GroupRepository.class);
+    private CourseRepository courseRepository = mock(CourseRepository.class);
+    private LectureHallRepository lectureHallRepository = mock(LectureHallRepository.class);
+    private ScheduleOccupancyIndex occupancyIndex = mock(ScheduleOccupancyIndex.class);
+    private TimetableGenerationProperties properties = new TimetableGenerationProperties();
+
+    private ScheduleGenerationService generationService = new ScheduleGenerationServiceImpl(scheduleRepository,
+            groupRepository, courseRepository, lectureHallRepository, occupancyIndex,
+            new WeeklyTimetables(new StaticListableBeanFactory().getBeanProvider(TimetableRenderer.class)), properties);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void generateShouldPlaceRemainingLessonsAroundExistingBookingsAndInsertThemInOneBatch() {
+        properties.setLessonTimes(List.of(LocalTime.of(8, 0), LocalTime.of(9, 40)));
+        properties.setAttempts(2);
+        when(groupRepository.findCourseLoads()).thenReturn(List.of(
+                new CourseLoad(1, 10, 4), new CourseLoad(2, 10, 4), new CourseLoad(1, 20, 3)));
+        when(scheduleRepository.findCourseLoads(MONDAY, FRIDAY)).thenReturn(List.of(new CourseLoad(1, 20, 1L)));
+        when(courseRepository.findQualifications()).thenReturn(List.of(
+                new Qualification(10, 100), new Qualification(20, 100), new Qualification(20, 200)));
+        when(lectureHallRepository.findAllIds()).thenReturn(List.of(1000, 2000));
+        when(occupancyIndex.findBookings(MONDAY, FRIDAY)).thenReturn(List.of(
+                new ScheduleBooking(1, MONDAY, LocalTime.of(8, 0), 100, 3000, 3)));
+
+        ScheduleGenerationReport report = generationService.generate(MONDAY, FRIDAY);
+
+        ArgumentCaptor<List<Schedule>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(scheduleRepository).insertAll(inserted.capture());
+        assertEquals(10, report.getRequired());
+        assertEquals(10, report.getScheduled());
+        assertTrue(report.getUnscheduled().isEmpty());
+        assertEquals(10, inserted.getValue().size());
+
+        Set<String> teachersBusy = new HashSet<>();
+        Set<String> groupsBusy = new HashSet<>();
+        teachersBusy.add(MONDAY + " 08:00 100");
+        for (Schedule schedule : inserted.getValue()) {
+            String slot = schedule.getLessonDate() + " " + schedule.getLessonTime() + " ";
+            assertTrue(teachersBusy.add(slot + schedule.getTeacher().getId()));
+            assertTrue(groupsBusy.add(slot + schedule.getGroup().getId()));
+            assertTrue(properties.getWorkingDays().contains(schedule.getLessonDate().getDayOfWeek()));
+        }
+        verify(occupancyIndex).invalidate();
+    }
+
+    @Test
+    void generateShouldReportLessonsWhichHaveNoQualifiedTeacher() {
+        when(groupRepository.findCourseLoads()).thenReturn(List.of(new CourseLoad(1, 10, 2)));
+        when(lectureHallRepository.findAllIds()).thenReturn(List.of(1000));
+
+        ScheduleGenerationReport report = generationService.generate(MONDAY, FRIDAY);
+
+        assertEquals(0, report.getScheduled());
+        assertEquals(List.of(new UnscheduledLessons(1, 10, 2)), report.getUnscheduled());
+        verify(scheduleRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void generateShouldThrowIllegalArgumentExceptionWhenRangeIsReversed() {
+        assertThrows(IllegalArgumentException.class, () -> generationService.generate(FRIDAY, MONDAY));
+        verifyNoInteractions(scheduleRepository, groupRepository, occupancyIndex);
+    }
+
+    @Test
+    void generateShouldThrowIllegalArgumentExceptionWhenRangeHasNoWorkingDays() {
+        LocalDate saturday = FRIDAY.plusDays(1);
+
+        assertThrows(IllegalArgumentException.class, () -> generationService.generate(saturday, saturday.plusDays(1)));
+        verifyNoInteractions(scheduleRepository, groupRepository, occupancyIndex);
+    }
+}
@@ -1,24 +1,46 @@
 package my.project.university.services.interfaces;
 
 import my.project.university.exceptions.NotFoundEntityException;
+import my.project.university.exceptions.ScheduleConflictException;
 import my.project.university.mappers.ScheduleMapper;
 import my.project.university.models.*;
+import my.project.university.models.dto.KeysetSlice;
+import my.project.university.models.dto.ScheduleCursor;
 import my.project.university.models.dto.ScheduleDto;
+import my.project.university.models.dto.ScheduleFilter;
+import my.project.university.models.dto.ScheduleImportReport;
+import my.project.university.models.dto.ScheduleImportRow;
+import my.project.university.occupancy.ScheduleBooking;
+import my.project.university.occupancy.ScheduleOccupancyIndex;
+import my.project.university.property.ScheduleFilterProperties;
 import my.project.university.repository.*;
 import my.project.university.services.ScheduleServiceImpl;
+import my.project.university.timetable.WeeklyTimetables;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
-import java.util.HashMap;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -30,8 +52,14 @@ class ScheduleServiceTest {
     private LectureHallRepository lectureHallRepository = mock(LectureHallRepository.class);
     private ScheduleMapper scheduleMapper = mock(ScheduleMapper.class);
 
+    private ScheduleOccupancyIndex occupancyIndex = mock(ScheduleOccupancyIndex.class);
+    private WeeklyTimetables timetables = mock(WeeklyTimetables.class);
+    private Validator validator = mock(Validator.class);
+    private ScheduleFilterProperties filterProperties = new ScheduleFilterProperties();
+
     private ScheduleService scheduleService = new ScheduleServiceImpl(scheduleRepository, groupRepository,
-            courseRepository, teacherRepository, lectureHallRepository, scheduleMapper);
+            courseRepository, teacherRepository, lectureHallRepository, scheduleMapper, occupancyIndex, timetables, validator,
+            filterProperties);
 
 
     @Test
@@ -57,17 +85,45 @@ class ScheduleServiceTest {
     @Test
     void findAll() {
         Pageable pageable = PageRequest.of(1, 10);
-        Page<Schedule> schedules = new PageImpl<>(List.of(new Schedule()));
+        Page<ScheduleDto> schedules = new PageImpl<>(List.of(new ScheduleDto()));
 
-        when(scheduleRepository.findAll(pageable)).thenReturn(schedules);
+        when(scheduleRepository.findAllDto(pageable)).thenReturn(schedules);
 
-        scheduleService.findAll(pageable);
+        assertEquals(schedules, scheduleService.findAll(pageable));
 
-        InOrder inOrder = inOrder(scheduleRepository, scheduleMapper);
-        inOrder.verify(scheduleRepository).findAll(pageable);
-        inOrder.verify(scheduleMapper, times(schedules.getSize())).toDto(any());
+        verify(scheduleRepository).findAllDto(pageable);
+        verifyNoMoreInteractions(scheduleRepository);
+        verifyNoInteractions(scheduleMapper);
+    }
 
+    @Test
+    void findAllAfterShouldRequestFirstSliceWhenCursorIsNull() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("lessonDate", "lessonTime", "id").ascending());
+        when(scheduleRepository.findFirstSlice(pageable)).thenReturn(new SliceImpl<>(List.of(new Schedule()), pageable, false));
+
+        KeysetSlice<ScheduleDto> actual = scheduleService.findAllAfter(null, 2);
+
+        verify(scheduleRepository).findFirstSlice(pageable);
+        verify(scheduleMapper).toDto(any());
         verifyNoMoreInteractions(scheduleRepository, scheduleMapper);
+        assertNull(actual.getAfter());
+    }
+
+    @Test
+    void findAllAfterShouldSeekFromCursorAndReturnCursorOfLastElement() {
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("lessonDate", "lessonTime", "id").ascending());
+        ScheduleCursor cursor = new ScheduleCursor(LocalDate.parse("2020-01-01"), LocalTime.parse("01:01"), 1);
+        Schedule last = new Schedule(2, LocalDate.parse("2020-02-02"), LocalTime.parse("02:02"), null, null, null, null);
+
+        when(scheduleRepository.findSliceAfter(cursor.getLessonDate(), cursor.getLessonTime(), cursor.getId(), pageable))
+                .thenReturn(new SliceImpl<>(List.of(last), pageable, true));
+
+        KeysetSlice<ScheduleDto> actual = scheduleService.findAllAfter(cursor, 1);
+
+        verify(scheduleRepository).findSliceAfter(cursor.getLessonDate(), cursor.getLessonTime(), cursor.getId(), pageable);
+        verify(scheduleMapper).toDto(last);
+        verifyNoMoreInteractions(scheduleRepository, scheduleMapper);
+        assertEquals(ScheduleCursor.of(last), ScheduleCursor.decode(actual.getAfter()));
     }
 
     @Test
@@ -89,7 +145,7 @@ class ScheduleServiceTest {
 
         scheduleService.saveOrUpdate(scheduleDto);
 
-        InOrder inOrder = inOrder(groupRepository, courseRepository, teacherRepository, lectureHallRepository, scheduleRepository, scheduleMapper, adding);
+        InOrder inOrder = inOrder(groupRepository, courseRepository, teacherRepository, lectureHallRepository, scheduleRepository, scheduleMapper, occupancyIndex, timetables, adding);
 
         inOrder.verify(scheduleMapper).fromDto(scheduleDto);
 
@@ -105,10 +161,17 @@ class ScheduleServiceTest {
         inOrder.verify(lectureHallRepository).findById(scheduleDto.getLectureHallId());
         inOrder.verify(adding).setLectureHall(lectureHall);
 
+        inOrder.verify(adding).getId();
+        inOrder.verify(adding).getLessonDate();
+        inOrder.verify(adding).getLessonTime();
+        inOrder.verify(occupancyIndex).checkConflicts(any());
+
         inOrder.verify(scheduleRepository).save(adding);
+        inOrder.verify(occupancyIndex).book(any());
+        inOrder.verify(timetables).refresh(any(ScheduleBooking.class));
         inOrder.verify(scheduleMapper).toDto(added);
 
-        verifyNoMoreInteractions(groupRepository, courseRepository, teacherRepository, lectureHallRepository, scheduleRepository, scheduleMapper, adding);
+        verifyNoMoreInteractions(groupRepository, courseRepository, teacherRepository, lectureHallRepository, scheduleRepository, scheduleMapper, occupancyIndex, adding);
     }
 
     @Test
@@ -130,7 +193,7 @@ class ScheduleServiceTest {
 
         scheduleService.saveOrUpdate(scheduleDto);
 
-        InOrder inOrder = inOrder(groupRepository, courseRepository, teacherRepository, lectureHallRepository, scheduleRepository, scheduleMapper, updating);
+        InOrder inOrder = inOrder(groupRepository, courseRepository, teacherRepository, lectureHallRepository, scheduleRepository, scheduleMapper, occupancyIndex, updating);
 
         inOrder.verify(scheduleMapper).fromDto(scheduleDto);
 
@@ -146,10 +209,149 @@ class ScheduleServiceTest {
         inOrder.verify(lectureHallRepository).findById(scheduleDto.getLectureHallId());
         inOrder.verify(updating).setLectureHall(lectureHall);
 
+        inOrder.verify(updating).getId();
+        inOrder.verify(updating).getLessonDate();
+        inOrder.verify(updating).getLessonTime();
+        inOrder.verify(occupancyIndex).checkConflicts(any());
+
         inOrder.verify(scheduleRepository).save(updating);
+        inOrder.verify(occupancyIndex).book(any());
         inOrder.verify(scheduleMapper).toDto(updated);
 
-        verifyNoMoreInteractions(groupRepository, courseRepository, teacherRepository, lectureHallRepository, scheduleRepository, scheduleMapper, updating);
+        verifyNoMoreInteractions(groupRepository, courseRepository, teacherRepository, lectureHallRepository, scheduleRepository, scheduleMapper, occupancyIndex, updating);
+    }
+
+    @Test
+    void saveOrUpdateShouldNotSaveScheduleWhenOccupancyIndexReportsConflict() {
+        ScheduleDto scheduleDto = new ScheduleDto();
+        Schedule adding = new Schedule();
+
+        when(scheduleMapper.fromDto(scheduleDto)).thenReturn(adding);
+        when(groupRepository.findByDescription(scheduleDto.getGroupDescription())).thenReturn(Optional.of(new Group(1)));
+        when(courseRepository.findByName(scheduleDto.getCourseName())).thenReturn(Optional.of(new Course()));
+        when(teacherRepository.findById(scheduleDto.getTeacherId())).thenReturn(Optional.of(new Teacher()));
+        when(lectureHallRepository.findById(scheduleDto.getLectureHallId())).thenReturn(Optional.of(new LectureHall()));
+        doThrow(ScheduleConflictException.class).when(occupancyIndex).checkConflicts(any());
+
+        assertThrows(ScheduleConflictException.class, () -> scheduleService.saveOrUpdate(scheduleDto));
+
+        verify(scheduleRepository, never()).save(any());
+        verify(occupancyIndex, never()).book(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importSchedulesShouldResolveReferencesInBulkAndInsertOnlyValidFreeRows() {
+        ScheduleDto imported = new ScheduleDto(null, "2030-01-01", "10:00", 1, null, null, null,
+                "group_1", 1, null, null, "course_1");
+        ScheduleDto invalid = new ScheduleDto(null, "2020-01-01", "10:00", 1, null, null, null,
+                "group_1", 1, null, null, "course_1");
+        ScheduleDto notFound = new ScheduleDto(null, "2030-01-01", "10:00", 1, null, null, null,
+                "group_2", 1, null, null, "course_1");
+        ScheduleDto conflict = new ScheduleDto(null, "2030-01-01", "10:00:00", 1, null, null, null,
+                "group_1", 1, null, null, "course_1");
+        Schedule importedSchedule = new Schedule(null, LocalDate.parse("2030-01-01"), LocalTime.parse("10:00"),
+                null, null, null, null);
+        Schedule conflictSchedule = new Schedule(null, LocalDate.parse("2030-01-01"), LocalTime.parse("10:00"),
+                null, null, null, null);
+        ConstraintViolation<ScheduleDto> violation = mock(ConstraintViolation.class);
+
+        when(violation.getMessage()).thenReturn("The specified date and time have already passed");
+        when(validator.validate(same(invalid), any())).thenReturn(Set.of(violation));
+        when(groupRepository.findAllByDescriptionIn(any())).thenReturn(List.of(new Group(1, "group_1", null)));
+        when(courseRepository.findAllByNameIn(any())).thenReturn(List.of(new Course(1, "course_1", 1)));
+        when(teacherRepository.findAllById(any())).thenReturn(List.of(new Teacher(1, "first", "last")));
+        when(lectureHallRepository.findAllById(any())).thenReturn(List.of(new LectureHall(1, 1, 1, 1)));
+        when(scheduleMapper.fromDto(imported)).thenReturn(importedSchedule);
+        when(scheduleMapper.fromDto(conflict)).thenReturn(conflictSchedule);
+        when(occupancyIndex.findConflicts(any())).thenReturn(List.of(List.of(), List.of("Group with id 1")));
+
+        ScheduleImportReport report = scheduleService.importSchedules(List.of(imported, invalid, notFound, conflict));
+
+        List<ScheduleImportRow> expectedRows = List.of(
+                new ScheduleImportRow(1, ScheduleImportRow.Status.IMPORTED, null),
+                new ScheduleImportRow(2, ScheduleImportRow.Status.INVALID, "The specified date and time have already passed"),
+                new ScheduleImportRow(3, ScheduleImportRow.Status.NOT_FOUND, "Group group_2 not found"),
+                new ScheduleImportRow(4, ScheduleImportRow.Status.CONFLICT, "Group with id 1 already busy at 2030-01-01 10:00"));
+        assertEquals(new ScheduleImportReport(1, 3, expectedRows), report);
+
+        verify(groupRepository).findAllByDescriptionIn(Set.of("group_1", "group_2"));
+        verify(courseRepository).findAllByNameIn(Set.of("course_1"));
+        verify(teacherRepository).findAllById(Set.of(1));
+        verify(lectureHallRepository).findAllById(Set.of(1));
+        verify(scheduleRepository).tryInsertAll(List.of(importedSchedule));
+        verify(occupancyIndex).invalidate();
+        verify(timetables).invalidate();
+        assertEquals(new Group(1, "group_1", null), importedSchedule.getGroup());
+        verifyNoMoreInteractions(groupRepository, courseRepository, teacherRepository, lectureHallRepository, scheduleRepository);
+    }
+
+    @Test
+    void importSchedulesShouldReportConflictForRowsRejectedByDataBase() {
+        ScheduleDto free = new ScheduleDto(null, "2030-01-01", "10:00", 1, null, null, null,
+                "group_1", 1, null, null, "course_1");
+        ScheduleDto taken = new ScheduleDto(null, "2030-01-02", "10:00", 1, null, null, null,
+                "group_1", 1, null, null, "course_1");
+        Schedule freeSchedule = new Schedule(null, LocalDate.parse("2030-01-01"), LocalTime.parse("10:00"),
+                null, null, null, null);
+        Schedule takenSchedule = new Schedule(null, LocalDate.parse("2030-01-02"), LocalTime.parse("10:00"),
+                null, null, null, null);
+
+        when(groupRepository.findAllByDescriptionIn(any())).thenReturn(List.of(new Group(1, "group_1", null)));
+        when(courseRepository.findAllByNameIn(any())).thenReturn(List.of(new Course(1, "course_1", 1)));
+        when(teacherRepository.findAllById(any())).thenReturn(List.of(new Teacher(1, "first", "last")));
+        when(lectureHallRepository.findAllById(any())).thenReturn(List.of(new LectureHall(1, 1, 1, 1)));
+        when(scheduleMapper.fromDto(free)).thenReturn(freeSchedule);
+        when(scheduleMapper.fromDto(taken)).thenReturn(takenSchedule);
+        when(occupancyIndex.findConflicts(any())).thenReturn(List.of(List.of(), List.of()));
+        when(scheduleRepository.tryInsertAll(List.of(freeSchedule, takenSchedule))).thenReturn(Set.of(1));
+
+        ScheduleImportReport report = scheduleService.importSchedules(List.of(free, taken));
+
+        List<ScheduleImportRow> expectedRows = List.of(
+                new ScheduleImportRow(1, ScheduleImportRow.Status.IMPORTED, null),
+                new ScheduleImportRow(2, ScheduleImportRow.Status.CONFLICT,
+                        "Slot at 2030-01-02 10:00 was taken by a concurrent change"));
+        assertEquals(new ScheduleImportReport(1, 1, expectedRows), report);
+
+        verify(occupancyIndex).invalidate();
+    }
+
+    @Test
+    void importSchedulesShouldNotInsertAnythingWhenEveryRowIsRejected() {
+        ScheduleDto notFound = new ScheduleDto(null, "2030-01-01", "10:00", 1, null, null, null,
+                "group_2", 1, null, null, "course_1");
+
+        when(occupancyIndex.findConflicts(any())).thenReturn(List.of());
+
+        ScheduleImportReport report = scheduleService.importSchedules(List.of(notFound));
+
+        assertEquals(0, report.getImported());
+        assertEquals(1, report.getRejected());
+        assertEquals(ScheduleImportRow.Status.NOT_FOUND, report.getRows().get(0).getStatus());
+        verify(scheduleRepository, never()).tryInsertAll(any());
+        verify(occupancyIndex, never()).invalidate();
+    }
+
+    @Test
+    void importSchedulesShouldReportUnreadableRowsAsInvalidWithoutValidatingThem() {
+        ScheduleDto unreadable = new ScheduleDto();
+        ScheduleDto notFound = new ScheduleDto(null, "2030-01-01", "10:00", 1, null, null, null,
+                "group_2", 1, null, null, "course_1");
+
+        when(occupancyIndex.findConflicts(any())).thenReturn(List.of());
+
+        ScheduleImportReport report = scheduleService.importSchedules(List.of(unreadable, notFound),
+                Map.of(1, "teacherId should be a number, was 'one'"));
+
+        List<ScheduleImportRow> expectedRows = List.of(
+                new ScheduleImportRow(1, ScheduleImportRow.Status.INVALID, "teacherId should be a number, was 'one'"),
+                new ScheduleImportRow(2, ScheduleImportRow.Status.NOT_FOUND,
+                        "Group group_2 not found, Course course_1 not found, Teacher 1 not found, LectureHall 1 not found"));
+        assertEquals(new ScheduleImportReport(0, 2, expectedRows), report);
+
+        verify(validator, never()).validate(same(unreadable), any());
+        verify(scheduleRepository, never()).tryInsertAll(any());
     }
 
     @Test
@@ -157,24 +359,91 @@ class ScheduleServiceTest {
         scheduleService.delete(1);
 
         verify(scheduleRepository).remove(1);
-        verifyNoMoreInteractions(scheduleRepository);
+        verify(occupancyIndex).release(1);
+        verify(timetables).refresh(1);
+        verifyNoMoreInteractions(scheduleRepository, occupancyIndex, timetables);
     }
 
     @Test
     void getScheduleByCriteria() {
-        Map<String, String> filters = new HashMap<>();
+        ScheduleFilter filters = new ScheduleFilter();
+        Pageable pageable = PageRequest.of(1, 10, Sort.by("lessonDate"));
         List<Schedule> schedules = List.of(new Schedule());
 
-        when(scheduleRepository.getScheduleByCriteria(filters)).thenReturn(schedules);
+        when(scheduleRepository.getScheduleByCriteria(filters, pageable)).thenReturn(new PageImpl<>(schedules, pageable, 11));
 
-        scheduleService.getScheduleByCriteria(filters);
+        scheduleService.getScheduleByCriteria(filters, pageable);
 
-        verify(scheduleRepository).getScheduleByCriteria(filters);
+        verify(scheduleRepository).getScheduleByCriteria(filters, pageable);
         verify(scheduleMapper, times(schedules.size())).toDto(any());
         verifyNoMoreInteractions(scheduleRepository, scheduleMapper);
 
     }
 
+    @Test
+    void getScheduleByCriteriaShouldClampPageSize() {
+        ScheduleFilter filters = new ScheduleFilter();
+        filterProperties.setMaxPageSize(20);
+        Pageable bounded = PageRequest.of(2, 20, Sort.by("id"));
+        when(scheduleRepository.getScheduleByCriteria(any(), any())).thenReturn(Page.empty());
+
+        scheduleService.getScheduleByCriteria(filters, PageRequest.of(2, 500, Sort.by("id")));
+        scheduleService.getScheduleByCriteria(filters, Pageable.unpaged());
+
+        verify(scheduleRepository).getScheduleByCriteria(filters, bounded);
+        verify(scheduleRepository).getScheduleByCriteria(filters, PageRequest.of(0, 20));
+    }
+
+    @Test
+    void getScheduleByCriteriaShouldRejectPagesPastOffsetLimit() {
+        filterProperties.setMaxOffsetRows(100);
+
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> scheduleService.getScheduleByCriteria(new ScheduleFilter(), PageRequest.of(2, 50)));
+
+        assertEquals("Pages past row 100 are only available with the after cursor", exception.getMessage());
+        verifyNoInteractions(scheduleRepository);
+    }
+
+    @Test
+    void getScheduleByCriteriaAfterShouldReturnCursorOfLastSchedule() {
+        ScheduleFilter filters = new ScheduleFilter();
+        ScheduleCursor after = new ScheduleCursor(LocalDate.parse("2020-10-10"), LocalTime.parse("08:00"), 3);
+        Schedule last = new Schedule();
+        last.setId(7);
+        last.setLessonDate(LocalDate.parse("2020-10-11"));
+        last.setLessonTime(LocalTime.parse("09:40"));
+        filterProperties.setMaxPageSize(2);
+        when(scheduleRepository.getScheduleByCriteriaAfter(filters, after, 2))
+                .thenReturn(new SliceImpl<>(List.of(new Schedule(), last), PageRequest.of(0, 2), true));
+
+        KeysetSlice<ScheduleDto> slice = scheduleService.getScheduleByCriteriaAfter(filters, after, 10);
+
+        assertEquals(2, slice.getPageSize());
+        assertTrue(slice.isHasNext());
+        assertEquals(ScheduleCursor.of(last).encode(), slice.getAfter());
+        verify(scheduleMapper, times(2)).toDto(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamScheduleByCriteriaShouldPassEveryMappedScheduleToConsumer() {
+        ScheduleFilter filters = new ScheduleFilter();
+        Schedule schedule = new Schedule();
+        ScheduleDto dto = new ScheduleDto();
+        Consumer<ScheduleDto> consumer = mock(Consumer.class);
+
+        when(scheduleRepository.streamScheduleByCriteria(filters)).thenReturn(Stream.of(schedule, schedule));
+        when(scheduleMapper.toDto(schedule)).thenReturn(dto);
+
+        scheduleService.streamScheduleByCriteria(filters, consumer);
+
+        verify(scheduleRepository).streamScheduleByCriteria(filters);
+        verify(scheduleMapper, times(2)).toDto(schedule);
+        verify(consumer, times(2)).accept(dto);
+        verifyNoMoreInteractions(scheduleRepository, scheduleMapper, consumer);
+    }
+
     @Test
     void deleteShouldThrowNotFoundEntityExceptionWhenDeletingEntityWhichNotExist() {
         doThrow(NotFoundEntityException.class).when(scheduleRepository).remove(4);
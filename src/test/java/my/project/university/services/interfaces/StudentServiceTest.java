@@ -18,6 +18,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.*;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -51,17 +52,15 @@ class StudentServiceTest {
     @Test
     void findAll() {
         Pageable pageable = PageRequest.of(1, 10);
-        Page<Student> students = new PageImpl<>(List.of(new Student()));
+        Page<StudentDto> students = new PageImpl<>(List.of(new StudentDto()));
 
-        when(studentRepository.findAll(pageable)).thenReturn(students);
+        when(studentRepository.findAllDto(pageable)).thenReturn(students);
 
-        studentService.findAll(pageable);
+        assertEquals(students, studentService.findAll(pageable));
 
-        InOrder inOrder = inOrder(studentRepository, studentMapper);
-        inOrder.verify(studentRepository).findAll(pageable);
-        inOrder.verify(studentMapper, times(students.getSize())).toDto(any());
-
-        verifyNoMoreInteractions(studentRepository, studentMapper);
+        verify(studentRepository).findAllDto(pageable);
+        verifyNoMoreInteractions(studentRepository);
+        verifyNoInteractions(studentMapper);
     }
 
     @Test
@@ -1,6 +1,9 @@
 package my.project.university.services.interfaces;
 
 import my.project.university.mappers.CourseMapper;
+import my.project.university.models.dto.FreeSlot;
+import my.project.university.occupancy.ScheduleOccupancyIndex;
+import my.project.university.property.TimetableGenerationProperties;
 import my.project.university.repository.CourseRepository;
 import my.project.university.repository.TeacherRepository;
 import my.project.university.exceptions.NotFoundEntityException;
@@ -9,6 +12,7 @@ import my.project.university.models.Course;
 import my.project.university.models.Teacher;
 import my.project.university.models.dto.TeacherDto;
 import my.project.university.services.TeacherServiceImpl;
+import my.project.university.timetable.WeeklyTimetables;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.springframework.data.domain.Page;
@@ -16,8 +20,12 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.*;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -28,8 +36,12 @@ class TeacherServiceTest {
     private TeacherMapper teacherMapper = mock(TeacherMapper.class);
     private CourseMapper courseMapper = mock(CourseMapper.class);
 
+    private ScheduleOccupancyIndex occupancyIndex = mock(ScheduleOccupancyIndex.class);
+    private WeeklyTimetables timetables = mock(WeeklyTimetables.class);
+    private TimetableGenerationProperties lessonGrid = new TimetableGenerationProperties();
+
     private TeacherService teacherService = new TeacherServiceImpl(teacherRepository, courseRepository,
-            teacherMapper, courseMapper);
+            teacherMapper, occupancyIndex, timetables, lessonGrid);
 
     @Test
     void findByIdShouldThrowNotFoundEntityExceptionWhenEntityNotFound() {
@@ -116,4 +128,37 @@ class TeacherServiceTest {
         doThrow(NotFoundEntityException.class).when(teacherRepository).deleteById(4);
         assertThrows(NotFoundEntityException.class, () -> teacherService.delete(4));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findFreeSlotsShouldReturnLessonTimesOfWorkingDaysWithoutTeacherLessons() {
+        LocalDate friday = LocalDate.parse("2020-01-10");
+        LocalTime first = LocalTime.parse("08:00");
+        LocalTime second = LocalTime.parse("09:40");
+        lessonGrid.setLessonTimes(List.of(first, second));
+        when(teacherRepository.findById(1)).thenReturn(Optional.of(new Teacher(1, "name", "lastName")));
+        when(occupancyIndex.findTeacherLessons(1, friday, friday.plusDays(3)))
+                .thenReturn(Set.of(LocalDateTime.of(friday, first)));
+
+        List<FreeSlot> freeSlots = teacherService.findFreeSlots(1, friday, friday.plusDays(3));
+
+        assertEquals(List.of(new FreeSlot(friday, second), new FreeSlot(friday.plusDays(3), first),
+                new FreeSlot(friday.plusDays(3), second)), freeSlots);
+    }
+
+    @Test
+    void findFreeSlotsShouldThrowNotFoundEntityExceptionWhenTeacherNotExist() {
+        LocalDate date = LocalDate.parse("2020-01-10");
+        when(teacherRepository.findById(4)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundEntityException.class, () -> teacherService.findFreeSlots(4, date, date));
+        verifyNoInteractions(occupancyIndex);
+    }
+
+    @Test
+    void findFreeSlotsShouldThrowIllegalArgumentExceptionWhenRangeIsReversed() {
+        LocalDate date = LocalDate.parse("2020-01-10");
+
+        assertThrows(IllegalArgumentException.class, () -> teacherService.findFreeSlots(1, date, date.minusDays(1)));
+        verifyNoInteractions(teacherRepository, occupancyIndex);
+    }
+}
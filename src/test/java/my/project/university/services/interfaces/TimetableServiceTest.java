@@ -0,0 +1,72 @@
+package my.project.university.services.interfaces;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import my.project.university.exceptions.NotFoundEntityException;
+import my.project.university.mappers.ScheduleMapper;
+import my.project.university.models.Schedule;
+import my.project.university.models.dto.ScheduleDto;
+import my.project.university.repository.GroupRepository;
+import my.project.university.repository.ScheduleRepository;
+import my.project.university.repository.TeacherRepository;
+import my.project.university.services.TimetableServiceImpl;
+import my.project.university.timetable.MaterializedTimetable;
+import my.project.university.timetable.TimetableRenderer;
+import my.project.university.timetable.WeeklyTimetables;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TimetableServiceTest {
+    private static final LocalDate FIRST_DAY = LocalDate.parse("2019-12-30");
+    private static final LocalDate LAST_DAY = LocalDate.parse("2020-01-05");
+
+    private ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+    private GroupRepository groupRepository = mock(GroupRepository.class);
+    private TeacherRepository teacherRepository = mock(TeacherRepository.class);
+    private ScheduleMapper scheduleMapper = mock(ScheduleMapper.class);
+
+    private TimetableService timetableService = new TimetableServiceImpl(scheduleRepository, groupRepository,
+            teacherRepository, scheduleMapper, new ObjectMapper(),
+            new WeeklyTimetables(new StaticListableBeanFactory().getBeanProvider(TimetableRenderer.class)));
+
+    @Test
+    void getGroupWeekShouldMaterializeWeekOnceAndServeItFromMemory() {
+        Schedule schedule = new Schedule();
+        schedule.setId(7);
+        ScheduleDto dto = new ScheduleDto();
+        dto.setId(7);
+        when(groupRepository.existsById(1)).thenReturn(true);
+        when(scheduleRepository.findGroupWeek(1, FIRST_DAY, LAST_DAY)).thenReturn(List.of(schedule));
+        when(scheduleMapper.toDto(schedule)).thenReturn(dto);
+
+        MaterializedTimetable first = timetableService.getGroupWeek(1, "2020-W01");
+        MaterializedTimetable second = timetableService.getGroupWeek(1, "2020-W01");
+
+        assertSame(first, second);
+        assertEquals(Set.of(7), first.getScheduleIds());
+        assertTrue(new String(first.getBody()).contains("\"week\":\"2020-W01\""));
+        assertTrue(new String(first.getBody()).contains("\"firstDay\":\"2019-12-30\""));
+        assertTrue(first.getEtag().startsWith("\""));
+        verify(scheduleRepository, times(1)).findGroupWeek(1, FIRST_DAY, LAST_DAY);
+    }
+
+    @Test
+    void getTeacherWeekShouldThrowNotFoundEntityExceptionWhenTeacherNotExist() {
+        when(teacherRepository.existsById(4)).thenReturn(false);
+
+        assertThrows(NotFoundEntityException.class, () -> timetableService.getTeacherWeek(4, "2020-W01"));
+        verifyNoInteractions(scheduleRepository);
+    }
+
+    @Test
+    void getGroupWeekShouldThrowIllegalArgumentExceptionWhenWeekNotExist() {
+        assertThrows(IllegalArgumentException.class, () -> timetableService.getGroupWeek(1, "2021-W53"));
+        verifyNoInteractions(groupRepository, scheduleRepository);
+    }
+}
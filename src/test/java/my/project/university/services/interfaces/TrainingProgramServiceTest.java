@@ -30,7 +30,7 @@ class TrainingProgramServiceTest {
     private final CourseMapper courseMapper = mock(CourseMapper.class);
 
     private TrainingProgramService trainingProgramService = new TrainingProgramServiceImpl(trainingProgramRepository, courseRepository,
-            trainingProgramMapper, courseMapper);
+            trainingProgramMapper);
 
     @Test
     void findByIdShouldThrowNotFoundEntityExceptionWhenEntityNotFound() {
@@ -0,0 +1,127 @@
+package my.project.university.solver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimetableSolverTest {
+    private static final int TIMES_PER_DAY = 2;
+
+    private final TimetableSolver solver = new TimetableSolver(4, 42);
+
+    private List<int[]> placed(TimetableSolution solution) {
+        List<int[]> lessons = new ArrayList<>();
+        solution.forEachPlaced((slot, group, course, teacher, hall) -> lessons.add(new int[]{slot, group, course, teacher, hall}));
+        return lessons;
+    }
+
+    private void assertConflictFree(List<int[]> lessons) {
+        Set<String> taken = new HashSet<>();
+        for (int[] lesson : lessons) {
+            assertTrue(taken.add("group " + lesson[1] + " at " + lesson[0]), "group double booked");
+            assertTrue(taken.add("teacher " + lesson[3] + " at " + lesson[0]), "teacher double booked");
+            assertTrue(taken.add("hall " + lesson[4] + " at " + lesson[0]), "hall double booked");
+        }
+    }
+
+    @Test
+    void solveShouldPlaceEveryLessonWithoutDoubleBooking() {
+        TimetableProblem problem = TimetableProblem.builder(10 * TIMES_PER_DAY, TIMES_PER_DAY)
+                .require(1, 10, 6).require(1, 20, 4)
+                .require(2, 10, 6).require(2, 20, 4)
+                .require(3, 20, 8)
+                .qualify(10, 100).qualify(10, 101)
+                .qualify(20, 102).qualify(20, 103)
+                .hall(1000).hall(1001)
+                .build();
+
+        TimetableSolution solution = solver.solve(problem);
+        List<int[]> lessons = placed(solution);
+
+        assertEquals(0, solution.getUnplaced());
+        assertEquals(28, lessons.size());
+        assertConflictFree(lessons);
+        Map<Integer, Set<Integer>> qualified = Map.of(10, Set.of(100, 101), 20, Set.of(102, 103));
+        lessons.forEach(lesson -> assertTrue(qualified.get(lesson[2]).contains(lesson[3]), "teacher is not qualified"));
+    }
+
+    @Test
+    void solveShouldKeepOutOfSlotsTakenByExistingLessons() {
+        TimetableProblem problem = TimetableProblem.builder(3 * TIMES_PER_DAY, TIMES_PER_DAY)
+                .require(1, 10, 3)
+                .qualify(10, 100)
+                .hall(1000).hall(1001)
+                .book(0, 1, 200, 1001)
+                .book(1, 2, 100, 1001)
+                .book(2, 2, 200, 1000)
+                .build();
+
+        List<int[]> lessons = placed(solver.solve(problem));
+
+        assertEquals(3, lessons.size());
+        lessons.forEach(lesson -> assertTrue(lesson[0] > 1, "slot " + lesson[0] + " is taken"));
+        lessons.stream().filter(lesson -> lesson[0] == 2).forEach(lesson -> assertEquals(1001, lesson[4]));
+    }
+
+    @Test
+    void solveShouldSpreadLessonsOfCourseOverDifferentDays() {
+        TimetableProblem problem = TimetableProblem.builder(5 * TIMES_PER_DAY, TIMES_PER_DAY)
+                .require(1, 10, 5)
+                .qualify(10, 100)
+                .hall(1000)
+                .build();
+
+        TimetableSolution solution = solver.solve(problem);
+
+        assertEquals(0, solution.getSameDayRepeats());
+    }
+
+    @Test
+    void solveShouldReportLessonsThatDoNotFit() {
+        TimetableProblem problem = TimetableProblem.builder(2 * TIMES_PER_DAY, TIMES_PER_DAY)
+                .require(1, 10, 6)
+                .require(1, 20, 2)
+                .qualify(10, 100)
+                .hall(1000)
+                .build();
+
+        TimetableSolution solution = solver.solve(problem);
+        List<int[]> shortfalls = new ArrayList<>();
+        solution.forEachUnplaced((group, course, lessons) -> shortfalls.add(new int[]{group, course, lessons}));
+
+        assertEquals(4, solution.getPlaced());
+        assertEquals(4, solution.getUnplaced());
+        assertEquals(2, shortfalls.size());
+        assertArrayEquals(new int[]{1, 10, 2}, shortfalls.get(0));
+        assertArrayEquals(new int[]{1, 20, 2}, shortfalls.get(1));
+    }
+
+    @Test
+    void solveShouldBeReproducibleForSameSeed() {
+        TimetableProblem problem = TimetableProblem.builder(10 * TIMES_PER_DAY, TIMES_PER_DAY)
+                .require(1, 10, 7).require(2, 10, 7).require(2, 20, 5)
+                .qualify(10, 100).qualify(10, 101).qualify(20, 101)
+                .hall(1000).hall(1001)
+                .build();
+
+        List<int[]> first = placed(new TimetableSolver(4, 7).solve(problem));
+        List<int[]> second = placed(new TimetableSolver(4, 7).solve(problem));
+
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertArrayEquals(first.get(i), second.get(i));
+        }
+    }
+
+    @Test
+    void solverShouldRequireAttempts() {
+        assertThrows(IllegalArgumentException.class, () -> new TimetableSolver(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> TimetableProblem.builder(5, 2));
+    }
+}
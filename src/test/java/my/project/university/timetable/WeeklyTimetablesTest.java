@@ -0,0 +1,133 @@
+package my.project.university.timetable;
+
+import my.project.university.occupancy.ScheduleBooking;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WeeklyTimetablesTest {
+    private static final LocalDate MONDAY = LocalDate.parse("2030-01-07");
+
+    private final TimetableRenderer renderer = mock(TimetableRenderer.class);
+
+    private final WeeklyTimetables timetables = new WeeklyTimetables(
+            new StaticListableBeanFactory().getBeanProvider(TimetableRenderer.class));
+
+    private final TimetableKey groupKey = new TimetableKey(TimetableKey.Owner.GROUP, 1, MONDAY);
+    private final TimetableKey teacherKey = new TimetableKey(TimetableKey.Owner.TEACHER, 2, MONDAY);
+
+    private MaterializedTimetable timetable(Integer... scheduleIds) {
+        return new MaterializedTimetable(new byte[0], "\"etag\"", Set.of(scheduleIds));
+    }
+
+    @Test
+    void getShouldMaterializeTimetableOnlyOnce() {
+        @SuppressWarnings("unchecked")
+        Supplier<MaterializedTimetable> loader = mock(Supplier.class);
+        MaterializedTimetable materialized = timetable(1);
+        when(loader.get()).thenReturn(materialized);
+
+        assertSame(materialized, timetables.get(groupKey, loader));
+        assertSame(materialized, timetables.get(groupKey, loader));
+
+        verify(loader, times(1)).get();
+    }
+
+    @Test
+    void refreshByBookingShouldDropWeeksOfNewGroupAndTeacherAndWeeksContainingScheduleWithoutRenderer() {
+        TimetableKey previousGroupKey = new TimetableKey(TimetableKey.Owner.GROUP, 3, MONDAY.minusWeeks(1));
+        TimetableKey otherKey = new TimetableKey(TimetableKey.Owner.GROUP, 4, MONDAY);
+        MaterializedTimetable other = timetable(6);
+        timetables.get(groupKey, () -> timetable());
+        timetables.get(teacherKey, () -> timetable());
+        timetables.get(previousGroupKey, () -> timetable(5));
+        timetables.get(otherKey, () -> other);
+
+        timetables.refresh(new ScheduleBooking(5, MONDAY.plusDays(2), LocalTime.parse("10:00"), 2, 1, 1));
+
+        MaterializedTimetable reloaded = timetable();
+        assertSame(reloaded, timetables.get(groupKey, () -> reloaded));
+        assertSame(reloaded, timetables.get(teacherKey, () -> reloaded));
+        assertSame(reloaded, timetables.get(previousGroupKey, () -> reloaded));
+        assertSame(other, timetables.get(otherKey, () -> reloaded));
+    }
+
+    @Test
+    void refreshByIdShouldDropOnlyWeeksContainingScheduleWithoutRenderer() {
+        MaterializedTimetable kept = timetable(2);
+        timetables.get(groupKey, () -> timetable(1));
+        timetables.get(teacherKey, () -> kept);
+
+        timetables.refresh(1);
+
+        MaterializedTimetable reloaded = timetable();
+        assertSame(reloaded, timetables.get(groupKey, () -> reloaded));
+        assertSame(kept, timetables.get(teacherKey, () -> reloaded));
+    }
+
+    @Test
+    void refreshByBookingShouldRenderTouchedWeeksAgainBeforeTheyAreRead() {
+        WeeklyTimetables rendering = new WeeklyTimetables(
+                new StaticListableBeanFactory(Map.of("renderer", renderer)).getBeanProvider(TimetableRenderer.class));
+        TimetableKey previousGroupKey = new TimetableKey(TimetableKey.Owner.GROUP, 3, MONDAY.minusWeeks(1));
+        TimetableKey otherKey = new TimetableKey(TimetableKey.Owner.GROUP, 4, MONDAY);
+        MaterializedTimetable other = timetable(6);
+        rendering.get(previousGroupKey, () -> timetable(5));
+        rendering.get(otherKey, () -> other);
+        MaterializedTimetable group = timetable(5);
+        MaterializedTimetable teacher = timetable(5);
+        MaterializedTimetable previousGroup = timetable();
+        when(renderer.render(groupKey)).thenReturn(group);
+        when(renderer.render(teacherKey)).thenReturn(teacher);
+        when(renderer.render(previousGroupKey)).thenReturn(previousGroup);
+
+        rendering.refresh(new ScheduleBooking(5, MONDAY.plusDays(2), LocalTime.parse("10:00"), 2, 1, 1));
+
+        MaterializedTimetable loaded = timetable();
+        assertSame(group, rendering.get(groupKey, () -> loaded));
+        assertSame(teacher, rendering.get(teacherKey, () -> loaded));
+        assertSame(previousGroup, rendering.get(previousGroupKey, () -> loaded));
+        assertSame(other, rendering.get(otherKey, () -> loaded));
+        verify(renderer, never()).render(otherKey);
+    }
+
+    @Test
+    void refreshShouldLeaveWeekToBeRenderedOnReadWhenRenderingFails() {
+        WeeklyTimetables rendering = new WeeklyTimetables(
+                new StaticListableBeanFactory(Map.of("renderer", renderer)).getBeanProvider(TimetableRenderer.class));
+        rendering.get(groupKey, () -> timetable(1));
+        when(renderer.render(groupKey)).thenThrow(new IllegalStateException("database is down"));
+
+        rendering.refresh(1);
+
+        MaterializedTimetable loaded = timetable();
+        assertSame(loaded, rendering.get(groupKey, () -> loaded));
+    }
+
+    @Test
+    void getShouldNotKeepTimetableMaterializedWhileInvalidated() {
+        MaterializedTimetable stale = timetable(1);
+        timetables.get(groupKey, () -> {
+            timetables.invalidate();
+            return stale;
+        });
+
+        MaterializedTimetable reloaded = timetable(1);
+        assertSame(reloaded, timetables.get(groupKey, () -> reloaded));
+    }
+
+    @Test
+    void firstDayOfWeekShouldReturnIsoMonday() {
+        assertEquals(LocalDate.parse("2019-12-30"), WeeklyTimetables.firstDayOfWeek(LocalDate.parse("2020-01-01")));
+        assertEquals(MONDAY, WeeklyTimetables.firstDayOfWeek(MONDAY));
+        assertEquals(MONDAY, WeeklyTimetables.firstDayOfWeek(LocalDate.parse("2030-01-13")));
+    }
+}
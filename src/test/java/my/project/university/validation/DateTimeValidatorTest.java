@@ -0,0 +1,41 @@
+package my.project.university.validation;
+
+import my.project.university.models.dto.ScheduleDto;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DateTimeValidatorTest {
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void shouldReportPassedDateTime() {
+        assertEquals(Set.of("The specified date and time have already passed"), messages("2020-01-01", "10:00"));
+    }
+
+    @Test
+    void shouldReportUnparseableDateInsteadOfThrowing() {
+        assertEquals(Set.of("Lesson date should be a valid ISO date"), messages("2030-13-01", "10:00"));
+    }
+
+    @Test
+    void shouldReportEachMissingOrUnparseableField() {
+        assertEquals(Set.of("Lesson date should be a valid ISO date", "Lesson time should be a valid ISO time"),
+                messages(null, "25:00"));
+    }
+
+    private Set<String> messages(String lessonDate, String lessonTime) {
+        ScheduleDto dto = new ScheduleDto(null, lessonDate, lessonTime, 1, null, null, null,
+                "group_1", 1, null, null, "course_1");
+        return validator.validate(dto).stream()
+                .filter(violation -> violation.getPropertyPath().toString().isEmpty())
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,13 @@
+CREATE INDEX IF NOT EXISTS schedule_group_id_lesson_date_idx ON schedule (group_id, lesson_date, lesson_time);
+CREATE INDEX IF NOT EXISTS schedule_teacher_id_lesson_date_idx ON schedule (teacher_id, lesson_date, lesson_time);
+CREATE INDEX IF NOT EXISTS schedule_lectureHall_id_lesson_date_idx ON schedule (lectureHall_id, lesson_date, lesson_time);
+CREATE INDEX IF NOT EXISTS schedule_course_id_idx ON schedule (course_id);
+CREATE INDEX IF NOT EXISTS schedule_lesson_date_lesson_time_id_idx ON schedule (lesson_date, lesson_time, id);
+
+CREATE INDEX IF NOT EXISTS students_group_id_idx ON students (group_id);
+
+CREATE INDEX IF NOT EXISTS groups_trainingProgram_id_idx ON groups (trainingProgram_id);
+
+CREATE INDEX IF NOT EXISTS course_teacher_teacher_id_idx ON course_teacher (teacher_id, course_id);
+
+CREATE INDEX IF NOT EXISTS course_trainingProgram_trainingProgram_id_idx ON course_trainingProgram (trainingProgram_id, course_id);
@@ -0,0 +1,2 @@
+ALTER TABLE schedule DROP CONSTRAINT group_already_studying_in_this_time;
+ALTER TABLE schedule ADD CONSTRAINT group_already_studying_in_this_time UNIQUE (lesson_date, lesson_time, group_id);
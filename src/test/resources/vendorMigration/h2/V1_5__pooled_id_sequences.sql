@@ -0,0 +1,27 @@
+CREATE SEQUENCE IF NOT EXISTS courses_id_seq INCREMENT BY 50;
+ALTER SEQUENCE courses_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM courses);
+ALTER TABLE courses ALTER COLUMN id INT DEFAULT NEXT VALUE FOR courses_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS trainingprogram_id_seq INCREMENT BY 50;
+ALTER SEQUENCE trainingprogram_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM trainingProgram);
+ALTER TABLE trainingProgram ALTER COLUMN id INT DEFAULT NEXT VALUE FOR trainingprogram_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS groups_id_seq INCREMENT BY 50;
+ALTER SEQUENCE groups_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM groups);
+ALTER TABLE groups ALTER COLUMN id INT DEFAULT NEXT VALUE FOR groups_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS lecturehalls_id_seq INCREMENT BY 50;
+ALTER SEQUENCE lecturehalls_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM lectureHalls);
+ALTER TABLE lectureHalls ALTER COLUMN id INT DEFAULT NEXT VALUE FOR lecturehalls_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS students_id_seq INCREMENT BY 50;
+ALTER SEQUENCE students_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM students);
+ALTER TABLE students ALTER COLUMN id INT DEFAULT NEXT VALUE FOR students_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS teachers_id_seq INCREMENT BY 50;
+ALTER SEQUENCE teachers_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM teachers);
+ALTER TABLE teachers ALTER COLUMN id INT DEFAULT NEXT VALUE FOR teachers_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS schedule_id_seq INCREMENT BY 50;
+ALTER SEQUENCE schedule_id_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM schedule);
+ALTER TABLE schedule ALTER COLUMN id INT DEFAULT NEXT VALUE FOR schedule_id_seq;